@@ -19,6 +19,8 @@ import com.sdl.webapp.common.util.InitializationUtils;
 import com.sdl.webapp.common.views.AtomView;
 import com.sdl.webapp.common.views.JsonView;
 import com.sdl.webapp.common.views.RssView;
+import com.sdl.webapp.common.views.StreamingAtomView;
+import com.sdl.webapp.common.views.StreamingRssView;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
@@ -155,6 +157,20 @@ public class DxaSpringInitialization {
         return atomView;
     }
 
+    @Bean(name = "streamingRssFeedView")
+    public StreamingRssView streamingRssFeedView() {
+        StreamingRssView rssView = new StreamingRssView();
+        traceBeanInitialization(rssView);
+        return rssView;
+    }
+
+    @Bean(name = "streamingAtomFeedView")
+    public StreamingAtomView streamingAtomFeedView() {
+        StreamingAtomView atomView = new StreamingAtomView();
+        traceBeanInitialization(atomView);
+        return atomView;
+    }
+
     @Bean(name = "jsonFeedView")
     public JsonView jsonFeedView() {
         JsonView jsonView = new JsonView();
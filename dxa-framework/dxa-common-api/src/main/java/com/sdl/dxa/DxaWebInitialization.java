@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.web.WebApplicationInitializer;
 import org.springframework.web.filter.CharacterEncodingFilter;
+import org.springframework.web.filter.DelegatingFilterProxy;
 
 import javax.servlet.FilterRegistration;
 import javax.servlet.ServletContext;
@@ -56,6 +57,10 @@ public class DxaWebInitialization implements WebApplicationInitializer, Ordered
 
             InitializationUtils.registerFilter(servletContext, HealthCheckFilter.class, "/system/health");
 
+            if (Boolean.parseBoolean(dxaProperties.getProperty("dxa.caching.response.enabled", "false"))) {
+                InitializationUtils.registerFilter(servletContext, new DelegatingFilterProxy("pageResponseCacheFilter"), "/*");
+            }
+
             registerServlet(servletContext, "com.tridion.transport.HTTPSReceiverServlet", "/cd_upload/httpupload");
             registerListener(servletContext, "com.tridion.storage.persistence.session.SessionManagementContextListener");
             registerListener(servletContext, "com.tridion.webservices.odata.ODataContextListener");
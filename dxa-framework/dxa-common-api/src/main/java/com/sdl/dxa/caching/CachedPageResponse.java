@@ -0,0 +1,78 @@
+package com.sdl.dxa.caching;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Complete response for an anonymous page request, kept both as is and gzip-compressed, together with the response
+ * headers which are replayed on cache hits.
+ *
+ * @dxa.publicApi
+ */
+@Getter
+@ToString(of = {"contentType", "characterEncoding"})
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachedPageResponse implements Serializable {
+
+    private final String contentType;
+
+    private final String characterEncoding;
+
+    private final Map<String, List<String>> headers;
+
+    private final byte[] identity;
+
+    private final byte[] gzip;
+
+    /**
+     * Creates a cached response compressing the body once.
+     *
+     * @param contentType       content type of the response
+     * @param characterEncoding character encoding of the response
+     * @param body              uncompressed response body
+     * @return cached response
+     */
+    public static CachedPageResponse of(String contentType, String characterEncoding, byte[] body) {
+        return of(contentType, characterEncoding, Collections.emptyMap(), body);
+    }
+
+    /**
+     * Creates a cached response with headers compressing the body once.
+     *
+     * @param contentType       content type of the response
+     * @param characterEncoding character encoding of the response
+     * @param headers           headers to replay, by name
+     * @param body              uncompressed response body
+     * @return cached response
+     */
+    public static CachedPageResponse of(String contentType, String characterEncoding, Map<String, List<String>> headers, byte[] body) {
+        Map<String, List<String>> copy = new LinkedHashMap<>(headers.size());
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            copy.put(header.getKey(), Collections.unmodifiableList(new ArrayList<>(header.getValue())));
+        }
+        return new CachedPageResponse(contentType, characterEncoding, Collections.unmodifiableMap(copy), body, gzip(body));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compress page response", e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -2,6 +2,8 @@ package com.sdl.dxa.caching.wrapper;
 
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
 import com.sdl.webapp.common.markup.html.HtmlNode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
@@ -17,6 +19,13 @@ public class OutputCache extends SimpleCacheWrapper<CompositeOutputCacheKeyBase,
 
     private static final String USER_AGENT_HEADER = "User-Agent";
 
+    /**
+     * Whether fragments are stored as {@link com.sdl.webapp.common.markup.html.PreEncodedHtmlNode}s.
+     */
+    @Getter
+    @Value("${dxa.caching.output.preencoded:false}")
+    private boolean preEncoding;
+
     @Override
     public String getCacheName() {
         return "output";
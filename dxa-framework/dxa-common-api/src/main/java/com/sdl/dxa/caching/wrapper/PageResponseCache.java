@@ -0,0 +1,77 @@
+package com.sdl.dxa.caching.wrapper;
+
+import com.sdl.dxa.caching.CachedPageResponse;
+import com.sdl.webapp.common.api.contextengine.ContextEngine;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Cache of complete responses for anonymous, non-preview page requests. Keys are built from the full request URL,
+ * the device family of the {@link ContextEngine} and the context cookie, because rendered views depend on them.
+ * The raw user agent is not part of the key, so all browsers of a device family share entries.
+ * <p>Keys can only be built while the request scope is active.</p>
+ * <p>Disabled unless {@code dxa.caching.response.enabled} is set.</p>
+ *
+ * @dxa.publicApi
+ */
+@Component
+public class PageResponseCache extends SimpleCacheWrapper<HttpServletRequest, CachedPageResponse> {
+
+    private static final String CONTEXT_COOKIE = "context";
+
+    @Value("${dxa.caching.response.enabled:false}")
+    private boolean enabled;
+
+    @Autowired
+    private ObjectFactory<ContextEngine> contextEngine;
+
+    @Override
+    public void init() {
+        if (enabled) {
+            super.init();
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return "pageResponses";
+    }
+
+    @Override
+    public Class<CachedPageResponse> getValueType() {
+        return CachedPageResponse.class;
+    }
+
+    @Override
+    public boolean isCachingEnabled() {
+        return enabled && super.isCachingEnabled();
+    }
+
+    @Override
+    public Object getSpecificKey(HttpServletRequest request, Object... keyParams) {
+        StringBuffer url = request.getRequestURL();
+        if (request.getQueryString() != null) {
+            url.append('?').append(request.getQueryString());
+        }
+        String deviceFamily = contextEngine.getObject().getDeviceFamily();
+        return new SimpleKey(url.toString(), deviceFamily == null ? "" : deviceFamily, getContextCookie(request));
+    }
+
+    private static String getContextCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (CONTEXT_COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return "";
+    }
+}
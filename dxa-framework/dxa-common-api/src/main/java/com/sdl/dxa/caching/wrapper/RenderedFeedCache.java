@@ -0,0 +1,55 @@
+package com.sdl.dxa.caching.wrapper;
+
+import com.sdl.webapp.common.api.model.PageModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of rendered RSS and Atom feeds as UTF-8 bytes, keyed by page, format, localization and feed link.
+ * Only used by the streaming feed views, pages which cannot be cached and session previews are never cached.
+ * <p>Disabled unless {@code dxa.caching.feeds.enabled} is set. Expiration and size are configured for
+ * the {@code renderedFeeds} cache.</p>
+ *
+ * @dxa.publicApi
+ */
+@Component
+public class RenderedFeedCache extends SimpleCacheWrapper<PageModel, byte[]> {
+
+    @Value("${dxa.caching.feeds.enabled:false}")
+    private boolean enabled;
+
+    @Override
+    public void init() {
+        if (enabled) {
+            super.init();
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return "renderedFeeds";
+    }
+
+    @Override
+    public Class<byte[]> getValueType() {
+        return byte[].class;
+    }
+
+    @Override
+    public boolean isCachingEnabled() {
+        return enabled && super.isCachingEnabled();
+    }
+
+    /**
+     * Constructs the key of a rendered feed.
+     *
+     * @param page      page of the feed
+     * @param keyParams format, localization ID and link of the feed
+     * @return the cache key
+     */
+    @Override
+    public Object getSpecificKey(PageModel page, Object... keyParams) {
+        return new SimpleKey(page.getId(), keyParams[0], keyParams[1], keyParams[2]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sdl.webapp.common.api;
+
+import com.sdl.webapp.common.api.localization.Localization;
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+import javax.servlet.ServletRequest;
+
+/**
+ * Immutable view of the request-invariant parts of {@link WebRequestContext}, computed once per request.
+ * <p>Unlike {@link WebRequestContext} which is a request-scoped proxy and resolves its target on every call,
+ * the snapshot is a plain object stored as a request attribute and is cheap to use from tags, helpers and decorators.
+ * In JSPs it is available as <code>${requestSnapshot}</code>.</p>
+ *
+ * @dxa.publicApi
+ */
+@Value
+@Builder
+@ToString(exclude = "localization")
+public class RequestSnapshot {
+
+    /**
+     * Name of the request attribute the snapshot is stored under.
+     */
+    public static final String REQUEST_ATTRIBUTE = "requestSnapshot";
+
+    private Localization localization;
+
+    private String previewToken;
+
+    private String baseUrl;
+
+    private String contextPath;
+
+    private String requestPath;
+
+    private String fullUrl;
+
+    private boolean contextCookiePresent;
+
+    private boolean developerMode;
+
+    private int displayWidth;
+
+    private double pixelRatio;
+
+    private int maxMediaWidth;
+
+    private ScreenWidth screenWidth;
+
+    /**
+     * Returns the snapshot of the given request if it has been computed already.
+     *
+     * @param request current request
+     * @return the snapshot or {@code null} if the request has not been handled by DXA yet
+     */
+    public static RequestSnapshot of(ServletRequest request) {
+        Object snapshot = request.getAttribute(REQUEST_ATTRIBUTE);
+        return snapshot instanceof RequestSnapshot ? (RequestSnapshot) snapshot : null;
+    }
+
+    /**
+     * Checks if the request belongs to an XPM preview session.
+     *
+     * @return whether the preview session token is present
+     */
+    public boolean isSessionPreview() {
+        return previewToken != null;
+    }
+}
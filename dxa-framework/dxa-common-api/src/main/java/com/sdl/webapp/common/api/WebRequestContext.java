@@ -135,4 +135,12 @@ public interface WebRequestContext {
     String getPageContextId();
 
     void setPageContextId(String pageContextId);
+
+    /**
+     * Gets the immutable snapshot of the request-invariant data of this context. The snapshot is computed once
+     * on the first call and is then also available through {@link RequestSnapshot#of(javax.servlet.ServletRequest)}.
+     *
+     * @return the snapshot of the current request
+     */
+    RequestSnapshot getSnapshot();
 }
@@ -5,6 +5,7 @@ import com.sdl.webapp.common.api.formatters.AtomFormatter;
 import com.sdl.webapp.common.api.formatters.JsonFormatter;
 import com.sdl.webapp.common.api.formatters.RssFormatter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.ModelAndView;
 
@@ -25,6 +26,12 @@ public class DefaultDataFormatter implements DataFormatter {
 
     private Map<String, com.sdl.webapp.common.api.formatters.DataFormatter> formatters;
 
+    /**
+     * Whether RSS and Atom feeds are written by the streaming feed views while the feed items are visited.
+     */
+    @Value("${dxa.formats.feeds.streaming:false}")
+    private boolean streamingFeeds;
+
     @Autowired
     public DefaultDataFormatter(HttpServletRequest request, WebRequestContext context) {
         this.request = request;
@@ -72,10 +79,10 @@ public class DefaultDataFormatter implements DataFormatter {
         ModelAndView mav = new ModelAndView();
         switch (format) {
             case "rss":
-                mav.setViewName("rssFeedView");
+                mav.setViewName(streamingFeeds ? "streamingRssFeedView" : "rssFeedView");
                 break;
             case "atom":
-                mav.setViewName("atomFeedView");
+                mav.setViewName(streamingFeeds ? "streamingAtomFeedView" : "atomFeedView");
                 break;
             case "json":
             default:
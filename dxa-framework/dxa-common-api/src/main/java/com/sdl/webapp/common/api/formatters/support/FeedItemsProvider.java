@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.api.formatters.support;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Indicates that an implementor can generate a list of {@link FeedItem} out of its data.
@@ -11,4 +12,14 @@ import java.util.List;
 public interface FeedItemsProvider {
 
     List<FeedItem> extractFeedItems();
+
+    /**
+     * Passes the feed items to the action one by one, in the order of {@link #extractFeedItems()}.
+     * Implementors with nested providers may override it to avoid collecting all items into a list first.
+     *
+     * @param action action to perform for each feed item
+     */
+    default void forEachFeedItem(Consumer<? super FeedItem> action) {
+        extractFeedItems().forEach(action);
+    }
 }
@@ -0,0 +1,102 @@
+package com.sdl.webapp.common.api.localization;
+
+import com.google.common.collect.MapMaker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joda.time.ReadableInstant;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.lang.ref.WeakReference;
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Date formatters and resource message formats of a {@link Localization}, which are created once per localization
+ * instead of for every formatted value.
+ * <p>Formats are kept per localization instance. A refreshed localization is a new instance, so it gets new formats
+ * for its locale and resources, and the formats of the outdated one are collected with it. The formats refer to
+ * their localization only weakly, so they do not keep it reachable as a value of the weak-keyed map.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class LocalizationFormats {
+
+    private static final Map<Localization, LocalizationFormats> FORMATS = new MapMaker().weakKeys().makeMap();
+
+    private final WeakReference<Localization> localization;
+
+    private final DateTimeFormatter fullDateFormatter;
+
+    private final DateTimeFormatter shortDateFormatter;
+
+    private final ConcurrentMap<String, MessageFormat> messageFormats = new ConcurrentHashMap<>();
+
+    private LocalizationFormats(Localization localization) {
+        this.localization = new WeakReference<>(localization);
+        this.fullDateFormatter = DateTimeFormat.fullDate().withLocale(localization.getLocale());
+        this.shortDateFormatter = DateTimeFormat.forPattern("d MMM yyyy").withLocale(localization.getLocale());
+    }
+
+    /**
+     * Returns the formats of the localization, creating them on the first call for the localization.
+     *
+     * @param localization localization
+     * @return formats of the localization
+     */
+    @NotNull
+    public static LocalizationFormats of(@NotNull Localization localization) {
+        return FORMATS.computeIfAbsent(localization, LocalizationFormats::new);
+    }
+
+    /**
+     * Formats a date as a full date in the locale of the localization, e.g. {@code Thursday, December 11, 2014}.
+     *
+     * @param instant date to format
+     * @return formatted date
+     */
+    public String formatFullDate(ReadableInstant instant) {
+        return fullDateFormatter.print(instant);
+    }
+
+    /**
+     * Formats a date with the {@code d MMM yyyy} pattern in the locale of the localization, e.g. {@code 11 Dec 2014}.
+     *
+     * @param instant date to format
+     * @return formatted date
+     */
+    public String formatShortDate(ReadableInstant instant) {
+        return shortDateFormatter.print(instant);
+    }
+
+    /**
+     * Formats a resource of the localization as a {@link MessageFormat} pattern with the given arguments.
+     * The pattern of each resource is parsed once.
+     *
+     * @param key  key of the resource
+     * @param args arguments of the pattern
+     * @return formatted resource, or {@code null} if the localization has no such resource
+     */
+    @Nullable
+    public String formatResource(String key, Object... args) {
+        MessageFormat messageFormat = messageFormats.get(key);
+        if (messageFormat == null) {
+            Localization owner = localization.get();
+            String pattern = owner == null ? null : owner.getResource(key);
+            if (pattern == null) {
+                return null;
+            }
+            messageFormat = new MessageFormat(pattern);
+            MessageFormat existing = messageFormats.putIfAbsent(key, messageFormat);
+            if (existing != null) {
+                messageFormat = existing;
+            }
+        }
+        // MessageFormat is not thread-safe, the shared instance is only used for one value at a time
+        synchronized (messageFormat) {
+            return messageFormat.format(args);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sdl.webapp.common.api.mapping;
+
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.localization.Localization;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Values of the current request which are needed to build models, resolved once on the request thread and passed
+ * to model building tasks, so that worker threads do not use the request-scoped {@link WebRequestContext}.
+ * <p>While a task runs, its context is available to the builders, converters and mappers it calls through {@link #current()}.
+ * Outside of build tasks the values come from {@link WebRequestContext}.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class ModelBuildingContext {
+
+    private static final ThreadLocal<ModelBuildingContext> CURRENT = new ThreadLocal<>();
+
+    private final Localization localization;
+
+    private final String pageContextId;
+
+    private final boolean sessionPreview;
+
+    public ModelBuildingContext(Localization localization, @Nullable String pageContextId, boolean sessionPreview) {
+        this.localization = localization;
+        this.pageContextId = pageContextId;
+        this.sessionPreview = sessionPreview;
+    }
+
+    /**
+     * Resolves the context from the request, unless it is called in a build task which already has one.
+     *
+     * @param webRequestContext context of the current request
+     * @return context for build tasks
+     */
+    @NotNull
+    public static ModelBuildingContext of(@NotNull WebRequestContext webRequestContext) {
+        ModelBuildingContext context = CURRENT.get();
+        return context != null ? context : new ModelBuildingContext(webRequestContext.getLocalization(),
+                webRequestContext.getPageContextId(), webRequestContext.isSessionPreview());
+    }
+
+    /**
+     * Returns the context of the build task running on the current thread.
+     *
+     * @return context of the task, or {@code null} outside of build tasks
+     */
+    @Nullable
+    public static ModelBuildingContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the localization of the build task running on the current thread, or the one of the request otherwise.
+     *
+     * @param webRequestContext context of the current request, only used outside of build tasks
+     * @return current localization
+     */
+    public static Localization localizationOf(@NotNull WebRequestContext webRequestContext) {
+        ModelBuildingContext context = CURRENT.get();
+        return context != null ? context.localization : webRequestContext.getLocalization();
+    }
+
+    /**
+     * Returns the page context ID of the build task running on the current thread, or the one of the request otherwise.
+     *
+     * @param webRequestContext context of the current request, only used outside of build tasks
+     * @return current page context ID
+     */
+    public static String pageContextIdOf(@NotNull WebRequestContext webRequestContext) {
+        ModelBuildingContext context = CURRENT.get();
+        return context != null ? context.pageContextId : webRequestContext.getPageContextId();
+    }
+
+    /**
+     * Binds the context to the current thread, for the thread which runs a build task.
+     * The previous context must be bound again when the task completes.
+     *
+     * @param context context to bind, {@code null} to unbind
+     * @return the context bound before
+     */
+    @Nullable
+    public static ModelBuildingContext bind(@Nullable ModelBuildingContext context) {
+        ModelBuildingContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    public Localization getLocalization() {
+        return localization;
+    }
+
+    public String getPageContextId() {
+        return pageContextId;
+    }
+
+    public boolean isSessionPreview() {
+        return sessionPreview;
+    }
+}
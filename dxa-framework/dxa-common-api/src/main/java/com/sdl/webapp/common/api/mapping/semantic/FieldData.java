@@ -1,6 +1,8 @@
 package com.sdl.webapp.common.api.mapping.semantic;
 
+import com.sdl.webapp.common.api.mapping.semantic.config.LazyXPath;
 import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Field data, which consists of a field value and property data for a field. This is returned by
@@ -9,13 +11,15 @@ import lombok.Getter;
  * The field value is the actual value for the field of an entity. The property data is extra data which is stored in
  * the entity and which is used for semantic markup.
  */
-@Getter
 public class FieldData {
 
+    @Getter
     private final Object fieldValue;
 
     private final String propertyData;
 
+    private final LazyXPath xPath;
+
     /**
      * <p>Constructor for FieldData.</p>
      *
@@ -25,5 +29,37 @@ public class FieldData {
     public FieldData(Object fieldValue, String propertyData) {
         this.fieldValue = fieldValue;
         this.propertyData = propertyData;
+        this.xPath = null;
+    }
+
+    /**
+     * Constructor for FieldData with an XPath which is only built if the property data is requested.
+     *
+     * @param fieldValue a field value
+     * @param xPath      XPath of the field value
+     */
+    public FieldData(Object fieldValue, LazyXPath xPath) {
+        this.fieldValue = fieldValue;
+        this.propertyData = null;
+        this.xPath = xPath;
+    }
+
+    /**
+     * Returns the property data, building the XPath if this field data has been created with a {@link LazyXPath}.
+     *
+     * @return property data
+     */
+    public String getPropertyData() {
+        return xPath != null ? xPath.toString() : propertyData;
+    }
+
+    /**
+     * Returns the XPath of the field value without building it.
+     *
+     * @return XPath, or {@code null} if this field data has been created with property data
+     */
+    @Nullable
+    public LazyXPath getXPath() {
+        return xPath;
     }
 }
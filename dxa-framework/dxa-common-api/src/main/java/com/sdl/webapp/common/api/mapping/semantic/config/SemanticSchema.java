@@ -5,15 +5,18 @@ import com.google.common.collect.ImmutableSet;
 import com.sdl.webapp.common.api.localization.Localization;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-@ToString
-@EqualsAndHashCode
+/**
+ * Semantic schema of a publication. Equal schemas are shared between localizations, so the deprecated localization
+ * property is not part of the equality of schemas.
+ */
+@ToString(exclude = "localization")
+@EqualsAndHashCode(exclude = "localization")
 public final class SemanticSchema {
 
     @Getter
@@ -28,8 +31,6 @@ public final class SemanticSchema {
     @Getter
     private final Map<FieldSemantics, SemanticField> semanticFields;
 
-    @Getter
-    @Setter
     private Localization localization;
 
     public SemanticSchema(long id, String rootElement, Set<EntitySemantics> entitySemantics,
@@ -40,6 +41,28 @@ public final class SemanticSchema {
         this.semanticFields = ImmutableMap.copyOf(semanticFields);
     }
 
+    /**
+     * Returns the localization set with {@link #setLocalization(Localization)}.
+     *
+     * @return the localization, or {@code null}
+     * @deprecated schemas are shared between localizations, a schema does not belong to a single one
+     */
+    @Deprecated
+    public Localization getLocalization() {
+        return localization;
+    }
+
+    /**
+     * Sets a localization to the schema. It is not taken into account when schemas are compared.
+     *
+     * @param localization the localization
+     * @deprecated schemas are shared between localizations, a schema does not belong to a single one
+     */
+    @Deprecated
+    public void setLocalization(Localization localization) {
+        this.localization = localization;
+    }
+
     public Set<String> getFullyQualifiedNames() {
         final HashSet<String> result = new HashSet<>();
         for (EntitySemantics semantics : this.entitySemantics) {
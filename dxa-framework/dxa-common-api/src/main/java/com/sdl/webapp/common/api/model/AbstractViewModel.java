@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -88,6 +89,16 @@ public abstract class AbstractViewModel implements ViewModel {
         return feedItems;
     }
 
+    protected void forEachFeedItem(Collection<? extends FeedItemsProvider> feedItemsProviders, Consumer<? super FeedItem> action) {
+        if (isEmpty(feedItemsProviders)) {
+            return;
+        }
+
+        for (FeedItemsProvider provider : feedItemsProviders) {
+            provider.forEachFeedItem(action);
+        }
+    }
+
     @Override
     public ViewModel deepCopy() {
         AbstractViewModel clone = null;
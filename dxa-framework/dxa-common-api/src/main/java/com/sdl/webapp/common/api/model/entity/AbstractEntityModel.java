@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticMappingIgnore;
+import com.sdl.webapp.common.api.mapping.semantic.config.XpmPropertyMetadata;
 import com.sdl.webapp.common.api.model.AbstractViewModel;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.MvcData;
@@ -98,7 +99,9 @@ public abstract class AbstractEntityModel extends AbstractViewModel implements E
     public AbstractEntityModel deepCopy() {
         AbstractEntityModel clone = (AbstractEntityModel) super.deepCopy();
 
-        if (xpmPropertyMetadata != null) {
+        if (xpmPropertyMetadata instanceof XpmPropertyMetadata) {
+            clone.xpmPropertyMetadata = ((XpmPropertyMetadata) xpmPropertyMetadata).copy();
+        } else if (xpmPropertyMetadata != null) {
             clone.xpmPropertyMetadata = new HashMap<>(xpmPropertyMetadata);
         }
 
@@ -16,6 +16,7 @@ import org.jetbrains.annotations.Contract;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Abstract dynamic list contains basic API methods for all lists for Broker API requests.
@@ -76,6 +77,11 @@ public abstract class DynamicList<T extends EntityModel, Q extends AbstractQuery
         return collectFeedItems(FluentIterable.from(getQueryResults()).filter(FeedItemsProvider.class).toList());
     }
 
+    @Override
+    public void forEachFeedItem(Consumer<? super FeedItem> action) {
+        forEachFeedItem(FluentIterable.from(getQueryResults()).filter(FeedItemsProvider.class).toList(), action);
+    }
+
     @Override
     public DynamicList deepCopy() {
         DynamicList clone = (DynamicList) super.deepCopy();
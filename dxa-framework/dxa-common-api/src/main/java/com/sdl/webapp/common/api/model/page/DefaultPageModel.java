@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
@@ -145,6 +146,11 @@ public class DefaultPageModel extends AbstractViewModel implements PageModel, Vo
         return collectFeedItems(regions);
     }
 
+    @Override
+    public void forEachFeedItem(Consumer<? super FeedItem> action) {
+        forEachFeedItem(regions, action);
+    }
+
     @Override
     public boolean canBeCached() {
         //If this pagemodel, or any of the regions cannot be cached; return false.
@@ -27,5 +27,13 @@ public class SimpleBrokerQuery extends AbstractQuery {
 
     private String cursor;
 
+    /**
+     * Keyword filters as pairs of a category and a keyword, both either TCM URIs or the category name and the keyword key.
+     */
     private Multimap<String, String> keywordFilters = ArrayListMultimap.create();
+
+    /**
+     * Whether items tagged with any of the {@link #keywordFilters} match, by default they have to be tagged with all of them.
+     */
+    private boolean matchAnyKeyword;
 }
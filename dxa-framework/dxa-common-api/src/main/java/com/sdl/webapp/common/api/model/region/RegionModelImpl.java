@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static com.google.common.collect.FluentIterable.from;
 import static com.sdl.webapp.common.api.model.mvcdata.DefaultsMvcData.REGION;
@@ -285,6 +286,12 @@ public class RegionModelImpl extends AbstractViewModel implements RegionModel {
         return feedItems;
     }
 
+    @Override
+    public void forEachFeedItem(Consumer<? super FeedItem> action) {
+        forEachFeedItem(regions, action);
+        forEachFeedItem(from(entities).filter(FeedItemsProvider.class).toList(), action);
+    }
+
     @Override
     public boolean canBeCached() {
         //If this Regionmodel, or any of the regions or entities cannot be cached; return false.
@@ -139,8 +139,43 @@ public abstract class BaseController {
      * @return The enriched Entity Model.
      */
     protected EntityModel enrichEntityModel(EntityModel entity, HttpServletRequest request) {
-        if (entity == null || entity.getMvcData() == null || !isCustomAction(entity.getMvcData())) {
+        BaseController controller = getEnrichingController(entity);
+        return controller == null ? entity : enrichEntityModel(controller, entity, request);
+    }
+
+    /**
+     * Enriches a given Entity Model using the given Controller.
+     *
+     * @param controller controller associated with the Entity Model
+     * @param entity     The Entity Model to enrich.
+     * @param request    request
+     * @return The enriched Entity Model, or an {@link ExceptionEntity} if enrichment failed, which is rendered
+     * with its own default MvcData instead of the one of the failed Entity Model
+     */
+    static EntityModel enrichEntityModel(BaseController controller, EntityModel entity, HttpServletRequest request) {
+        try {
+            controller.enrichModel(entity, request);
             return entity;
+        } catch (InterruptedException e) {
+            // enrichment on a worker thread was cancelled, keep the flag for the executor
+            Thread.currentThread().interrupt();
+            return new ExceptionEntity(e);
+        } catch (Exception e) {
+            log.error("Error in EnrichModel", e);
+            return new ExceptionEntity(e);
+        }
+    }
+
+    /**
+     * Finds a (custom) Controller associated with the Entity Model that is able to enrich it.
+     *
+     * @param entity The Entity Model to enrich.
+     * @return the controller, or {@code null} if the Entity Model does not need to be enriched
+     */
+    @Nullable
+    BaseController getEnrichingController(EntityModel entity) {
+        if (entity == null || entity.getMvcData() == null || !isCustomAction(entity.getMvcData())) {
+            return null;
         }
 
         MvcData mvcData = entity.getMvcData();
@@ -157,17 +192,10 @@ public abstract class BaseController {
             for (String urlPattern : mapping.getPatternsCondition().getPatterns()) {
                 if (urlPattern.contains('/' + controllerAreaName + '/' + controllerName)) {
                     HandlerMethod controllerMethod = handlerMethods.get(mapping);
-                    BaseController controller = (BaseController) ApplicationContextHolder.getContext().getBean(controllerMethod.getBean().toString());
-                    try {
-                        controller.enrichModel(entity, request);
-                        return entity;
-                    } catch (Exception e) {
-                        log.error("Error in EnrichModel", e);
-                        return new ExceptionEntity(e); // TODO: What about MvcData?
-                    }
+                    return (BaseController) ApplicationContextHolder.getContext().getBean(controllerMethod.getBean().toString());
                 }
             }
         }
-        return entity;
+        return null;
     }
 }
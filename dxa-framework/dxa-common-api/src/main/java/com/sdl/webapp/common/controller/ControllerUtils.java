@@ -1,14 +1,8 @@
 package com.sdl.webapp.common.controller;
 
-import com.google.common.base.Joiner;
 import com.sdl.webapp.common.api.model.EntityModel;
-import com.sdl.webapp.common.api.model.MvcData;
 import com.sdl.webapp.common.api.model.RegionModel;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 /**
  * @dxa.publicApi
  */
@@ -28,36 +22,20 @@ public final class ControllerUtils {
     }
 
     public static String getIncludePath(RegionModel region) {
-        final MvcData mvcData = region.getMvcData();
-        return getIncludePathPrefix(mvcData) +
+        final MvcDataPaths paths = MvcDataPaths.of(region.getMvcData());
+        return paths.getIncludePathPrefix() +
                 region.getName() + '/' +
-                getQueryParameters(mvcData);
+                paths.getQueryParameters();
     }
 
     public static String getIncludePath(EntityModel entity) {
-        final MvcData mvcData = entity.getMvcData();
-        return getIncludePathPrefix(mvcData) +
+        final MvcDataPaths paths = MvcDataPaths.of(entity.getMvcData());
+        return paths.getIncludePathPrefix() +
                 entity.getId() +
-                getQueryParameters(mvcData);
+                paths.getQueryParameters();
     }
 
     public static String getIncludeErrorPath() {
         return ControllerUtils.INCLUDE_PATH_PREFIX + ControllerUtils.SECTION_ERROR_VIEW;
     }
-
-    private static String getIncludePathPrefix(MvcData mvcData) {
-        return INCLUDE_PATH_PREFIX +
-                mvcData.getControllerAreaName() + '/' +
-                mvcData.getControllerName() + '/' +
-                mvcData.getActionName() + '/';
-    }
-
-    private static String getQueryParameters(MvcData mvcData) {
-        final List<String> queryParams = new ArrayList<>();
-        for (Map.Entry<String, String> entry : mvcData.getRouteValues().entrySet()) {
-            queryParams.add(entry.getKey() + '=' + entry.getValue());
-        }
-
-        return queryParams.isEmpty() ? "" : ('?' + Joiner.on('&').join(queryParams));
-    }
 }
@@ -0,0 +1,183 @@
+package com.sdl.webapp.common.controller;
+
+import com.google.common.base.Joiner;
+import com.sdl.webapp.common.api.model.MvcData;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.sdl.webapp.common.controller.ControllerUtils.INCLUDE_PATH_PREFIX;
+
+/**
+ * Include path prefix, query string and view names of a {@link MvcData}, which are computed once per distinct value
+ * instead of on every include of a region or an entity.
+ * <p>Paths are keyed by an immutable snapshot of the values they depend on, so equal instances, such as the deep copies
+ * of cached models, share one entry and later changes of an instance do not affect paths computed before.
+ * The set of these values is small in practice, at most {@value #MAX_ENTRIES} entries are kept.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class MvcDataPaths {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private static final ConcurrentMap<Key, MvcDataPaths> PATHS = new ConcurrentHashMap<>();
+
+    private final String areaName;
+
+    private final String viewName;
+
+    private final String includePathPrefix;
+
+    private final String queryParameters;
+
+    private final ConcurrentMap<String, String> viewNames = new ConcurrentHashMap<>(4);
+
+    private MvcDataPaths(Key key) {
+        this.areaName = key.areaName;
+        this.viewName = key.viewName;
+        this.includePathPrefix = INCLUDE_PATH_PREFIX + key.controllerAreaName + '/' + key.controllerName + '/' + key.actionName + '/';
+        this.queryParameters = toQueryParameters(key.routeValues);
+    }
+
+    /**
+     * Returns the paths of the MVC data, computing them on the first call for its values.
+     *
+     * @param mvcData MVC data
+     * @return paths of the MVC data
+     */
+    @NotNull
+    public static MvcDataPaths of(@NotNull MvcData mvcData) {
+        Key key = new Key(mvcData, mvcData.getRouteValues());
+        MvcDataPaths paths = PATHS.get(key);
+        if (paths == null) {
+            Key snapshot = key.snapshot();
+            paths = new MvcDataPaths(snapshot);
+            if (PATHS.size() < MAX_ENTRIES) {
+                MvcDataPaths existing = PATHS.putIfAbsent(snapshot, paths);
+                if (existing != null) {
+                    paths = existing;
+                }
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Returns the prefix of include paths, e.g. {@code /system/mvc/Framework/Entity/Entity/}.
+     *
+     * @return the include path prefix
+     */
+    public String getIncludePathPrefix() {
+        return includePathPrefix;
+    }
+
+    /**
+     * Returns the route values as query parameters, e.g. {@code ?key=value&other=value},
+     * or an empty string if there are no route values.
+     *
+     * @return the query parameters
+     */
+    public String getQueryParameters() {
+        return queryParameters;
+    }
+
+    /**
+     * Returns the name of the view of the given type, e.g. {@code Core/Entity/Article} for type {@code Entity}.
+     *
+     * @param viewType type of the view
+     * @return the view name
+     */
+    public String getViewName(String viewType) {
+        String name = viewNames.get(viewType);
+        if (name == null) {
+            name = areaName + '/' + viewType + '/' + viewName;
+            String existing = viewNames.putIfAbsent(viewType, name);
+            if (existing != null) {
+                name = existing;
+            }
+        }
+        return name;
+    }
+
+    private static String toQueryParameters(Map<String, String> routeValues) {
+        final List<String> queryParams = new ArrayList<>();
+        for (Map.Entry<String, String> entry : routeValues.entrySet()) {
+            queryParams.add(entry.getKey() + '=' + entry.getValue());
+        }
+
+        return queryParams.isEmpty() ? "" : ('?' + Joiner.on('&').join(queryParams));
+    }
+
+    /**
+     * Values of {@link MvcData} the paths depend on. Keys used for lookups refer to the route values of the instance,
+     * keys stored in the table hold a copy of them.
+     */
+    private static final class Key {
+
+        private final String controllerAreaName;
+
+        private final String controllerName;
+
+        private final String actionName;
+
+        private final String areaName;
+
+        private final String viewName;
+
+        private final Map<String, String> routeValues;
+
+        private final int hashCode;
+
+        private Key(MvcData mvcData, Map<String, String> routeValues) {
+            this(mvcData.getControllerAreaName(), mvcData.getControllerName(), mvcData.getActionName(),
+                    mvcData.getAreaName(), mvcData.getViewName(), routeValues == null ? Collections.emptyMap() : routeValues);
+        }
+
+        private Key(String controllerAreaName, String controllerName, String actionName, String areaName, String viewName,
+                    Map<String, String> routeValues) {
+            this.controllerAreaName = controllerAreaName;
+            this.controllerName = controllerName;
+            this.actionName = actionName;
+            this.areaName = areaName;
+            this.viewName = viewName;
+            this.routeValues = routeValues;
+            this.hashCode = Objects.hash(controllerAreaName, controllerName, actionName, areaName, viewName, routeValues);
+        }
+
+        private Key snapshot() {
+            return new Key(controllerAreaName, controllerName, actionName, areaName, viewName,
+                    routeValues.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(routeValues)));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode &&
+                    Objects.equals(controllerAreaName, key.controllerAreaName) &&
+                    Objects.equals(controllerName, key.controllerName) &&
+                    Objects.equals(actionName, key.actionName) &&
+                    Objects.equals(areaName, key.areaName) &&
+                    Objects.equals(viewName, key.viewName) &&
+                    routeValues.equals(key.routeValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
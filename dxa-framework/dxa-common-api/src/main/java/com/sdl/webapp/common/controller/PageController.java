@@ -16,6 +16,7 @@ import com.sdl.webapp.common.api.model.MvcData;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.api.model.entity.ExceptionEntity;
 import com.sdl.webapp.common.api.model.entity.SitemapItem;
 import com.sdl.webapp.common.api.navigation.NavigationProvider;
 import com.sdl.webapp.common.api.navigation.NavigationProviderException;
@@ -26,9 +27,11 @@ import com.sdl.webapp.common.exceptions.DxaException;
 import com.sdl.webapp.common.exceptions.DxaItemNotFoundException;
 import com.sdl.webapp.common.markup.Markup;
 import com.sdl.webapp.common.util.TcmUtils;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.MediaType;
@@ -39,6 +42,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.util.UrlPathHelper;
 import org.springframework.web.util.WebUtils;
@@ -47,6 +52,15 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.xml.ws.http.HTTPException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static com.sdl.webapp.common.api.serialization.json.filter.IgnoreByNameInRequestFilter.ignoreByName;
 import static com.sdl.webapp.common.controller.ControllerUtils.INCLUDE_PATH_PREFIX;
@@ -101,6 +115,16 @@ public class PageController extends BaseController {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Value("${dxa.web.enrichment.concurrent.enabled:false}")
+    private boolean concurrentEnrichment;
+
+    @Value("${dxa.web.enrichment.concurrent.timeout:5000}")
+    private long concurrentEnrichmentTimeout;
+
+    @Autowired(required = false)
+    @Qualifier("dxaEnrichmentExecutor")
+    private ExecutorService enrichmentExecutor;
+
     private static boolean isIncludeRequest(HttpServletRequest request) {
         return request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE) != null;
     }
@@ -327,6 +351,11 @@ public class PageController extends BaseController {
             return;
         }
 
+        if (concurrentEnrichment && enrichmentExecutor != null) {
+            enrichEmbeddedModelsConcurrently(model, request);
+            return;
+        }
+
         for (RegionModel region : model.getRegions()) {
             // NOTE: Currently not enriching the Region Model itself, because we don't support custom Region Controllers (yet).
             for (int i = 0; i < region.getEntities().size(); i++) {
@@ -337,4 +366,169 @@ public class PageController extends BaseController {
             }
         }
     }
+
+    /**
+     * Enriches all the Entity Models embedded in the given Page Model in parallel on the {@code dxaEnrichmentExecutor}.
+     * <p>Entities that need data binding from the request are enriched on the request thread, all others are submitted
+     * at once with the current request attributes so that {@link WebRequestContext} resolves as usual.
+     * If an entity is not enriched within the page deadline, it is replaced by an {@link ExceptionEntity}.
+     * Once the request stops waiting, unfinished tasks are cancelled and their request attributes are detached, tasks
+     * which have not started yet are skipped.</p>
+     *
+     * @param model   The Page Model to enrich.
+     * @param request http request
+     */
+    private void enrichEmbeddedModelsConcurrently(PageModel model, HttpServletRequest request) {
+        // resolve on the request thread, so that workers only read it
+        context.getLocalization();
+        RequestAttributes requestAttributes = RequestContextHolder.currentRequestAttributes();
+
+        List<PendingEnrichment> pending = new ArrayList<>();
+        try {
+            for (RegionModel region : model.getRegions()) {
+                for (int i = 0; i < region.getEntities().size(); i++) {
+                    EntityModel entity = region.getEntities().get(i);
+                    BaseController controller = getEnrichingController(entity);
+                    if (controller == null) {
+                        continue;
+                    }
+                    if (controller.modelBindingRequired(entity, request)) {
+                        region.getEntities().set(i, enrichEntityModel(controller, entity, request));
+                        continue;
+                    }
+                    DetachableRequestAttributes attributes = new DetachableRequestAttributes(requestAttributes);
+                    Future<EntityModel> result = enrichmentExecutor.submit(withRequestAttributes(attributes,
+                            () -> enrichEntityModel(controller, entity, request)));
+                    pending.add(new PendingEnrichment(region, i, entity, attributes, result));
+                }
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(concurrentEnrichmentTimeout);
+            for (PendingEnrichment enrichment : pending) {
+                enrichment.region.getEntities().set(enrichment.index, awaitEnrichment(enrichment, deadline));
+            }
+        } finally {
+            for (PendingEnrichment enrichment : pending) {
+                enrichment.result.cancel(true);
+                enrichment.attributes.detach();
+            }
+        }
+    }
+
+    private static EntityModel awaitEnrichment(PendingEnrichment enrichment, long deadline) {
+        try {
+            return enrichment.result.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Enrichment of entity {} did not complete in time, rendering an exception entity instead", enrichment.entity.getId());
+            return new ExceptionEntity(new DxaException("Enrichment of entity " + enrichment.entity.getId() + " timed out", e));
+        } catch (ExecutionException e) {
+            log.error("Error in EnrichModel", e.getCause());
+            return new ExceptionEntity(new DxaException("Enrichment of entity " + enrichment.entity.getId() + " failed", e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ExceptionEntity(e);
+        }
+    }
+
+    private static <T> Callable<T> withRequestAttributes(DetachableRequestAttributes requestAttributes, Callable<T> task) {
+        return () -> {
+            if (requestAttributes.isDetached() || Thread.interrupted()) {
+                throw new CancellationException("Enrichment was abandoned before it started");
+            }
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    RequestContextHolder.resetRequestAttributes();
+                } else {
+                    RequestContextHolder.setRequestAttributes(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Request attributes of an enrichment task which are no longer available once the request stopped waiting for it,
+     * so that an abandoned task cannot reach into a finished request.
+     */
+    private static final class DetachableRequestAttributes implements RequestAttributes {
+
+        private volatile RequestAttributes delegate;
+
+        private DetachableRequestAttributes(RequestAttributes delegate) {
+            this.delegate = delegate;
+        }
+
+        private void detach() {
+            delegate = null;
+        }
+
+        private boolean isDetached() {
+            return delegate == null;
+        }
+
+        private RequestAttributes delegate() {
+            RequestAttributes attributes = delegate;
+            if (attributes == null) {
+                throw new IllegalStateException("Request attributes are not available, the enrichment was abandoned");
+            }
+            return attributes;
+        }
+
+        @Override
+        public Object getAttribute(String name, int scope) {
+            return delegate().getAttribute(name, scope);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            delegate().setAttribute(name, value, scope);
+        }
+
+        @Override
+        public void removeAttribute(String name, int scope) {
+            delegate().removeAttribute(name, scope);
+        }
+
+        @Override
+        public String[] getAttributeNames(int scope) {
+            return delegate().getAttributeNames(scope);
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback, int scope) {
+            delegate().registerDestructionCallback(name, callback, scope);
+        }
+
+        @Override
+        public Object resolveReference(String key) {
+            return delegate().resolveReference(key);
+        }
+
+        @Override
+        public String getSessionId() {
+            return delegate().getSessionId();
+        }
+
+        @Override
+        public Object getSessionMutex() {
+            return delegate().getSessionMutex();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class PendingEnrichment {
+
+        private final RegionModel region;
+
+        private final int index;
+
+        private final EntityModel entity;
+
+        private final DetachableRequestAttributes attributes;
+
+        private final Future<EntityModel> result;
+    }
 }
@@ -2,6 +2,7 @@ package com.sdl.webapp.common.impl;
 
 import com.sdl.dxa.mvc.ViewNameResolver;
 import com.sdl.webapp.common.api.model.MvcData;
+import com.sdl.webapp.common.controller.MvcDataPaths;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +12,6 @@ public class DefaultViewResolver implements ViewNameResolver {
 
     @Override
     public String resolveView(MvcData mvcData, String viewType) {
-        return mvcData.getAreaName() + '/' + viewType + '/' + mvcData.getViewName();
+        return MvcDataPaths.of(mvcData).getViewName(viewType);
     }
 }
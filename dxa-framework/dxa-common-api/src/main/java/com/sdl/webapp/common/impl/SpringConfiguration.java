@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.webapp.common.impl.interceptor.RequestSnapshotInterceptor;
 import com.sdl.webapp.common.impl.interceptor.StaticContentInterceptor;
 import com.sdl.webapp.common.impl.interceptor.ThreadLocalInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +23,7 @@ import org.springframework.http.converter.json.MappingJackson2HttpMessageConvert
 import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
 import org.springframework.http.converter.xml.Jaxb2RootElementHttpMessageConverter;
 import org.springframework.http.converter.xml.SourceHttpMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
@@ -31,6 +33,10 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter
 import javax.annotation.PostConstruct;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableWebMvc
@@ -47,6 +53,9 @@ public class SpringConfiguration extends WebMvcConfigurerAdapter {
     @Autowired
     private ThreadLocalInterceptor threadLocalInterceptor = null;
 
+    @Autowired
+    private RequestSnapshotInterceptor requestSnapshotInterceptor = null;
+
     @Override
     public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
         configurer.favorPathExtension(false);
@@ -60,6 +69,7 @@ public class SpringConfiguration extends WebMvcConfigurerAdapter {
         if(staticContentInterceptor != null) {
             registry.addInterceptor(staticContentInterceptor);
         }
+        registry.addInterceptor(requestSnapshotInterceptor);
         registry.addInterceptor(threadLocalInterceptor);
     }
 
@@ -108,6 +118,25 @@ public class SpringConfiguration extends WebMvcConfigurerAdapter {
         return new ThreadLocalInterceptor();
     }
 
+    @Bean
+    public RequestSnapshotInterceptor createRequestSnapshotInterceptor() {
+        return new RequestSnapshotInterceptor();
+    }
+
+    /**
+     * Bounded executor for concurrent enrichment of embedded models, used if {@code dxa.web.enrichment.concurrent.enabled}
+     * is set. Threads are created on demand; when the queue is full the request thread enriches the entity itself.
+     */
+    @Bean(name = "dxaEnrichmentExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService enrichmentExecutor(@Value("${dxa.web.enrichment.concurrent.threads:8}") int threads,
+                                              @Value("${dxa.web.enrichment.concurrent.queue:256}") int queueSize) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new CustomizableThreadFactory("dxa-enrichment-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Bean
     public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter() {
         MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter();
@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.impl;
 
 import com.sdl.webapp.common.api.MediaHelper;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.ScreenWidth;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.contextengine.ContextEngine;
@@ -38,8 +39,8 @@ import java.util.Stack;
 @Scope(value = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class WebRequestContextImpl implements WebRequestContext {
 
-    private static final String X_PREVIEW_SESSION_TOKEN = "x-preview-session-token";
-    private static final String PREVIEW_SESSION_TOKEN = "preview-session-token";
+    public static final String X_PREVIEW_SESSION_TOKEN = "x-preview-session-token";
+    public static final String PREVIEW_SESSION_TOKEN = "preview-session-token";
 
     private final UrlPathHelper urlPathHelper = new UrlPathHelper();
 
@@ -61,12 +62,18 @@ public class WebRequestContextImpl implements WebRequestContext {
     @Getter(lazy = true)
     private final String baseUrl = baseUrl();
 
+    @Getter(lazy = true)
+    private final String fullUrl = getBaseUrl() + getContextPath() + getRequestPath();
+
     @Getter(lazy = true)
     private final boolean developerMode = developerMode();
 
     @Getter(lazy = true)
     private final boolean contextCookiePresent = contextCookiePresent();
 
+    @Getter(lazy = true)
+    private final String previewToken = previewToken();
+
     @Autowired
     private ContextEngine contextEngine;
 
@@ -88,6 +95,9 @@ public class WebRequestContextImpl implements WebRequestContext {
     @Getter(lazy = true)
     private final Boolean noLocalization = noLocalization();
 
+    @Getter(lazy = true)
+    private final RequestSnapshot snapshot = snapshot();
+
     @Getter
     @Setter
     private PageModel page;
@@ -100,26 +110,6 @@ public class WebRequestContextImpl implements WebRequestContext {
 
     private Stack<Integer> containerSizeStack = new Stack<>();
 
-    @Override
-    public String getFullUrl() {
-        return getBaseUrl() + getContextPath() + getRequestPath();
-    }
-
-    @Override
-    public String getPreviewToken() {
-        final Cookie[] cookies = servletRequest.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (PREVIEW_SESSION_TOKEN.equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
-        }
-        String fromSession = servletRequest.getHeader(X_PREVIEW_SESSION_TOKEN);
-
-        return fromSession;
-    }
-
     @Override
     public boolean isSessionPreview() {
         return getPreviewToken() != null;
@@ -200,8 +190,42 @@ public class WebRequestContextImpl implements WebRequestContext {
         parentRegionStack.pop();
     }
 
+    private String previewToken() {
+        final Cookie[] cookies = servletRequest.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (PREVIEW_SESSION_TOKEN.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return servletRequest.getHeader(X_PREVIEW_SESSION_TOKEN);
+    }
+
     private String baseUrl() {
-        return servletRequest.getRequestURL().toString().replaceFirst(servletRequest.getRequestURI() + "$", "");
+        String requestUrl = servletRequest.getRequestURL().toString();
+        String requestUri = servletRequest.getRequestURI();
+        return requestUri != null && requestUrl.endsWith(requestUri) ?
+                requestUrl.substring(0, requestUrl.length() - requestUri.length()) : requestUrl;
+    }
+
+    private RequestSnapshot snapshot() {
+        RequestSnapshot requestSnapshot = RequestSnapshot.builder()
+                .localization(getLocalization())
+                .previewToken(getPreviewToken())
+                .baseUrl(getBaseUrl())
+                .contextPath(getContextPath())
+                .requestPath(getRequestPath())
+                .fullUrl(getFullUrl())
+                .contextCookiePresent(isContextCookiePresent())
+                .developerMode(isDeveloperMode())
+                .displayWidth(getDisplayWidth())
+                .pixelRatio(getPixelRatio())
+                .maxMediaWidth(getMaxMediaWidth())
+                .screenWidth(getScreenWidth())
+                .build();
+        servletRequest.setAttribute(RequestSnapshot.REQUEST_ATTRIBUTE, requestSnapshot);
+        return requestSnapshot;
     }
 
     private String contextPath() {
@@ -236,7 +260,7 @@ public class WebRequestContextImpl implements WebRequestContext {
         Localization resolveLocalization = null;
         String fullUrl = getFullUrl();
         try {
-            resolveLocalization = localizationResolver.getLocalization(getFullUrl());
+            resolveLocalization = localizationResolver.getLocalization(fullUrl);
         } catch (LocalizationResolverException e) {
             if (unknownLocalizationHandler != null) {
                 log.warn("Localization is not resolved for " + fullUrl + ", Localization handler is set, trying to resolve using it ", e);
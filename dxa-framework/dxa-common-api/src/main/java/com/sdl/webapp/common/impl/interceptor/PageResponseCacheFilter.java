@@ -0,0 +1,225 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.dxa.caching.CachedPageResponse;
+import com.sdl.dxa.caching.wrapper.PageResponseCache;
+import com.sdl.webapp.common.markup.html.PreEncodedOutput;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static com.sdl.webapp.common.impl.WebRequestContextImpl.PREVIEW_SESSION_TOKEN;
+import static com.sdl.webapp.common.impl.WebRequestContextImpl.X_PREVIEW_SESSION_TOKEN;
+
+/**
+ * Serves complete page responses from {@link PageResponseCache} for anonymous, non-preview requests.
+ * <p>The body is kept both as is and gzip-compressed, so a hit is written out as bytes without rendering
+ * or compressing the page again. Responses that set cookies, create a session or are marked as private
+ * are never cached.</p>
+ * <p>Only requests which can result in an HTML page are buffered: static and binary content, system and API paths,
+ * URLs with a file extension other than {@code .html}, non-HTML {@code format}s and requests that do not accept HTML
+ * pass through the filter unwrapped.</p>
+ * <p>Cached pages depend on the device family and the context cookie, so all responses of the filter vary by
+ * {@code User-Agent} and {@code Cookie}. Headers of the original response are replayed on cache hits, except for
+ * the ones describing the body or the connection.</p>
+ * <p>The request scope is active within the filter, because the device family is resolved for the cache key.</p>
+ * <p>While a page is rendered, the buffer is available as a {@link PreEncodedOutput}, so that pre-encoded output cache
+ * entries are appended to it as bytes.</p>
+ * <p>Registered in {@link com.sdl.dxa.DxaWebInitialization} when {@code dxa.caching.response.enabled} is set.</p>
+ */
+@Slf4j
+@Component("pageResponseCacheFilter")
+public class PageResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private static final Pattern NON_PAGE_PATH = Pattern.compile("^/(system|api|cid|binary|resolve)(/.*)?$");
+
+    private static final Pattern NON_HTML_EXTENSION = Pattern.compile("\\.(?!html?$)[^./]+$");
+
+    private static final String VARY = HttpHeaders.ACCEPT_ENCODING + ", " + HttpHeaders.USER_AGENT + ", " + HttpHeaders.COOKIE;
+
+    private static final Set<String> NON_REPLAYED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        NON_REPLAYED_HEADERS.addAll(Arrays.asList(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH,
+                HttpHeaders.CONTENT_ENCODING, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION, "Keep-Alive",
+                HttpHeaders.DATE, HttpHeaders.SET_COOKIE, HttpHeaders.VARY));
+    }
+
+    private final PageResponseCache pageResponseCache;
+
+    @Autowired
+    public PageResponseCacheFilter(PageResponseCache pageResponseCache) {
+        this.pageResponseCache = pageResponseCache;
+    }
+
+    private static boolean isCacheableRequest(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+        if (request.getRequestedSessionId() != null || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || request.getHeader(X_PREVIEW_SESSION_TOKEN) != null) {
+            return false;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (PREVIEW_SESSION_TOKEN.equals(cookie.getName())) {
+                    return false;
+                }
+            }
+        }
+        return isPageRequest(request);
+    }
+
+    private static boolean isPageRequest(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (NON_PAGE_PATH.matcher(path).matches() || NON_HTML_EXTENSION.matcher(path).find()) {
+            return false;
+        }
+        String format = request.getParameter("format");
+        if (format != null && !"html".equalsIgnoreCase(format)) {
+            return false;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept == null || accept.contains("text/html") || accept.contains("*/*");
+    }
+
+    private static boolean isCacheableResponse(HttpServletRequest request, ContentCachingResponseWrapper response) {
+        if (response.getStatusCode() != HttpServletResponse.SC_OK || response.getContentSize() == 0) {
+            return false;
+        }
+        String contentType = response.getContentType();
+        if (contentType == null || !contentType.startsWith("text/html")) {
+            return false;
+        }
+        if (response.containsHeader(HttpHeaders.SET_COOKIE) || request.getSession(false) != null) {
+            return false;
+        }
+        String cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains(GZIP);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !pageResponseCache.isCachingEnabled() || !isCacheableRequest(request);
+    }
+
+    private static Map<String, List<String>> getReplayedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!NON_REPLAYED_HEADERS.contains(name)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            doFilterCached(request, response, filterChain);
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+            attributes.requestCompleted();
+        }
+    }
+
+    private void doFilterCached(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Object key = pageResponseCache.getSpecificKey(request);
+        CachedPageResponse cached = pageResponseCache.get(key);
+        if (cached != null) {
+            log.trace("Serving page response for {} from cache", request.getRequestURI());
+            write(request, response, cached);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.VARY, VARY);
+        BufferingResponse wrapper = new BufferingResponse(response);
+        request.setAttribute(PreEncodedOutput.REQUEST_ATTRIBUTE, wrapper);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            request.removeAttribute(PreEncodedOutput.REQUEST_ATTRIBUTE);
+            if (isCacheableResponse(request, wrapper)) {
+                pageResponseCache.addAndGet(key, CachedPageResponse.of(wrapper.getContentType(),
+                        wrapper.getCharacterEncoding(), getReplayedHeaders(wrapper), wrapper.getContentAsByteArray()));
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedPageResponse cached) throws IOException {
+        boolean gzip = acceptsGzip(request);
+        byte[] body = gzip ? cached.getGzip() : cached.getIdentity();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        for (Map.Entry<String, List<String>> header : cached.getHeaders().entrySet()) {
+            for (String value : header.getValue()) {
+                response.addHeader(header.getKey(), value);
+            }
+        }
+        response.setContentType(cached.getContentType());
+        if (cached.getCharacterEncoding() != null) {
+            response.setCharacterEncoding(cached.getCharacterEncoding());
+        }
+        response.setHeader(HttpHeaders.VARY, VARY);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private static final class BufferingResponse extends ContentCachingResponseWrapper implements PreEncodedOutput {
+
+        private BufferingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public boolean write(byte[] utf8) throws IOException {
+            if (!StandardCharsets.UTF_8.name().equalsIgnoreCase(getCharacterEncoding())) {
+                return false;
+            }
+            // the writer of the wrapper writes through to the buffer, so the bytes keep their position
+            getOutputStream().write(utf8);
+            return true;
+        }
+    }
+}
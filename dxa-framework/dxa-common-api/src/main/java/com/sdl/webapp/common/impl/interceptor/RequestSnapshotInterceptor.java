@@ -0,0 +1,34 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.webapp.common.api.RequestSnapshot;
+import com.sdl.webapp.common.api.WebRequestContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Computes the {@link RequestSnapshot} once per request right before the view is rendered, so that tags and helpers
+ * used by the views can read it as a plain request attribute instead of going through the request-scoped
+ * {@link WebRequestContext} proxy.
+ * <p>Runs after the handler and not as a servlet filter because {@link WebRequestContext} is only available
+ * within the {@link org.springframework.web.servlet.DispatcherServlet}. Requests completed by an earlier interceptor
+ * (like static content) never get here and thus do not pay for resolving context claims.</p>
+ */
+public class RequestSnapshotInterceptor extends HandlerInterceptorAdapter {
+
+    @Autowired
+    private WebRequestContext webRequestContext;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView != null && RequestSnapshot.of(request) == null) {
+            webRequestContext.getSnapshot();
+        }
+    }
+}
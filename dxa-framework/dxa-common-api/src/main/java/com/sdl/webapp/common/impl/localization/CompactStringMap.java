@@ -0,0 +1,116 @@
+package com.sdl.webapp.common.impl.localization;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable string map backed by two parallel arrays sorted by key and looked up with a binary search.
+ * Keys and values are taken from {@link LocalizationDictionary}, so that keys like {@code core.readMore}
+ * repeated in every localization are stored once.
+ * <p>Costs two references per entry compared to a hash table entry object and bucket array.</p>
+ */
+final class CompactStringMap extends AbstractMap<String, String> {
+
+    private static final CompactStringMap EMPTY = new CompactStringMap(new String[0], new String[0]);
+
+    private final String[] keys;
+
+    private final String[] values;
+
+    private transient Set<Entry<String, String>> entrySet;
+
+    private CompactStringMap(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Creates a compact copy of the given map with interned keys and values.
+     *
+     * @param map map to copy, must not contain {@code null} keys or values
+     * @return compact map
+     */
+    static CompactStringMap copyOf(Map<String, String> map) {
+        if (map instanceof CompactStringMap) {
+            return (CompactStringMap) map;
+        }
+        if (map.isEmpty()) {
+            return EMPTY;
+        }
+        String[] keys = new String[map.size()];
+        int i = 0;
+        for (String key : map.keySet()) {
+            keys[i++] = LocalizationDictionary.intern(key);
+        }
+        Arrays.sort(keys);
+
+        String[] values = new String[keys.length];
+        for (i = 0; i < keys.length; i++) {
+            values[i] = LocalizationDictionary.intern(map.get(keys[i]));
+        }
+        return new CompactStringMap(keys, values);
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(Object key) {
+        return key instanceof String ? Arrays.binarySearch(keys, key) : -1;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            return new Iterator<Entry<String, String>>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < keys.length;
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, String> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                    index++;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+    }
+}
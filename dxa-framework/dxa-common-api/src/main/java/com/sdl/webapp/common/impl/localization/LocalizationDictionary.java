@@ -0,0 +1,42 @@
+package com.sdl.webapp.common.impl.localization;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+
+/**
+ * Dictionary shared by all localizations of the web application. Publications in one BluePrint mostly carry the same
+ * resource and configuration keys, the same semantic schemas and the same includes, so equal instances are kept once.
+ * <p>Interners are weak: data of localizations that are no longer used can be collected.</p>
+ */
+final class LocalizationDictionary {
+
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    private static final Interner<SemanticSchema> SCHEMAS = Interners.newWeakInterner();
+
+    private static final Interner<ImmutableMap<Long, SemanticSchema>> SCHEMA_SETS = Interners.newWeakInterner();
+
+    private static final Interner<ImmutableListMultimap<String, String>> INCLUDES = Interners.newWeakInterner();
+
+    private LocalizationDictionary() {
+    }
+
+    static String intern(String value) {
+        return value == null ? null : STRINGS.intern(value);
+    }
+
+    static SemanticSchema intern(SemanticSchema schema) {
+        return SCHEMAS.intern(schema);
+    }
+
+    static ImmutableMap<Long, SemanticSchema> internSchemas(ImmutableMap<Long, SemanticSchema> schemas) {
+        return SCHEMA_SETS.intern(schemas);
+    }
+
+    static ImmutableListMultimap<String, String> internIncludes(ImmutableListMultimap<String, String> includes) {
+        return INCLUDES.intern(includes);
+    }
+}
@@ -74,10 +74,10 @@ public class LocalizationImpl implements Localization {
         this.version = builder.version;
         this.isHtmlDesignPublished = builder.htmlDesignPublished;
         this.siteLocalizations = builder.siteLocalizationsBuilder.build();
-        this.configuration = builder.configurationBuilder.build();
-        this.resources = builder.resourcesBuilder.build();
-        this.semanticSchemas = builder.semanticSchemasBuilder.build();
-        this.includes = builder.includesBuilder.build();
+        this.configuration = CompactStringMap.copyOf(builder.configurationBuilder.build());
+        this.resources = CompactStringMap.copyOf(builder.resourcesBuilder.build());
+        this.semanticSchemas = LocalizationDictionary.internSchemas(builder.semanticSchemasBuilder.build());
+        this.includes = LocalizationDictionary.internIncludes(builder.includesBuilder.build());
 
     }
 
@@ -248,7 +248,7 @@ public class LocalizationImpl implements Localization {
         }
 
         public Builder addSemanticSchema(SemanticSchema semanticSchema) {
-            this.semanticSchemasBuilder.put(semanticSchema.getId(), semanticSchema);
+            this.semanticSchemasBuilder.put(semanticSchema.getId(), LocalizationDictionary.intern(semanticSchema));
             return this;
         }
 
@@ -260,7 +260,7 @@ public class LocalizationImpl implements Localization {
         }
 
         public Builder addInclude(String pageTypeId, String include) {
-            this.includesBuilder.put(pageTypeId, include);
+            this.includesBuilder.put(LocalizationDictionary.intern(pageTypeId), LocalizationDictionary.intern(include));
             return this;
         }
 
@@ -1,5 +1,7 @@
 package com.sdl.webapp.common.impl.mapping;
 
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
 import com.sdl.webapp.common.api.mapping.semantic.FieldData;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticFieldDataProvider;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
@@ -7,23 +9,27 @@ import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
 import com.sdl.webapp.common.api.mapping.semantic.config.EntitySemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.LazyXPath;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.mapping.semantic.config.XpmPropertyMetadata;
 import com.sdl.webapp.common.api.model.KeywordModel;
 import com.sdl.webapp.common.api.model.RichText;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -39,6 +45,16 @@ public class SemanticMapperImpl implements SemanticMapper {
 
     private final SemanticMappingRegistry registry;
 
+    @Autowired(required = false)
+    private WebRequestContext webRequestContext;
+
+    /**
+     * Whether XPaths of XPM property metadata are only built when they are read if the request is not
+     * in an XPM session preview.
+     */
+    @Value("${dxa.mapping.xpm.metadata.lazy:true}")
+    private boolean lazyXpmMetadata = true;
+
     /**
      * <p>Constructor for SemanticMapperImpl.</p>
      *
@@ -113,7 +129,8 @@ public class SemanticMapperImpl implements SemanticMapper {
                                                          Map<FieldSemantics, SemanticField> semanticFields,
                                                          SemanticFieldDataProvider fieldDataProvider,
                                                          T entity) {
-        final Map<String, String> xpmPropertyMetadata = new HashMap<>();
+        final XpmPropertyMetadata xpmPropertyMetadata = new XpmPropertyMetadata();
+        final boolean lazyXPaths = isLazyXPaths();
 
         // Map all the fields (including fields inherited from superclasses) of the entity
         ReflectionUtils.doWithFields(entityClass, field -> {
@@ -138,23 +155,17 @@ public class SemanticMapperImpl implements SemanticMapper {
                 }
                 try {
                     FieldData fieldData = fieldDataProvider.getFieldData(semanticField, new TypeDescriptor(field));
-                    String xPath = null;
                     boolean isFieldSet = false;
                     if (fieldData != null) {
                         final Object fieldValue = fieldData.getFieldValue();
                         if (fieldValue != null) {
                             setValueToField(entity, field, fieldValue);
-                            xPath = fieldData.getPropertyData();
                             isFieldSet = true;
                         }
                     }
 
-                    if (xPath == null) {
-                        xPath = semanticField.getXPath("");
-                    }
-
                     if (findFieldForGivenSemantics(fieldDataProvider.getSemanticSchema().getSemanticFields(), fieldSemantics) != null) {
-                        xpmPropertyMetadata.put(field.getName(), xPath);
+                        putXPath(xpmPropertyMetadata, field.getName(), semanticField, isFieldSet ? fieldData : null, lazyXPaths);
                     }
                     if (isFieldSet) {
                         break;
@@ -187,6 +198,30 @@ public class SemanticMapperImpl implements SemanticMapper {
         }
     }
 
+    private boolean isLazyXPaths() {
+        if (!lazyXpmMetadata) {
+            return false;
+        }
+        // XPaths are needed right away for XPM markup in preview sessions, and are built eagerly outside of requests
+        ModelBuildingContext context = ModelBuildingContext.current();
+        if (context != null) {
+            return !context.isSessionPreview();
+        }
+        return webRequestContext != null && RequestContextHolder.getRequestAttributes() != null &&
+                !webRequestContext.isSessionPreview();
+    }
+
+    private static void putXPath(XpmPropertyMetadata xpmPropertyMetadata, String fieldName, SemanticField semanticField,
+                                 @Nullable FieldData fieldData, boolean lazy) {
+        LazyXPath lazyXPath = fieldData == null ? null : fieldData.getXPath();
+        if (lazy && (fieldData == null || lazyXPath != null)) {
+            xpmPropertyMetadata.putLazy(fieldName, lazyXPath != null ? lazyXPath : LazyXPath.of(semanticField, null));
+            return;
+        }
+        String xPath = fieldData == null ? null : fieldData.getPropertyData();
+        xpmPropertyMetadata.put(fieldName, xPath != null ? xPath : semanticField.getXPath(""));
+    }
+
     private <T extends ViewModel> boolean setDefaultValueToField(SemanticFieldDataProvider fieldDataProvider, T entity, Field field, Set<FieldSemantics> registrySemantics, boolean foundMatch) throws IllegalAccessException {
         for (FieldSemantics fieldSemantics : registrySemantics) {
             final String propertyName = fieldSemantics.getPropertyName();
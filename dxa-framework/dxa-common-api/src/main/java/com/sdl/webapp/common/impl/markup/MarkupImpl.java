@@ -5,9 +5,8 @@ import com.google.common.base.Strings;
 import com.sdl.dxa.common.util.PathUtils;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationFormats;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
-import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticEntityInfo;
-import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticPropertyInfo;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
@@ -19,23 +18,17 @@ import com.sdl.webapp.common.markup.html.HtmlElement;
 import com.sdl.webapp.common.markup.html.builders.SimpleElementBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.NotImplementedException;
+import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
 import org.joda.time.DateTime;
 import org.joda.time.Days;
 import org.joda.time.LocalDate;
-import org.joda.time.format.DateTimeFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Field;
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.base.Strings.nullToEmpty;
@@ -48,10 +41,10 @@ public class MarkupImpl implements Markup {
 
     private static final HtmlAttribute TYPEOF_REGION_ATTR = new HtmlAttribute("typeof", "Region");
 
-    private final SemanticMappingRegistry semanticMappingRegistry;
-
     private final WebRequestContext webRequestContext;
 
+    private final SemanticAttributeRegistry semanticAttributeRegistry;
+
     /**
      * <p>Constructor for MarkupImpl.</p>
      *
@@ -60,8 +53,8 @@ public class MarkupImpl implements Markup {
      */
     @Autowired
     public MarkupImpl(SemanticMappingRegistry semanticMappingRegistry, WebRequestContext webRequestContext) {
-        this.semanticMappingRegistry = semanticMappingRegistry;
         this.webRequestContext = webRequestContext;
+        this.semanticAttributeRegistry = new SemanticAttributeRegistry(semanticMappingRegistry);
     }
 
     @Nullable
@@ -148,25 +141,7 @@ public class MarkupImpl implements Markup {
      */
     @Override
     public String entity(EntityModel entity) {
-        final List<String> vocabularies = new ArrayList<>();
-        final List<String> entityTypes = new ArrayList<>();
-
-        for (SemanticEntityInfo entityInfo : semanticMappingRegistry.getEntityInfo(entity.getClass())) {
-            if (entityInfo.isPublic()) {
-                final String prefix = entityInfo.getPrefix();
-                if (!Strings.isNullOrEmpty(prefix)) {
-                    vocabularies.add(prefix + ": " + entityInfo.getVocabulary());
-                    entityTypes.add(prefix + ':' + entityInfo.getEntityName());
-                }
-            }
-        }
-
-        if (!vocabularies.isEmpty()) {
-            return new HtmlAttribute("prefix", Joiner.on(' ').join(vocabularies)).toHtml() +
-                    ' ' + new HtmlAttribute("typeof", Joiner.on(' ').join(entityTypes)).toHtml();
-        }
-
-        return "";
+        return semanticAttributeRegistry.getEntityAttributes(entity.getClass());
     }
 
     /**
@@ -190,37 +165,13 @@ public class MarkupImpl implements Markup {
      */
     @Override
     public String property(EntityModel entity, String fieldName, int index) {
-
         final Class<? extends EntityModel> entityClass = entity.getClass();
-
-        final Field field = ReflectionUtils.findField(entityClass, fieldName);
-        if (field == null) {
+        String markup = semanticAttributeRegistry.getPropertyAttributes(entityClass, fieldName);
+        if (markup == null) {
             log.warn("Entity of type {} does not contain a field named {}", entityClass.getName(), fieldName);
             return "";
         }
 
-        final Set<String> publicPrefixes = new HashSet<>();
-        for (SemanticEntityInfo entityInfo : semanticMappingRegistry.getEntityInfo(entityClass)) {
-            if (entityInfo.isPublic()) {
-                final String prefix = entityInfo.getPrefix();
-                if (!Strings.isNullOrEmpty(prefix)) {
-                    publicPrefixes.add(prefix);
-                }
-            }
-        }
-
-        final List<String> propertyTypes = new ArrayList<>();
-        for (SemanticPropertyInfo propertyInfo : semanticMappingRegistry.getPropertyInfo(field)) {
-            final String prefix = propertyInfo.getPrefix();
-            if (publicPrefixes.contains(prefix)) {
-                propertyTypes.add(prefix + ':' + propertyInfo.getPropertyName());
-            }
-        }
-
-        String markup = "";
-        if (!propertyTypes.isEmpty()) {
-            markup += new HtmlAttribute("property", Joiner.on(' ').join(propertyTypes)).toHtml();
-        }
         if (webRequestContext.isSessionPreview()) {
             final Map<String, String> propertyData = entity.getXpmPropertyMetadata();
             if (propertyData != null) {
@@ -248,7 +199,7 @@ public class MarkupImpl implements Markup {
      */
     @Override
     public String formatDate(DateTime dateTime) {
-        return DateTimeFormat.fullDate().withLocale(webRequestContext.getLocalization().getLocale()).print(dateTime);
+        return LocalizationFormats.of(webRequestContext.getLocalization()).formatFullDate(dateTime);
     }
 
     /**
@@ -256,17 +207,17 @@ public class MarkupImpl implements Markup {
      */
     @Override
     public String formatDateDiff(DateTime dateTime) {
+        final Localization localization = webRequestContext.getLocalization();
         final int dayDiff = Days.daysBetween(dateTime.toLocalDate(), LocalDate.now()).getDays();
         if (dayDiff <= 0) {
-            return webRequestContext.getLocalization().getResource("core.todayText");
+            return localization.getResource("core.todayText");
         } else if (dayDiff == 1) {
-            return webRequestContext.getLocalization().getResource("core.yesterdayText");
+            return localization.getResource("core.yesterdayText");
         } else if (dayDiff <= 7) {
-            return MessageFormat.format(webRequestContext.getLocalization().getResource("core.xDaysAgoText"), dayDiff);
+            return LocalizationFormats.of(localization).formatResource("core.xDaysAgoText", dayDiff);
         }
 
-        return DateTimeFormat.forPattern("d MMM yyyy").withLocale(webRequestContext.getLocalization().getLocale())
-                .print(dateTime);
+        return LocalizationFormats.of(localization).formatShortDate(dateTime);
     }
 
     /**
@@ -282,7 +233,7 @@ public class MarkupImpl implements Markup {
      */
     @Override
     public String replaceLineEndsWithHtmlBreaks(String text) {
-        return text.replaceAll("\\. ", "<br/>");
+        return StringUtils.replace(text, ". ", "<br/>");
     }
 
     /**
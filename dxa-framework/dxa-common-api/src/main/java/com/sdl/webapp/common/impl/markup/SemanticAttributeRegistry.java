@@ -0,0 +1,120 @@
+package com.sdl.webapp.common.impl.markup;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticEntityInfo;
+import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticPropertyInfo;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.markup.html.HtmlAttribute;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Semantic (RDFa) attributes of entity classes and their fields as rendered by {@link MarkupImpl}.
+ * <p>The attributes only depend on the semantic mapping of a class, so they are built once per class
+ * when first requested and never change afterwards.</p>
+ */
+class SemanticAttributeRegistry {
+
+    private final SemanticMappingRegistry semanticMappingRegistry;
+
+    private final ConcurrentMap<Class<? extends EntityModel>, EntityAttributes> attributes = new ConcurrentHashMap<>();
+
+    SemanticAttributeRegistry(SemanticMappingRegistry semanticMappingRegistry) {
+        this.semanticMappingRegistry = semanticMappingRegistry;
+    }
+
+    /**
+     * Returns the {@code prefix} and {@code typeof} attributes of an entity class.
+     *
+     * @param entityClass entity class
+     * @return attributes, or empty string if the entity has no public semantics
+     */
+    String getEntityAttributes(Class<? extends EntityModel> entityClass) {
+        return getAttributes(entityClass).entity;
+    }
+
+    /**
+     * Returns the {@code property} attribute of a field of an entity class.
+     *
+     * @param entityClass entity class
+     * @param fieldName   name of the field
+     * @return attribute, empty string if the field has no public semantics, or {@code null} if there is no such field
+     */
+    @Nullable
+    String getPropertyAttributes(Class<? extends EntityModel> entityClass, String fieldName) {
+        return getAttributes(entityClass).properties.get(fieldName);
+    }
+
+    private EntityAttributes getAttributes(Class<? extends EntityModel> entityClass) {
+        EntityAttributes entityAttributes = attributes.get(entityClass);
+        if (entityAttributes == null) {
+            entityAttributes = attributes.computeIfAbsent(entityClass, this::createAttributes);
+        }
+        return entityAttributes;
+    }
+
+    private EntityAttributes createAttributes(Class<? extends EntityModel> entityClass) {
+        final Set<String> publicPrefixes = new HashSet<>();
+        final List<String> vocabularies = new ArrayList<>();
+        final List<String> entityTypes = new ArrayList<>();
+        for (SemanticEntityInfo entityInfo : semanticMappingRegistry.getEntityInfo(entityClass)) {
+            if (entityInfo.isPublic()) {
+                final String prefix = entityInfo.getPrefix();
+                if (!Strings.isNullOrEmpty(prefix)) {
+                    publicPrefixes.add(prefix);
+                    vocabularies.add(prefix + ": " + entityInfo.getVocabulary());
+                    entityTypes.add(prefix + ':' + entityInfo.getEntityName());
+                }
+            }
+        }
+
+        String entity = "";
+        if (!vocabularies.isEmpty()) {
+            entity = new HtmlAttribute("prefix", Joiner.on(' ').join(vocabularies)).toHtml() +
+                    ' ' + new HtmlAttribute("typeof", Joiner.on(' ').join(entityTypes)).toHtml();
+        }
+
+        // fields of subclasses hide fields with the same name in superclasses, like in ReflectionUtils.findField
+        final Map<String, String> properties = new HashMap<>();
+        ReflectionUtils.doWithFields(entityClass, field -> {
+            if (properties.containsKey(field.getName())) {
+                return;
+            }
+            final List<String> propertyTypes = new ArrayList<>();
+            for (SemanticPropertyInfo propertyInfo : semanticMappingRegistry.getPropertyInfo(field)) {
+                final String prefix = propertyInfo.getPrefix();
+                if (publicPrefixes.contains(prefix)) {
+                    propertyTypes.add(prefix + ':' + propertyInfo.getPropertyName());
+                }
+            }
+            properties.put(field.getName(), propertyTypes.isEmpty() ? "" :
+                    new HtmlAttribute("property", Joiner.on(' ').join(propertyTypes)).toHtml());
+        });
+
+        return new EntityAttributes(entity, ImmutableMap.copyOf(properties));
+    }
+
+    private static final class EntityAttributes {
+
+        private final String entity;
+
+        private final Map<String, String> properties;
+
+        private EntityAttributes(String entity, Map<String, String> properties) {
+            this.entity = entity;
+            this.properties = properties;
+        }
+    }
+}
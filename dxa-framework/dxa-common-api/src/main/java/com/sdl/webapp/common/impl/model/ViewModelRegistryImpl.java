@@ -18,13 +18,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static com.sdl.webapp.common.api.model.mvcdata.DefaultsMvcData.getDefaultAreaName;
 
@@ -37,6 +37,16 @@ public class ViewModelRegistryImpl implements ViewModelRegistry {
 
     private final Map<MvcData, Class<? extends ViewModel>> viewEntityClassMap = new ConcurrentHashMap<>();
 
+    /**
+     * Secondary indexes over {@link #viewEntityClassMap}, maintained in {@link #registerViewModel(MvcData, Class)}
+     * so that lookups are plain map reads. In case of ambiguity the first registered view model wins.
+     */
+    private final Map<String, Map<String, Class<? extends ViewModel>>> byAreaAndView = new ConcurrentHashMap<>();
+
+    private final Map<String, List<Map.Entry<MvcData, Class<? extends ViewModel>>>> byView = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Map<String, Class<? extends ViewModel>>>> byControllerAreaAndView = new ConcurrentHashMap<>();
+
     @Autowired
     private SemanticMappingRegistry semanticMappingRegistry;
 
@@ -49,19 +59,20 @@ public class ViewModelRegistryImpl implements ViewModelRegistry {
 
         final String areaName;
         final String scopedViewName;
-        if (!viewName.contains(":")) { // default module
+        int separator = viewName.indexOf(':');
+        if (separator < 0) { // default module
             areaName = getDefaultAreaName();
             scopedViewName = viewName;
         } else {
-            String[] parts = viewName.split(":");
-            areaName = parts[0];
-            scopedViewName = parts[1];
+            int end = viewName.indexOf(':', separator + 1);
+            areaName = viewName.substring(0, separator);
+            scopedViewName = viewName.substring(separator + 1, end < 0 ? viewName.length() : end);
         }
-        return viewEntityClassMap.entrySet().stream()
-                .filter(mvcData -> mvcData.getKey().getAreaName().equals(areaName) && mvcData.getKey().getViewName().equals(scopedViewName))
-                .findFirst()
-                .map(Map.Entry::getValue)
-                .orElseThrow(() -> new DxaException(String.format("Could not find a view model for the view name %s", viewName)));
+        Class<? extends ViewModel> viewModelClass = lookup(lookup(byAreaAndView, areaName), scopedViewName);
+        if (viewModelClass == null) {
+            throw new DxaException(String.format("Could not find a view model for the view name %s", viewName));
+        }
+        return viewModelClass;
     }
 
     /**
@@ -133,40 +144,26 @@ public class ViewModelRegistryImpl implements ViewModelRegistry {
      */
     @Override
     public Class<? extends ViewModel> getViewModelType(final MvcData viewData) throws DxaException {
-        //Entries with matching viewname
-        Set<Map.Entry<MvcData, Class<? extends ViewModel>>> entries = new HashSet<>();
-        entries.addAll(viewEntityClassMap.entrySet().stream().filter(mvcData -> {
-            MvcData key = mvcData.getKey();
-            return key.getViewName().equals(viewData.getViewName());
-        }).collect(Collectors.toSet()));
+        String viewName = viewData.getViewName();
+        String controllerName = viewData.getControllerName();
 
         //Match on Controllername and AreaName
-        Class<? extends ViewModel> exactClassForModelData = entries.stream()
-                .filter(mvcData -> {
-                    MvcData key = mvcData.getKey();
-                    return key.getControllerName().equals(viewData.getControllerName()) &&
-                            key.getAreaName().equals(viewData.getAreaName());
-                })
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(null);
-
+        Class<? extends ViewModel> exactClassForModelData =
+                lookup(lookup(lookup(byControllerAreaAndView, controllerName), viewData.getAreaName()), viewName);
         if (exactClassForModelData != null) {
             return exactClassForModelData;
         }
 
-        //Match on Controllername
-        Class<? extends ViewModel> probablyClassForModelData = entries.stream()
-                .filter(mvcData -> {
-                    MvcData key = mvcData.getKey();
-                    return key.getControllerName().equals(viewData.getControllerName()) || Strings.isNullOrEmpty(viewData.getControllerName());
-                })
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(null);
-
-        if (probablyClassForModelData != null) {
-            return probablyClassForModelData;
+        //Match on Controllername within entries with matching viewname
+        List<Map.Entry<MvcData, Class<? extends ViewModel>>> candidates = lookup(byView, viewName);
+        if (candidates != null) {
+            boolean anyController = Strings.isNullOrEmpty(controllerName);
+            for (int i = 0; i < candidates.size(); i++) {
+                Map.Entry<MvcData, Class<? extends ViewModel>> candidate = candidates.get(i);
+                if (anyController || controllerName.equals(candidate.getKey().getControllerName())) {
+                    return candidate.getValue();
+                }
+            }
         }
         throw new DxaException("Cannot detect ViewModel for ViewData " + viewData);
     }
@@ -181,7 +178,36 @@ public class ViewModelRegistryImpl implements ViewModelRegistry {
                 LOG.warn("View {} registered multiple times, ignoring.", viewData);
                 return;
             }
+            index(viewData, entityClass);
         }
         semanticMappingRegistry.registerEntity((Class<? extends EntityModel>) entityClass);
     }
+
+    private void index(MvcData viewData, Class<? extends ViewModel> entityClass) {
+        String viewName = viewData.getViewName();
+        String areaName = viewData.getAreaName();
+        String controllerName = viewData.getControllerName();
+        if (viewName == null) {
+            return;
+        }
+
+        byView.computeIfAbsent(viewName, key -> new CopyOnWriteArrayList<>())
+                .add(new AbstractMap.SimpleImmutableEntry<>(viewData, entityClass));
+
+        if (areaName != null) {
+            byAreaAndView.computeIfAbsent(areaName, key -> new ConcurrentHashMap<>())
+                    .putIfAbsent(viewName, entityClass);
+
+            if (controllerName != null) {
+                byControllerAreaAndView.computeIfAbsent(controllerName, key -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(areaName, key -> new ConcurrentHashMap<>())
+                        .putIfAbsent(viewName, entityClass);
+            }
+        }
+    }
+
+    @Nullable
+    private static <V> V lookup(@Nullable Map<String, V> map, @Nullable String key) {
+        return map == null || key == null ? null : map.get(key);
+    }
 }
\ No newline at end of file
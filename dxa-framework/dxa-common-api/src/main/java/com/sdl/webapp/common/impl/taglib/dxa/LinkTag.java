@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.impl.taglib.dxa;
 
 import com.google.common.base.Strings;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.entity.Link;
@@ -34,6 +35,10 @@ public class LinkTag extends HtmlElementTag {
     }
 
     private Localization getLocalization() {
+        RequestSnapshot snapshot = RequestSnapshot.of(pageContext.getRequest());
+        if (snapshot != null) {
+            return snapshot.getLocalization();
+        }
         return WebApplicationContextUtils.getRequiredWebApplicationContext(pageContext.getServletContext())
                 .getBean(WebRequestContext.class).getLocalization();
     }
@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.impl.taglib.dxa;
 
 import com.sdl.webapp.common.api.MediaHelper;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.entity.MediaItem;
 import com.sdl.webapp.common.exceptions.DxaException;
@@ -49,6 +50,10 @@ public class MediaTag extends HtmlElementTag {
     }
 
     private String getContextPath() {
+        RequestSnapshot snapshot = RequestSnapshot.of(pageContext.getRequest());
+        if (snapshot != null) {
+            return snapshot.getContextPath();
+        }
         return WebApplicationContextUtils.getRequiredWebApplicationContext(pageContext.getServletContext())
                 .getBean(WebRequestContext.class).getContextPath();
     }
@@ -1,8 +1,10 @@
 package com.sdl.webapp.common.impl.taglib.dxa;
 
 import com.google.common.base.Strings;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationFormats;
 import com.sdl.webapp.common.api.localization.LocalizationNotFoundException;
 import lombok.Setter;
 
@@ -10,7 +12,6 @@ import javax.servlet.jsp.JspException;
 import javax.servlet.jsp.JspWriter;
 import javax.servlet.jsp.tagext.TagSupport;
 import java.io.IOException;
-import java.text.MessageFormat;
 
 import static com.sdl.webapp.common.util.ApplicationContextHolder.getContext;
 
@@ -28,18 +29,22 @@ public class ResourceTag extends TagSupport {
      */
     @Override
     public int doStartTag() throws JspException {
-        final Localization localization = getContext().getBean(WebRequestContext.class).getLocalization();
+        final RequestSnapshot snapshot = RequestSnapshot.of(pageContext.getRequest());
+        final Localization localization = snapshot != null ? snapshot.getLocalization() :
+                getContext().getBean(WebRequestContext.class).getLocalization();
         if (localization == null) {
             throw new LocalizationNotFoundException("Localization is not available.");
         }
 
-        String resource = localization.getResource(key);
+        String resource;
         if (!Strings.isNullOrEmpty(arg1)) {
             if (!Strings.isNullOrEmpty(arg2)) {
-                resource = MessageFormat.format(resource, arg1, arg2);
+                resource = LocalizationFormats.of(localization).formatResource(key, arg1, arg2);
             } else {
-                resource = MessageFormat.format(resource, arg1);
+                resource = LocalizationFormats.of(localization).formatResource(key, arg1);
             }
+        } else {
+            resource = localization.getResource(key);
         }
 
         if (!Strings.isNullOrEmpty(resource)) {
@@ -1,5 +1,6 @@
 package com.sdl.webapp.common.impl.taglib.xpm;
 
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
@@ -19,6 +20,10 @@ public class XpmIfEnabledTag extends TagSupport {
      * @return whether this is preview mode
      */
     protected boolean isPreview() {
+        RequestSnapshot snapshot = RequestSnapshot.of(pageContext.getRequest());
+        if (snapshot != null) {
+            return snapshot.isSessionPreview();
+        }
         return WebApplicationContextUtils.getRequiredWebApplicationContext(pageContext.getServletContext())
                 .getBean(WebRequestContext.class).isSessionPreview();
     }
@@ -3,19 +3,26 @@ package com.sdl.webapp.common.markup;
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
 import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.controller.ControllerUtils;
 import com.sdl.webapp.common.markup.html.HtmlNode;
 import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import com.sdl.webapp.common.markup.html.PreEncodedHtmlNode;
+import com.sdl.webapp.common.markup.html.PreEncodedOutput;
 import com.sdl.webapp.common.util.ApplicationContextHolder;
 import org.springframework.web.context.support.WebApplicationContextUtils;
+import org.springframework.web.util.WebUtils;
 
 import javax.servlet.ServletException;
 import javax.servlet.jsp.JspException;
+import javax.servlet.jsp.JspWriter;
+import javax.servlet.jsp.tagext.BodyContent;
 import javax.servlet.jsp.tagext.TagSupport;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +30,7 @@ public class AbstractMarkupTag extends TagSupport {
 
     private MarkupDecoratorRegistry markupDecoratorRegistry = null;
     private OutputCache outputCache;
+    private Boolean streamingEnabled;
 
     protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
         return Optional.empty();
@@ -45,11 +53,14 @@ public class AbstractMarkupTag extends TagSupport {
     }
 
     protected void decorateInclude(String include, ViewModel model) throws IOException, ServletException {
+        if (isStreamingEnabled() && streamInclude(include, model)) {
+            return;
+        }
         HtmlNode decoratedMarkup = null;
         try {
             decoratedMarkup = processIncludeInternal(include, model);
         } finally {
-            if (decoratedMarkup != null) {
+            if (decoratedMarkup != null && !writePreEncoded(decoratedMarkup)) {
                 pageContext.getOut().write(decoratedMarkup.toHtml());
             }
         }
@@ -77,6 +88,25 @@ public class AbstractMarkupTag extends TagSupport {
                 .getBean(WebRequestContext.class);
     }
 
+    protected boolean isSessionPreview() {
+        RequestSnapshot snapshot = RequestSnapshot.of(pageContext.getRequest());
+        return snapshot != null ? snapshot.isSessionPreview() : getWebRequestContext().isSessionPreview();
+    }
+
+    /**
+     * Checks whether includes without applicable buffering decorators are written straight to the page
+     * ({@code dxa.web.markup.streaming.enabled}). If an include fails while streamed, its partial output stays on the page.
+     *
+     * @return whether streaming of includes is enabled
+     */
+    protected boolean isStreamingEnabled() {
+        if (this.streamingEnabled == null) {
+            this.streamingEnabled = WebApplicationContextUtils.getRequiredWebApplicationContext(pageContext.getServletContext())
+                    .getEnvironment().getProperty("dxa.web.markup.streaming.enabled", Boolean.class, false);
+        }
+        return this.streamingEnabled;
+    }
+
     protected OutputCache getOutputCache() {
         if (this.outputCache == null) {
             this.outputCache = ApplicationContextHolder.getContext().getBean(OutputCache.class);
@@ -84,6 +114,66 @@ public class AbstractMarkupTag extends TagSupport {
         return this.outputCache;
     }
 
+    /**
+     * Writes a pre-encoded fragment as bytes if the page response is buffered by the page response cache and the tag
+     * writes straight to the page, i.e. neither into the body of another tag nor into an included view.
+     */
+    private boolean writePreEncoded(HtmlNode markup) throws IOException {
+        if (!(markup instanceof PreEncodedHtmlNode)) {
+            return false;
+        }
+        PreEncodedOutput output = PreEncodedOutput.of(pageContext.getRequest());
+        JspWriter out = pageContext.getOut();
+        if (output == null || out instanceof BodyContent || WebUtils.isIncludeRequest(pageContext.getRequest())) {
+            return false;
+        }
+        out.flush();
+        return ((PreEncodedHtmlNode) markup).writeTo(output);
+    }
+
+    /**
+     * Writes the include to the page while it is rendered if it does not need to be cached and all applicable
+     * decorators are {@link StreamingMarkupDecorator streaming} ones.
+     */
+    private boolean streamInclude(String include, ViewModel model) throws ServletException, IOException {
+        OutputCache outputCache = getOutputCache();
+        if (outputCache.isCachingEnabled() && getCacheKey(include, model).isPresent() && !isSessionPreview()) {
+            return false;
+        }
+
+        List<MarkupEventHandler> handlers = new ArrayList<>();
+        WebRequestContext webRequestContext = null;
+        for (MarkupDecorator markupDecorator : this.getMarkupDecoratorRegistry().getDecorators(this.getDecoratorId())) {
+            if (webRequestContext == null) {
+                webRequestContext = this.getWebRequestContext();
+            }
+            if (markupDecorator instanceof StreamingMarkupDecorator) {
+                MarkupEventHandler handler = ((StreamingMarkupDecorator) markupDecorator).createHandler(model, webRequestContext);
+                if (handler != null) {
+                    handlers.add(handler);
+                }
+            } else if (markupDecorator.isApplicable(model, webRequestContext)) {
+                return false;
+            }
+        }
+
+        pageContext.getRequest().setAttribute("ParentModel", model);
+        if (handlers.isEmpty()) {
+            pageContext.include(include, false);
+            return true;
+        }
+
+        MarkupEventWriter writer = new MarkupEventWriter(pageContext.getOut(), handlers);
+        pageContext.pushBody(writer);
+        try {
+            pageContext.include(include, false);
+        } finally {
+            pageContext.popBody();
+        }
+        writer.close();
+        return true;
+    }
+
     private HtmlNode processIncludeInternal(String include, ViewModel model) throws ServletException, IOException {
         pageContext.getRequest().setAttribute("ParentModel", model);
 
@@ -95,7 +185,7 @@ public class AbstractMarkupTag extends TagSupport {
             Optional<CompositeOutputCacheKeyBase> optionalKey = getCacheKey(include, model);
             specificKey = (LocalizationAwareCacheKey) optionalKey.map(outputCache::getSpecificKey).orElse(null);
 
-            cacheAccessible = optionalKey.isPresent() && !getWebRequestContext().isSessionPreview();
+            cacheAccessible = optionalKey.isPresent() && !isSessionPreview();
 
             if (cacheAccessible) {
                 HtmlNode cachedNode = outputCache.get(specificKey);
@@ -111,6 +201,9 @@ public class AbstractMarkupTag extends TagSupport {
             HtmlNode htmlNode = this.decorateMarkup(markup, model);
 
             if (cacheAccessible) {
+                if (outputCache.isPreEncoding()) {
+                    htmlNode = PreEncodedHtmlNode.of(htmlNode);
+                }
                 outputCache.addAndGet(specificKey, htmlNode);
             }
 
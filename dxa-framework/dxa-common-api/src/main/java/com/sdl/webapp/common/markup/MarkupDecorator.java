@@ -11,4 +11,17 @@ import org.springframework.core.Ordered;
 public interface MarkupDecorator extends Ordered {
 
     HtmlNode process(HtmlNode markup, ViewModel model, WebRequestContext webRequestContext);
+
+    /**
+     * Checks whether the decorator changes markup of the given model in the current request at all.
+     * Includes are only buffered for {@link #process(HtmlNode, ViewModel, WebRequestContext)} if a decorator applies,
+     * otherwise they may be streamed.
+     *
+     * @param model             model of the include
+     * @param webRequestContext current request context
+     * @return whether the decorator needs to process the markup, {@code true} by default
+     */
+    default boolean isApplicable(ViewModel model, WebRequestContext webRequestContext) {
+        return true;
+    }
 }
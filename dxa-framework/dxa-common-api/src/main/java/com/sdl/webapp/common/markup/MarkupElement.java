@@ -0,0 +1,218 @@
+package com.sdl.webapp.common.markup;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Start tag reported to a {@link MarkupEventHandler}. The tag is written out as is unless its attributes are changed.
+ *
+ * @dxa.publicApi
+ */
+public final class MarkupElement {
+
+    private final String source;
+
+    private final String name;
+
+    private final boolean selfClosing;
+
+    private List<Attribute> attributes;
+
+    private boolean modified;
+
+    private StringBuilder content;
+
+    MarkupElement(String source) {
+        this.source = source;
+        int nameEnd = 1;
+        while (nameEnd < source.length() && !isNameEnd(source.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        this.name = source.substring(1, nameEnd).toLowerCase(Locale.ROOT);
+        this.selfClosing = source.endsWith("/>");
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    private static boolean isNameEnd(char c) {
+        return isWhitespace(c) || c == '>' || c == '/' || c == '=';
+    }
+
+    /**
+     * Returns the element name.
+     *
+     * @return lower-cased name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether the tag is closed with {@code />}.
+     *
+     * @return whether the tag is self-closing
+     */
+    public boolean isSelfClosing() {
+        return selfClosing;
+    }
+
+    /**
+     * Returns the value of the attribute as written in the markup.
+     *
+     * @param attributeName case-insensitive attribute name
+     * @return value, empty string for an attribute without value, or {@code null} if there is no such attribute
+     */
+    @Nullable
+    public String getAttribute(String attributeName) {
+        Attribute attribute = findAttribute(attributeName);
+        return attribute == null ? null : attribute.value;
+    }
+
+    /**
+     * Sets the value of the attribute, adding it if needed.
+     *
+     * @param attributeName attribute name
+     * @param value         value, will be escaped
+     */
+    public void setAttribute(String attributeName, String value) {
+        String escaped = value.replace("&", "&amp;").replace("\"", "&quot;");
+        Attribute attribute = findAttribute(attributeName);
+        if (attribute == null) {
+            attributes.add(new Attribute(attributeName, escaped, attributeName + "=\"" + escaped + '"'));
+        } else {
+            attribute.value = escaped;
+            attribute.source = attribute.name + "=\"" + escaped + '"';
+        }
+        modified = true;
+    }
+
+    /**
+     * Removes the attribute.
+     *
+     * @param attributeName case-insensitive attribute name
+     * @return whether the attribute was present
+     */
+    public boolean removeAttribute(String attributeName) {
+        Attribute attribute = findAttribute(attributeName);
+        if (attribute == null) {
+            return false;
+        }
+        attributes.remove(attribute);
+        modified = true;
+        return true;
+    }
+
+    /**
+     * Adds content to be written right after this start tag, so it becomes the first content of the element.
+     *
+     * @param html markup to add
+     */
+    public void appendContent(String html) {
+        if (content == null) {
+            content = new StringBuilder(html.length());
+        }
+        content.append(html);
+    }
+
+    void writeTo(Writer out) throws IOException {
+        if (!modified) {
+            out.write(source);
+        } else {
+            out.write('<');
+            out.write(source, 1, name.length());
+            for (Attribute attribute : attributes) {
+                out.write(' ');
+                out.write(attribute.source);
+            }
+            out.write(selfClosing ? "/>" : ">");
+        }
+        if (content != null) {
+            out.append(content);
+        }
+    }
+
+    private Attribute findAttribute(String attributeName) {
+        if (attributes == null) {
+            attributes = parseAttributes();
+        }
+        for (Attribute attribute : attributes) {
+            if (attribute.name.equalsIgnoreCase(attributeName)) {
+                return attribute;
+            }
+        }
+        return null;
+    }
+
+    private List<Attribute> parseAttributes() {
+        List<Attribute> result = new ArrayList<>();
+        int end = source.length() - (selfClosing ? 2 : 1);
+        int index = name.length() + 1;
+        while (index < end) {
+            char c = source.charAt(index);
+            if (isWhitespace(c) || c == '/' || c == '=') {
+                index++;
+                continue;
+            }
+            int start = index;
+            while (index < end && !isNameEnd(source.charAt(index))) {
+                index++;
+            }
+            String attributeName = source.substring(start, index);
+            int afterName = index;
+            while (index < end && isWhitespace(source.charAt(index))) {
+                index++;
+            }
+            if (index >= end || source.charAt(index) != '=') {
+                result.add(new Attribute(attributeName, "", source.substring(start, afterName)));
+                index = afterName;
+                continue;
+            }
+            index++;
+            while (index < end && isWhitespace(source.charAt(index))) {
+                index++;
+            }
+            String value;
+            if (index < end && (source.charAt(index) == '"' || source.charAt(index) == '\'')) {
+                int close = source.indexOf(source.charAt(index), index + 1);
+                close = close < 0 || close > end ? end : close;
+                value = source.substring(index + 1, close);
+                index = Math.min(close + 1, end);
+            } else {
+                int valueStart = index;
+                while (index < end && !isWhitespace(source.charAt(index))) {
+                    index++;
+                }
+                value = source.substring(valueStart, index);
+            }
+            result.add(new Attribute(attributeName, value, source.substring(start, index)));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private static final class Attribute {
+
+        private final String name;
+
+        private String value;
+
+        private String source;
+
+        private Attribute(String name, String value, String source) {
+            this.name = name;
+            this.value = value;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sdl.webapp.common.markup;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Receives markup of an include as a stream of events while it is being written out.
+ * <p>Whatever a handler writes to the given writer is put in front of the markup of the current event.
+ * Content that needs to go right after a start tag is added with {@link MarkupElement#appendContent(String)}.</p>
+ *
+ * @dxa.publicApi
+ * @see StreamingMarkupDecorator
+ */
+public interface MarkupEventHandler {
+
+    /**
+     * Called for a start tag, which may be changed by the handler.
+     *
+     * @param element start tag
+     * @param out     writer to inject content before the tag
+     * @throws IOException if writing fails
+     */
+    default void startElement(MarkupElement element, Writer out) throws IOException {
+    }
+
+    /**
+     * Called for an end tag.
+     *
+     * @param name lower-cased element name
+     * @param out  writer to inject content before the tag
+     * @throws IOException if writing fails
+     */
+    default void endElement(String name, Writer out) throws IOException {
+    }
+
+    /**
+     * Called for a piece of text. Text between two tags may be reported in several pieces.
+     *
+     * @param text text as written by the view, not unescaped
+     * @param out  writer to inject content before the text
+     * @throws IOException if writing fails
+     */
+    default void text(CharSequence text, Writer out) throws IOException {
+    }
+
+    /**
+     * Called for a comment.
+     *
+     * @param comment content of the comment without delimiters
+     * @param out     writer to inject content before the comment
+     * @throws IOException if writing fails
+     */
+    default void comment(String comment, Writer out) throws IOException {
+    }
+
+    /**
+     * Called after the whole include has been written.
+     *
+     * @param out writer to append content to the include
+     * @throws IOException if writing fails
+     */
+    default void endFragment(Writer out) throws IOException {
+    }
+}
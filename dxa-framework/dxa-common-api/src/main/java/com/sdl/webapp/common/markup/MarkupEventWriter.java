@@ -0,0 +1,222 @@
+package com.sdl.webapp.common.markup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writer which splits markup written to it into events for {@link MarkupEventHandler}s and passes it on to
+ * the target writer. Only an incomplete tag or comment at the end of a written chunk is held back until
+ * the rest of it arrives. Contents of {@code script} and {@code style} elements are reported as text.
+ */
+final class MarkupEventWriter extends Writer {
+
+    private static final int MAX_RAW_TEXT_TAIL = "</script".length();
+
+    private final Writer out;
+
+    private final List<MarkupEventHandler> handlers;
+
+    private final StringBuilder pending = new StringBuilder();
+
+    private String rawTextElement;
+
+    private boolean finished;
+
+    MarkupEventWriter(Writer out, List<MarkupEventHandler> handlers) {
+        this.out = out;
+        this.handlers = handlers;
+    }
+
+    private static int indexOfTagEnd(CharSequence markup, int from) {
+        char quote = 0;
+        for (int i = from + 1; i < markup.length(); i++) {
+            char c = markup.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(CharSequence markup, String prefix, int from) {
+        if (markup.length() - from < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (markup.charAt(from + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfIgnoreCase(CharSequence markup, String lowerCaseText, int from) {
+        for (int i = from; i <= markup.length() - lowerCaseText.length(); i++) {
+            boolean matches = true;
+            for (int j = 0; j < lowerCaseText.length() && matches; j++) {
+                matches = Character.toLowerCase(markup.charAt(i + j)) == lowerCaseText.charAt(j);
+            }
+            if (matches) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        pending.append(cbuf, off, len);
+        process(false);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        pending.append(str, off, off + len);
+        process(false);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        pending.append((char) c);
+        process(false);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Writes out the rest of the markup and notifies handlers about the end of the fragment.
+     * The target writer is not closed.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        process(true);
+        for (MarkupEventHandler handler : handlers) {
+            handler.endFragment(out);
+        }
+    }
+
+    private void process(boolean last) throws IOException {
+        int position = 0;
+        while (position < pending.length()) {
+            int next = rawTextElement != null ? processRawText(position, last) : processMarkup(position, last);
+            if (next < 0) {
+                break;
+            }
+            position = next;
+        }
+        pending.delete(0, position);
+    }
+
+    private int processRawText(int position, boolean last) throws IOException {
+        int close = indexOfIgnoreCase(pending, "</" + rawTextElement, position);
+        int end;
+        if (close >= 0) {
+            end = close;
+            rawTextElement = null;
+        } else if (last) {
+            end = pending.length();
+        } else {
+            end = Math.max(position, pending.length() - MAX_RAW_TEXT_TAIL);
+        }
+        if (end > position) {
+            text(position, end);
+        }
+        return close >= 0 || last || end > position ? end : -1;
+    }
+
+    private int processMarkup(int position, boolean last) throws IOException {
+        if (pending.charAt(position) != '<') {
+            int lt = pending.indexOf("<", position);
+            int end = lt < 0 ? pending.length() : lt;
+            text(position, end);
+            return end;
+        }
+        if (pending.length() - position < 4 && !last) {
+            // not enough characters to tell a comment from a tag
+            return -1;
+        }
+
+        if (startsWith(pending, "<!--", position)) {
+            int close = pending.indexOf("-->", position + 4);
+            if (close < 0) {
+                return last ? text(position, pending.length()) : -1;
+            }
+            String comment = pending.substring(position + 4, close);
+            for (MarkupEventHandler handler : handlers) {
+                handler.comment(comment, out);
+            }
+            out.append(pending, position, close + 3);
+            return close + 3;
+        }
+
+        char next = position + 1 < pending.length() ? pending.charAt(position + 1) : ' ';
+        if (next != '/' && next != '!' && next != '?' && !Character.isLetter(next)) {
+            return text(position, position + 1);
+        }
+
+        int close = next == '/' || next == '!' || next == '?' ?
+                pending.indexOf(">", position) :
+                indexOfTagEnd(pending, position);
+        if (close < position) {
+            return last ? text(position, pending.length()) : -1;
+        }
+
+        if (next == '/') {
+            endElement(position, close);
+        } else if (next == '!' || next == '?') {
+            out.append(pending, position, close + 1);
+        } else {
+            startElement(position, close);
+        }
+        return close + 1;
+    }
+
+    private void startElement(int position, int close) throws IOException {
+        MarkupElement element = new MarkupElement(pending.substring(position, close + 1));
+        for (MarkupEventHandler handler : handlers) {
+            handler.startElement(element, out);
+        }
+        element.writeTo(out);
+        if (!element.isSelfClosing() && ("script".equals(element.getName()) || "style".equals(element.getName()))) {
+            rawTextElement = element.getName();
+        }
+    }
+
+    private void endElement(int position, int close) throws IOException {
+        int nameEnd = position + 2;
+        while (nameEnd < close && !Character.isWhitespace(pending.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        String name = pending.substring(position + 2, nameEnd).toLowerCase(Locale.ROOT);
+        for (MarkupEventHandler handler : handlers) {
+            handler.endElement(name, out);
+        }
+        out.append(pending, position, close + 1);
+    }
+
+    private int text(int start, int end) throws IOException {
+        CharSequence text = pending.subSequence(start, end);
+        for (MarkupEventHandler handler : handlers) {
+            handler.text(text, out);
+        }
+        out.append(text);
+        return end;
+    }
+}
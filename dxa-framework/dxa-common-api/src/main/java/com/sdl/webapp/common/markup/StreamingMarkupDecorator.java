@@ -0,0 +1,51 @@
+package com.sdl.webapp.common.markup;
+
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.markup.html.HtmlNode;
+import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+
+/**
+ * Markup decorator that works on a stream of markup events instead of a complete fragment.
+ * <p>Includes that only have streaming decorators and do not need to be put in the output cache are written
+ * to the page writer while they are rendered, without keeping the whole fragment in memory.
+ * Streaming is enabled with {@code dxa.web.markup.streaming.enabled}.</p>
+ *
+ * @dxa.publicApi
+ */
+public interface StreamingMarkupDecorator extends MarkupDecorator {
+
+    /**
+     * Creates a handler for one include.
+     *
+     * @param model             model of the include
+     * @param webRequestContext current request context
+     * @return handler of markup events, or {@code null} if the decorator does not change the markup of this include
+     */
+    @Nullable
+    MarkupEventHandler createHandler(ViewModel model, WebRequestContext webRequestContext);
+
+    /**
+     * {@inheritDoc}
+     * <p>Runs the {@link #createHandler(ViewModel, WebRequestContext) handler} over the complete markup.</p>
+     */
+    @Override
+    default HtmlNode process(HtmlNode markup, ViewModel model, WebRequestContext webRequestContext) {
+        MarkupEventHandler handler = createHandler(model, webRequestContext);
+        if (handler == null) {
+            return markup;
+        }
+        StringWriter out = new StringWriter();
+        try (MarkupEventWriter writer = new MarkupEventWriter(out, Collections.singletonList(handler))) {
+            writer.write(markup.toHtml());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot decorate markup of " + model, e);
+        }
+        return new ParsableHtmlNode(out.toString());
+    }
+}
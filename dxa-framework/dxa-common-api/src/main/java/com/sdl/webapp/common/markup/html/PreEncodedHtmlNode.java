@@ -0,0 +1,72 @@
+package com.sdl.webapp.common.markup.html;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fully rendered HTML fragment kept together with its UTF-8 encoded form. Used for output cache entries: unlike the
+ * original node it does not retain a parsed DOM, and a cache hit can be written to a {@link PreEncodedOutput} as bytes
+ * without encoding the fragment again.
+ *
+ * @dxa.publicApi
+ */
+public final class PreEncodedHtmlNode extends HtmlNode {
+
+    private final String html;
+
+    private final byte[] utf8;
+
+    private PreEncodedHtmlNode(String html) {
+        this.html = html;
+        this.utf8 = html.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Renders the given node once and keeps both the HTML and its encoded form.
+     *
+     * @param node node to encode
+     * @return pre-encoded node, or the same instance if the node is already pre-encoded
+     */
+    public static PreEncodedHtmlNode of(HtmlNode node) {
+        if (node instanceof PreEncodedHtmlNode) {
+            return (PreEncodedHtmlNode) node;
+        }
+        return new PreEncodedHtmlNode(node.toHtml());
+    }
+
+    /**
+     * Returns the size of the encoded fragment in bytes.
+     *
+     * @return number of bytes
+     */
+    public int length() {
+        return utf8.length;
+    }
+
+    /**
+     * Writes the encoded fragment as is to a byte stream.
+     *
+     * @param out stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(utf8);
+    }
+
+    /**
+     * Writes the encoded fragment as is to the output of a page response.
+     *
+     * @param out output to write to
+     * @return whether the fragment was written, {@code false} if the output does not accept UTF-8 bytes
+     * @throws IOException if writing fails
+     */
+    public boolean writeTo(PreEncodedOutput out) throws IOException {
+        return out.write(utf8);
+    }
+
+    @Override
+    public String renderHtml() {
+        return html;
+    }
+}
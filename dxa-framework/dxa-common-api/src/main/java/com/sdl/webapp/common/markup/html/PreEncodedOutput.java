@@ -0,0 +1,40 @@
+package com.sdl.webapp.common.markup.html;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.servlet.ServletRequest;
+import java.io.IOException;
+
+/**
+ * Byte output of a buffered page response which accepts already encoded fragments, e.g. {@link PreEncodedHtmlNode}s.
+ * <p>Exposed as a request attribute by the response buffering it, so that fragments are appended to the response body
+ * without passing through the character writer. Callers must flush their own writers before, the output keeps the
+ * order of what reached the response.</p>
+ *
+ * @dxa.publicApi
+ */
+public interface PreEncodedOutput {
+
+    String REQUEST_ATTRIBUTE = PreEncodedOutput.class.getName();
+
+    /**
+     * Returns the output of the response to the given request.
+     *
+     * @param request current request
+     * @return output of the response, or {@code null} if the response is not buffered
+     */
+    @Nullable
+    static PreEncodedOutput of(ServletRequest request) {
+        Object output = request.getAttribute(REQUEST_ATTRIBUTE);
+        return output instanceof PreEncodedOutput ? (PreEncodedOutput) output : null;
+    }
+
+    /**
+     * Appends UTF-8 encoded bytes to the response body.
+     *
+     * @param utf8 encoded fragment
+     * @return whether the bytes were written, {@code false} if the response is not UTF-8 encoded
+     * @throws IOException if writing fails
+     */
+    boolean write(byte[] utf8) throws IOException;
+}
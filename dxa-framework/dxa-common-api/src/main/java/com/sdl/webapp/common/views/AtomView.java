@@ -17,12 +17,15 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Feed view for Atom representation of page
  */
 public class AtomView extends AbstractAtomFeedView {
 
+    private static final Pattern FORMAT_PARAMETER = Pattern.compile("[&?]format.*?(?=&|\\?|$)");
+
     @Autowired
     private WebRequestContext context;
 
@@ -55,7 +58,7 @@ public class AtomView extends AbstractAtomFeedView {
         }
         List<Link> links = new ArrayList<>();
         Link l = new Link();
-        l.setHref(uri.toString().replaceAll("[&?]format.*?(?=&|\\?|$)", ""));
+        l.setHref(FORMAT_PARAMETER.matcher(uri).replaceAll(""));
         links.add(l);
 
         feed.setUpdated(new Date());
@@ -12,12 +12,15 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Feed view for RSS representation of page
  */
 public class RssView extends AbstractRssFeedView {
 
+    private static final Pattern FORMAT_PARAMETER = Pattern.compile("[&?]format.*?(?=&|\\?|$)");
+
     @Autowired
     private WebRequestContext context;
 
@@ -46,7 +49,7 @@ public class RssView extends AbstractRssFeedView {
         if (queryString != null) {
             uri.append('?').append(queryString);
         }
-        feed.setLink(uri.toString().replaceAll("[&?]format.*?(?=&|\\?|$)", ""));
+        feed.setLink(FORMAT_PARAMETER.matcher(uri).replaceAll(""));
         super.buildFeedMetadata(model, feed, request);
 
     }
@@ -0,0 +1,78 @@
+package com.sdl.webapp.common.views;
+
+import com.sdl.webapp.common.api.model.PageModel;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.util.UUID;
+
+/**
+ * Streaming feed view for Atom 1.0 representation of page, writes the same elements as {@link AtomView}.
+ */
+public class StreamingAtomView extends StreamingFeedView {
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+
+    private static final DateTimeFormatter RFC_3339 = ISODateTimeFormat.dateTimeNoMillis().withZoneUTC();
+
+    public StreamingAtomView() {
+        super("application/atom+xml");
+    }
+
+    @Override
+    protected String getFormat() {
+        return "atom";
+    }
+
+    @Override
+    protected void writeFeed(XMLStreamWriter writer, PageModel page, String link) throws XMLStreamException {
+        String updated = RFC_3339.print(System.currentTimeMillis());
+
+        writer.writeStartElement("feed");
+        writer.writeDefaultNamespace(ATOM_NAMESPACE);
+        String culture = context.getLocalization().getCulture();
+        if (culture != null) {
+            writer.writeAttribute("xml", XMLConstants.XML_NS_URI, "lang", culture);
+        }
+
+        writeText(writer, "title", page.getTitle());
+        writeText(writer, "subtitle", page.getMeta().get("description"));
+        writeElement(writer, "id", "uuid:" + UUID.randomUUID());
+        writeLink(writer, link);
+        writeElement(writer, "updated", updated);
+
+        writeItems(page, item -> {
+            writer.writeStartElement("entry");
+            writeText(writer, "title", item.getHeadline());
+            if (item.getLink() != null && item.getLink().getUrl() != null) {
+                writeLink(writer, getAbsoluteUrl(item.getLink().getUrl()));
+            }
+            writeElement(writer, "id", "uuid:" + UUID.randomUUID());
+            writeElement(writer, "updated", updated);
+            writeElement(writer, "published", item.getDate() == null ? null : RFC_3339.print(item.getDate().getTime()));
+            writeText(writer, "summary", item.getSummary() == null ? null : item.getSummary().toString());
+            writer.writeEndElement();
+        });
+
+        writer.writeEndElement();
+    }
+
+    private static void writeText(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        if (text == null) {
+            return;
+        }
+        writer.writeStartElement(name);
+        writer.writeAttribute("type", "text");
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void writeLink(XMLStreamWriter writer, String href) throws XMLStreamException {
+        writer.writeEmptyElement("link");
+        writer.writeAttribute("rel", "alternate");
+        writer.writeAttribute("href", href);
+    }
+}
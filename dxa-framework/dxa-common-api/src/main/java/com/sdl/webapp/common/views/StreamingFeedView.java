@@ -0,0 +1,172 @@
+package com.sdl.webapp.common.views;
+
+import com.sdl.dxa.caching.wrapper.RenderedFeedCache;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.formatters.support.FeedItem;
+import com.sdl.webapp.common.api.model.PageModel;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.view.AbstractView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Base class of the feed views which write the feed of a page with a StAX writer straight to the response while
+ * the feed items of the page are visited, instead of building syndication objects and an XML document of the whole
+ * feed first as {@link RssView} and {@link AtomView} do.
+ * <p>If {@link RenderedFeedCache} is enabled, rendered feeds of cacheable pages are kept as bytes
+ * per page, format, localization and feed link, and written as is on later requests.</p>
+ */
+public abstract class StreamingFeedView extends AbstractView {
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private static final Pattern FORMAT_PARAMETER = Pattern.compile("[&?]format.*?(?=&|\\?|$)");
+
+    @Autowired
+    protected WebRequestContext context;
+
+    @Autowired(required = false)
+    private RenderedFeedCache feedCache;
+
+    protected StreamingFeedView(String contentType) {
+        setContentType(contentType);
+    }
+
+    /**
+     * Returns the format of the feed, which is a part of the key of cached feeds.
+     *
+     * @return format of the feed
+     */
+    protected abstract String getFormat();
+
+    /**
+     * Writes the root element of the feed with its metadata and items.
+     *
+     * @param writer writer of the feed document
+     * @param page   page of the feed
+     * @param link   link of the feed
+     * @throws XMLStreamException if the feed cannot be written
+     */
+    protected abstract void writeFeed(XMLStreamWriter writer, PageModel page, String link) throws XMLStreamException;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void renderMergedOutputModel(Map<String, Object> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        PageModel page = (PageModel) model.get("data");
+        String link = getFeedLink(request);
+        response.setContentType(getContentType());
+        response.setCharacterEncoding(ENCODING);
+
+        Object key = isCached(page) ? feedCache.getSpecificKey(page, getFormat(), context.getLocalization().getId(), link) : null;
+        if (key == null) {
+            writeDocument(page, link, response.getOutputStream());
+            return;
+        }
+
+        byte[] feed = feedCache.get(key);
+        if (feed == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+            writeDocument(page, link, out);
+            feed = feedCache.addAndGet(key, out.toByteArray());
+        }
+        response.setContentLength(feed.length);
+        response.getOutputStream().write(feed);
+    }
+
+    private boolean isCached(PageModel page) {
+        return feedCache != null && feedCache.isCachingEnabled() && !context.isSessionPreview() && page.canBeCached();
+    }
+
+    private void writeDocument(PageModel page, String link, OutputStream out) throws XMLStreamException, IOException {
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, ENCODING);
+        try {
+            writer.writeStartDocument(ENCODING, "1.0");
+            writeFeed(writer, page, link);
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            // does not close the underlying stream
+            writer.close();
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the feed items of the page one by one, as they are visited.
+     *
+     * @param page       page of the feed
+     * @param itemWriter writer of a single item
+     * @throws XMLStreamException if an item cannot be written
+     */
+    protected static void writeItems(PageModel page, FeedItemWriter itemWriter) throws XMLStreamException {
+        try {
+            page.forEachFeedItem(item -> {
+                try {
+                    itemWriter.write(item);
+                } catch (XMLStreamException e) {
+                    throw new FeedWriteException(e);
+                }
+            });
+        } catch (FeedWriteException e) {
+            throw (XMLStreamException) e.getCause();
+        }
+    }
+
+    /**
+     * Writes an element with text content, unless the text is {@code null}.
+     */
+    protected static void writeElement(XMLStreamWriter writer, String name, @Nullable String text) throws XMLStreamException {
+        if (text == null) {
+            return;
+        }
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Returns the absolute URL of a link of a feed item.
+     */
+    protected String getAbsoluteUrl(String url) {
+        return url.startsWith("http") ? url : context.getBaseUrl() + url;
+    }
+
+    private static String getFeedLink(HttpServletRequest request) {
+        StringBuffer uri = request.getRequestURL();
+        String queryString = request.getQueryString();
+        if (queryString != null) {
+            uri.append('?').append(queryString);
+        }
+        return FORMAT_PARAMETER.matcher(uri).replaceAll("");
+    }
+
+    /**
+     * Writer of a single feed item.
+     */
+    @FunctionalInterface
+    protected interface FeedItemWriter {
+
+        void write(FeedItem item) throws XMLStreamException;
+    }
+
+    private static final class FeedWriteException extends RuntimeException {
+
+        private FeedWriteException(XMLStreamException cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sdl.webapp.common.views;
+
+import com.sdl.webapp.common.api.model.PageModel;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.util.Locale;
+
+/**
+ * Streaming feed view for RSS 2.0 representation of page, writes the same elements as {@link RssView}.
+ */
+public class StreamingRssView extends StreamingFeedView {
+
+    private static final DateTimeFormatter RFC_822 = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'")
+            .withZoneUTC().withLocale(Locale.US);
+
+    public StreamingRssView() {
+        super("application/rss+xml");
+    }
+
+    @Override
+    protected String getFormat() {
+        return "rss";
+    }
+
+    @Override
+    protected void writeFeed(XMLStreamWriter writer, PageModel page, String link) throws XMLStreamException {
+        writer.writeStartElement("rss");
+        writer.writeAttribute("version", "2.0");
+        writer.writeStartElement("channel");
+
+        writeElement(writer, "title", page.getTitle());
+        writeElement(writer, "link", link);
+        writeElement(writer, "description", page.getMeta().get("description"));
+        writeElement(writer, "language", context.getLocalization().getCulture());
+
+        writeItems(page, item -> {
+            writer.writeStartElement("item");
+            writeElement(writer, "title", item.getHeadline());
+            writeElement(writer, "description", item.getSummary() == null ? null : item.getSummary().toString());
+            writeElement(writer, "pubDate", item.getDate() == null ? null : RFC_822.print(item.getDate().getTime()));
+            writer.writeEndElement();
+        });
+
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+}
@@ -0,0 +1,64 @@
+package com.sdl.dxa.caching.wrapper;
+
+import com.sdl.webapp.common.api.contextengine.ContextEngine;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.http.Cookie;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PageResponseCacheTest {
+
+    private ContextEngine contextEngine = mock(ContextEngine.class);
+
+    private PageResponseCache pageResponseCache = new PageResponseCache();
+
+    @Before
+    public void init() {
+        ObjectFactory<ContextEngine> factory = () -> contextEngine;
+        ReflectionTestUtils.setField(pageResponseCache, "contextEngine", factory);
+    }
+
+    private static MockHttpServletRequest request(String userAgent, String context) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+        request.setQueryString("a=b");
+        request.addHeader("User-Agent", userAgent);
+        request.setCookies(new Cookie("context", context));
+        return request;
+    }
+
+    @Test
+    public void shouldShareKeyOfBrowsersOfSameDeviceFamily() {
+        //given
+        when(contextEngine.getDeviceFamily()).thenReturn("desktop");
+
+        //when
+        Object chrome = pageResponseCache.getSpecificKey(request("Mozilla/5.0 Chrome/120.0.6099.109", "bw~1280"));
+        Object firefox = pageResponseCache.getSpecificKey(request("Mozilla/5.0 Firefox/121.0", "bw~1280"));
+
+        //then
+        assertEquals(chrome, firefox);
+    }
+
+    @Test
+    public void shouldSeparateDeviceFamiliesAndContextCookies() {
+        //given
+        when(contextEngine.getDeviceFamily()).thenReturn("desktop", "smartphone", "desktop");
+
+        //when
+        Object desktop = pageResponseCache.getSpecificKey(request("Mozilla/5.0", "bw~1280"));
+        Object smartphone = pageResponseCache.getSpecificKey(request("Mozilla/5.0", "bw~1280"));
+        Object narrow = pageResponseCache.getSpecificKey(request("Mozilla/5.0", "bw~640"));
+
+        //then
+        assertNotEquals(desktop, smartphone);
+        assertNotEquals(desktop, narrow);
+    }
+}
@@ -0,0 +1,108 @@
+package com.sdl.webapp.common.api.localization;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.webapp.common.impl.localization.LocalizationImpl;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LocalizationFormatsTest {
+
+    private static final DateTime DATE = new DateTime(2014, 12, 11, 15, 39, 8, 834);
+
+    private static Localization localization(Locale locale, String daysAgo) {
+        Localization localization = mock(Localization.class);
+        when(localization.getLocale()).thenReturn(locale);
+        when(localization.getResource("core.xDaysAgoText")).thenReturn(daysAgo);
+        return localization;
+    }
+
+    @Test
+    public void shouldFormatDatesInLocaleOfLocalization() {
+        //given
+        LocalizationFormats us = LocalizationFormats.of(localization(Locale.US, null));
+        LocalizationFormats nl = LocalizationFormats.of(localization(new Locale("nl", "NL"), null));
+
+        //when
+        //then
+        assertEquals("Thursday, December 11, 2014", us.formatFullDate(DATE));
+        assertEquals("11 Dec 2014", us.formatShortDate(DATE));
+        assertEquals("donderdag 11 december 2014", nl.formatFullDate(DATE));
+    }
+
+    @Test
+    public void shouldParseResourcePatternOnce() {
+        //given
+        Localization localization = localization(Locale.US, "{0} days ago");
+        LocalizationFormats formats = LocalizationFormats.of(localization);
+
+        //when
+        String twoDays = formats.formatResource("core.xDaysAgoText", 2);
+        String threeDays = LocalizationFormats.of(localization).formatResource("core.xDaysAgoText", 3);
+
+        //then
+        assertEquals("2 days ago", twoDays);
+        assertEquals("3 days ago", threeDays);
+        assertNull(formats.formatResource("core.unknown"));
+        verify(localization, times(1)).getResource("core.xDaysAgoText");
+    }
+
+    @Test
+    public void shouldKeepFormatsPerLocalizationInstance() {
+        //given
+        Localization localization = localization(Locale.US, "{0} days ago");
+        Localization refreshed = localization(Locale.US, "{0} dagen geleden");
+
+        //when
+        LocalizationFormats formats = LocalizationFormats.of(localization);
+
+        //then
+        assertSame(formats, LocalizationFormats.of(localization));
+        assertNotSame(formats, LocalizationFormats.of(refreshed));
+        assertEquals("4 dagen geleden", LocalizationFormats.of(refreshed).formatResource("core.xDaysAgoText", 4));
+    }
+
+    @Test
+    public void shouldReleaseFormatsOfCollectedLocalization() throws Exception {
+        //given
+        Localization localization = realLocalization();
+        WeakReference<LocalizationFormats> formats = new WeakReference<>(LocalizationFormats.of(localization));
+        WeakReference<Localization> reference = new WeakReference<>(localization);
+        assertEquals("5 days ago", formats.get().formatResource("core.xDaysAgoText", 5));
+
+        //when
+        localization = null;
+        for (int i = 0; i < 50 && formats.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+            // stale entries are removed while the map is used
+            LocalizationFormats.of(realLocalization());
+        }
+
+        //then
+        assertNull(reference.get());
+        assertNull(formats.get());
+    }
+
+    // a real localization, mocks stay reachable from the mocking framework
+    private static Localization realLocalization() {
+        return LocalizationImpl.newBuilder()
+                .setId("1")
+                .setPath("/")
+                .setMediaRoot("/media/")
+                .addConfiguration(ImmutableMap.of("core.culture", "en-US"))
+                .addResources(ImmutableMap.of("core.xDaysAgoText", "{0} days ago"))
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import com.sdl.webapp.common.api.localization.Localization;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class SemanticSchemaTest {
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldNotCompareLocalization() {
+        //given
+        SemanticSchema schema = new SemanticSchema(1L, "Article", Collections.emptySet(), Collections.emptyMap());
+        SemanticSchema other = new SemanticSchema(1L, "Article", Collections.emptySet(), Collections.emptyMap());
+        int hashCode = schema.hashCode();
+
+        //when
+        schema.setLocalization(mock(Localization.class));
+
+        //then
+        assertEquals(other, schema);
+        assertEquals(hashCode, schema.hashCode());
+        assertEquals(other.toString(), schema.toString());
+    }
+}
@@ -2,6 +2,8 @@ package com.sdl.webapp.common.api.model.entity;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sdl.dxa.DxaSpringInitialization;
+import com.sdl.webapp.common.api.mapping.semantic.config.LazyXPath;
+import com.sdl.webapp.common.api.mapping.semantic.config.XpmPropertyMetadata;
 import com.sdl.webapp.common.util.ApplicationContextHolder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -15,8 +17,10 @@ import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -83,6 +87,29 @@ public class AbstractEntityModelTest {
         assertEquals("value", entityModel.getExtensionData().get("key"));
     }
 
+    @Test
+    public void shouldKeepXPathsLazyInDeepCopy() {
+        //given
+        AtomicInteger builds = new AtomicInteger();
+        XpmPropertyMetadata metadata = new XpmPropertyMetadata();
+        metadata.putLazy("headline", LazyXPath.of(contextXPath -> {
+            builds.incrementAndGet();
+            return "tcm:Content/custom:Article/custom:headline";
+        }, null));
+        AbstractEntityModel entity = new AbstractEntityModel() {
+        };
+        entity.setXpmPropertyMetadata(metadata);
+
+        //when
+        AbstractEntityModel copy = entity.deepCopy();
+
+        //then
+        assertEquals(0, builds.get());
+        assertTrue(copy.getXpmPropertyMetadata() instanceof XpmPropertyMetadata);
+        assertNotSame(metadata, copy.getXpmPropertyMetadata());
+        assertEquals("tcm:Content/custom:Article/custom:headline", copy.getXpmPropertyMetadata().get("headline"));
+    }
+
     @org.springframework.context.annotation.Configuration
     @Profile("test")
     static class SpringConfig {
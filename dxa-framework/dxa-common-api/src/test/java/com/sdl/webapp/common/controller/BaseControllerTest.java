@@ -1,7 +1,10 @@
 package com.sdl.webapp.common.controller;
 
+import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.entity.ExceptionEntity;
+import com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Nullable;
@@ -16,6 +19,7 @@ import javax.servlet.http.HttpServletRequest;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -99,6 +103,44 @@ public class BaseControllerTest {
         assertNull(model.getMyProperty());
     }
 
+    @Test
+    public void shouldRenderFailedEnrichmentWithExceptionView() {
+        //given
+        BaseController controller = new BaseController() {
+            @Override
+            protected ViewModel enrichModel(ViewModel model, HttpServletRequest httpServletRequest) throws Exception {
+                throw new IllegalStateException("failed");
+            }
+        };
+        MyModel model = new MyModel();
+        model.setMvcData(MvcDataCreator.creator().fromQualifiedName("Core:Entity:Teaser").create());
+
+        //when
+        EntityModel result = BaseController.enrichEntityModel(controller, model, new MockHttpServletRequest());
+
+        //then
+        assertTrue(result instanceof ExceptionEntity);
+        assertEquals("ExceptionEntity", result.getMvcData().getViewName());
+    }
+
+    @Test
+    public void shouldKeepInterruptedState_WhenEnrichmentIsCancelled() {
+        //given
+        BaseController controller = new BaseController() {
+            @Override
+            protected ViewModel enrichModel(ViewModel model, HttpServletRequest httpServletRequest) throws Exception {
+                throw new InterruptedException();
+            }
+        };
+
+        //when
+        EntityModel result = BaseController.enrichEntityModel(controller, new MyModel(), new MockHttpServletRequest());
+
+        //then
+        assertTrue(result instanceof ExceptionEntity);
+        assertTrue(Thread.interrupted());
+    }
+
     @Data
     @EqualsAndHashCode(callSuper = true)
     private static class MyModel extends AbstractEntityModel {
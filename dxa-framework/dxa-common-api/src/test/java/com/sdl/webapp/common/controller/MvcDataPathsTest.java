@@ -0,0 +1,91 @@
+package com.sdl.webapp.common.controller;
+
+import com.sdl.webapp.common.api.model.MvcData;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator;
+import com.sdl.webapp.common.api.model.mvcdata.MvcDataImpl;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import lombok.EqualsAndHashCode;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MvcDataPathsTest {
+
+    private static MvcData mvcData() {
+        Map<String, String> routeValues = new LinkedHashMap<>();
+        routeValues.put("key", "value");
+        routeValues.put("other", "value2");
+        return MvcDataCreator.creator(MvcDataImpl.newBuilder()
+                .controllerName("Entity")
+                .actionName("Entity")
+                .areaName("Core")
+                .viewName("Article")
+                .routeValues(routeValues))
+                .create();
+    }
+
+    @Test
+    public void shouldBuildIncludePathsOfEntitiesAndRegions() throws Exception {
+        //given
+        MvcData mvcData = mvcData();
+        TestEntity entity = new TestEntity();
+        entity.setId("42");
+        entity.setMvcData(mvcData);
+        RegionModelImpl region = new RegionModelImpl("Main");
+        region.setMvcData(mvcData);
+
+        //when
+        String entityPath = ControllerUtils.getIncludePath(entity);
+        String regionPath = ControllerUtils.getIncludePath(region);
+
+        //then
+        assertEquals("/system/mvc/Framework/Entity/Entity/42?key=value&other=value2", entityPath);
+        assertEquals("/system/mvc/Framework/Entity/Entity/Main/?key=value&other=value2", regionPath);
+    }
+
+    @Test
+    public void shouldSharePathsOfEqualValues() {
+        //given
+        MvcData mvcData = mvcData();
+
+        //when
+        MvcDataPaths paths = MvcDataPaths.of(mvcData);
+
+        //then
+        assertSame(paths, MvcDataPaths.of(mvcData));
+        assertSame(paths.getViewName("Entity"), MvcDataPaths.of(mvcData).getViewName("Entity"));
+        assertEquals("Core/Entity/Article", paths.getViewName("Entity"));
+        assertEquals("Core/Region/Article", paths.getViewName("Region"));
+        assertSame(paths, MvcDataPaths.of(mvcData.deepCopy()));
+        assertSame(paths, MvcDataPaths.of(mvcData()));
+    }
+
+    @Test
+    public void shouldNotShareSnapshotWithChangedInstance() {
+        //given
+        MvcData mvcData = mvcData();
+        MvcDataPaths paths = MvcDataPaths.of(mvcData);
+
+        //when
+        mvcData.getRouteValues().clear();
+        MvcDataPaths changed = MvcDataPaths.of(mvcData);
+
+        //then
+        assertNotSame(paths, changed);
+        assertEquals("", changed.getQueryParameters());
+        assertEquals("/system/mvc/Framework/Entity/Entity/", changed.getIncludePathPrefix());
+        assertEquals("?key=value&other=value2", paths.getQueryParameters());
+        assertSame(paths, MvcDataPaths.of(mvcData()));
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    private static class TestEntity extends AbstractEntityModel {
+
+    }
+}
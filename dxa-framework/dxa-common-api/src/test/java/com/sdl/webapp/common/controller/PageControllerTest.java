@@ -2,25 +2,52 @@ package com.sdl.webapp.common.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Splitter;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.ContentProvider;
 import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.formats.DataFormatter;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.entity.ExceptionEntity;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
 import com.sdl.webapp.common.api.navigation.NavigationProvider;
 import com.sdl.webapp.common.api.navigation.NavigationProviderException;
 import com.sdl.webapp.common.exceptions.DxaException;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PageControllerTest {
@@ -34,9 +61,23 @@ public class PageControllerTest {
     @Mock
     private LinkResolver linkResolver;
 
+    @Mock
+    private ContentProvider contentProvider;
+
+    @Mock
+    private DataFormatter dataFormatters;
+
     @InjectMocks
     private PageController pageController;
 
+    private ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     public void shouldSetIgnoreForXpmForNavigationJson() throws JsonProcessingException, NavigationProviderException {
         //given
@@ -92,4 +133,153 @@ public class PageControllerTest {
         assertEquals("redirect:defaultPath", redirect2);
         assertEquals("redirect:/", redirect3);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldEnrichEmbeddedModelsConcurrently_WithRequestAttributes() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("marker", "value");
+        TestEntity first = new TestEntity("1");
+        TestEntity second = new TestEntity("2");
+        PageController controller = concurrentPageController(request, 5_000L, first, second);
+        EnrichingController enrichingController = new EnrichingController(0L);
+        doReturn(enrichingController).when(controller).getEnrichingController(any(EntityModel.class));
+
+        //when
+        controller.handleGetPageFormatted(request);
+
+        //then
+        assertEquals("value", first.enrichedWith);
+        assertEquals("value", second.enrichedWith);
+        assertNotEquals(Thread.currentThread().getName(), first.enrichedBy);
+    }
+
+    @Test
+    public void shouldFallbackToExceptionEntity_WhenEnrichmentTimesOut() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        TestEntity slow = new TestEntity("slow");
+        PageController controller = concurrentPageController(request, 50L, slow);
+        doReturn(new EnrichingController(5_000L)).when(controller).getEnrichingController(any(EntityModel.class));
+
+        //when
+        controller.handleGetPageFormatted(request);
+
+        //then
+        DefaultPageModel page = (DefaultPageModel) request.getAttribute("testPage");
+        EntityModel result = page.getRegions().get("Main").getEntities().get(0);
+        assertTrue(result instanceof ExceptionEntity);
+    }
+
+    @Test
+    public void shouldDetachRequestAttributes_WhenEnrichmentIsAbandoned() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("marker", "value");
+        TestEntity abandoned = new TestEntity("abandoned");
+        PageController controller = concurrentPageController(request, 50L, abandoned);
+        AbandonedController abandonedController = new AbandonedController();
+        doReturn(abandonedController).when(controller).getEnrichingController(any(EntityModel.class));
+
+        //when
+        controller.handleGetPageFormatted(request);
+        abandonedController.release.countDown();
+
+        //then
+        assertTrue(abandonedController.done.await(5, TimeUnit.SECONDS));
+        assertTrue(abandonedController.failure instanceof IllegalStateException);
+        assertNull(abandoned.enrichedWith);
+    }
+
+    @Test
+    public void shouldNotSubmitEntities_WithoutEnrichingController() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        TestEntity plain = new TestEntity("plain");
+        PageController controller = concurrentPageController(request, 5_000L, plain);
+        doReturn(null).when(controller).getEnrichingController(any(EntityModel.class));
+
+        //when
+        controller.handleGetPageFormatted(request);
+
+        //then
+        DefaultPageModel page = (DefaultPageModel) request.getAttribute("testPage");
+        assertSame(plain, page.getRegions().get("Main").getEntities().get(0));
+    }
+
+    private PageController concurrentPageController(MockHttpServletRequest request, long timeout, EntityModel... entities) throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        DefaultPageModel page = new DefaultPageModel();
+        RegionModelImpl region = new RegionModelImpl("Main");
+        for (EntityModel entity : entities) {
+            region.addEntity(entity);
+        }
+        page.getRegions().add(region);
+        request.setAttribute("testPage", page);
+
+        when(webRequestContext.getRequestPath()).thenReturn("/page");
+        when(webRequestContext.getLocalization()).thenReturn(mock(Localization.class));
+        when(contentProvider.getPageModel(anyString(), any(Localization.class))).thenReturn(page);
+
+        setField(pageController, "context", webRequestContext);
+        setField(pageController, "concurrentEnrichment", true);
+        setField(pageController, "concurrentEnrichmentTimeout", timeout);
+        setField(pageController, "enrichmentExecutor", executor);
+        return spy(pageController);
+    }
+
+    private static class TestEntity extends AbstractEntityModel {
+
+        private volatile String enrichedWith;
+
+        private volatile String enrichedBy;
+
+        TestEntity(String id) {
+            setId(id);
+        }
+    }
+
+    private static class AbandonedController extends BaseController {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private volatile Exception failure;
+
+        @Override
+        protected ViewModel enrichModel(ViewModel model, HttpServletRequest request) {
+            // ignores the interruption, like enrichment blocked in I/O would
+            Uninterruptibles.awaitUninterruptibly(release);
+            try {
+                ((TestEntity) model).enrichedWith = (String) RequestContextHolder.currentRequestAttributes()
+                        .getAttribute("marker", ServletRequestAttributes.SCOPE_REQUEST);
+            } catch (IllegalStateException e) {
+                failure = e;
+            } finally {
+                done.countDown();
+            }
+            return model;
+        }
+    }
+
+    private static class EnrichingController extends BaseController {
+
+        private final long delay;
+
+        EnrichingController(long delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        protected ViewModel enrichModel(ViewModel model, HttpServletRequest request) throws Exception {
+            Thread.sleep(delay);
+            TestEntity entity = (TestEntity) model;
+            entity.enrichedBy = Thread.currentThread().getName();
+            entity.enrichedWith = (String) RequestContextHolder.currentRequestAttributes()
+                    .getAttribute("marker", ServletRequestAttributes.SCOPE_REQUEST);
+            return entity;
+        }
+    }
+}
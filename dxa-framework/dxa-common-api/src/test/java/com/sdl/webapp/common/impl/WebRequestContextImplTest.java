@@ -1,6 +1,10 @@
 package com.sdl.webapp.common.impl;
 
+import com.sdl.webapp.common.api.MediaHelper;
+import com.sdl.webapp.common.api.RequestSnapshot;
+import com.sdl.webapp.common.api.ScreenWidth;
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.contextengine.ContextEngine;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationNotFoundException;
 import com.sdl.webapp.common.api.localization.LocalizationNotResolvedException;
@@ -17,15 +21,19 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.servlet.ServletRequest;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +49,12 @@ public class WebRequestContextImplTest {
     @Mock
     private HttpServletRequest servletRequest;
 
+    @Mock
+    private MediaHelper mediaHelper;
+
+    @Mock
+    private ContextEngine contextEngine;
+
     @Before
     public void init() {
         when(servletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8080/context/publication/request"));
@@ -194,4 +208,60 @@ public class WebRequestContextImplTest {
         //then
         assertEquals("http://localhost:8080", baseUrl);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnBaseUrl_WhenRequestUriHasRegexCharacters() {
+        //given
+        when(servletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8080/context/page(1)+.html"));
+        when(servletRequest.getRequestURI()).thenReturn("/context/page(1)+.html");
+
+        //when
+        String baseUrl = webRequestContext.getBaseUrl();
+
+        //then
+        assertEquals("http://localhost:8080", baseUrl);
+    }
+
+    @Test
+    public void shouldLookUpPreviewTokenOnlyOnce() {
+        //given
+        when(servletRequest.getCookies()).thenReturn(new Cookie[]{new Cookie("preview-session-token", "token")});
+
+        //when
+        boolean first = webRequestContext.isSessionPreview();
+        boolean second = webRequestContext.isSessionPreview();
+
+        //then
+        assertTrue(first);
+        assertTrue(second);
+        assertEquals("token", webRequestContext.getPreviewToken());
+        verify(servletRequest, times(1)).getCookies();
+    }
+
+    @Test
+    public void shouldComputeSnapshotOnceAndExposeItAsRequestAttribute() throws Exception {
+        //given
+        Localization localization = mock(Localization.class);
+        when(localizationResolver.getLocalization(anyString())).thenReturn(localization);
+        when(servletRequest.getServerName()).thenReturn("example.com");
+        when(mediaHelper.getSmallScreenBreakpoint()).thenReturn(480);
+        when(mediaHelper.getMediumScreenBreakpoint()).thenReturn(940);
+        when(mediaHelper.getLargeScreenBreakpoint()).thenReturn(1140);
+
+        //when
+        RequestSnapshot snapshot = webRequestContext.getSnapshot();
+
+        //then
+        assertSame(snapshot, webRequestContext.getSnapshot());
+        verify(servletRequest).setAttribute(RequestSnapshot.REQUEST_ATTRIBUTE, snapshot);
+        assertSame(localization, snapshot.getLocalization());
+        assertEquals("http://localhost:8080", snapshot.getBaseUrl());
+        assertEquals("/context", snapshot.getContextPath());
+        assertEquals("/publication/request", snapshot.getRequestPath());
+        assertEquals("http://localhost:8080/context/publication/request", snapshot.getFullUrl());
+        assertEquals(ScreenWidth.MEDIUM, snapshot.getScreenWidth());
+        assertEquals(1.0, snapshot.getPixelRatio(), 0.0);
+        assertFalse(snapshot.isSessionPreview());
+        assertFalse(snapshot.isDeveloperMode());
+    }
+}
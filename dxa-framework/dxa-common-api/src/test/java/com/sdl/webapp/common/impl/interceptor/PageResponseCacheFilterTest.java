@@ -0,0 +1,276 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.dxa.caching.CachedPageResponse;
+import com.sdl.dxa.caching.wrapper.PageResponseCache;
+import com.sdl.webapp.common.markup.html.PreEncodedOutput;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PageResponseCacheFilterTest {
+
+    private static final String BODY = "<html><body>Hello</body></html>";
+
+    @Mock
+    private PageResponseCache pageResponseCache;
+
+    private PageResponseCacheFilter filter;
+
+    @Before
+    public void init() {
+        when(pageResponseCache.isCachingEnabled()).thenReturn(true);
+        when(pageResponseCache.getSpecificKey(any(HttpServletRequest.class))).thenReturn("key");
+        filter = new PageResponseCacheFilter(pageResponseCache);
+    }
+
+    private static MockFilterChain renderingChain(String contentType) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                resp.setCharacterEncoding("UTF-8");
+                resp.getWriter().write(BODY);
+            }
+        });
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[1024];
+            int read = in.read(buffer);
+            byte[] result = new byte[read];
+            System.arraycopy(buffer, 0, result, 0, read);
+            return result;
+        }
+    }
+
+    @Test
+    public void shouldCacheRenderedPage() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, renderingChain("text/html"));
+
+        //then
+        assertEquals(BODY, response.getContentAsString());
+        ArgumentCaptor<CachedPageResponse> captor = ArgumentCaptor.forClass(CachedPageResponse.class);
+        verify(pageResponseCache).addAndGet(eq("key"), captor.capture());
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), captor.getValue().getIdentity());
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), gunzip(captor.getValue().getGzip()));
+    }
+
+    @Test
+    public void shouldServeGzipFromCache() throws Exception {
+        //given
+        CachedPageResponse cached = CachedPageResponse.of("text/html", "UTF-8", BODY.getBytes(StandardCharsets.UTF_8));
+        when(pageResponseCache.get("key")).thenReturn(cached);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        verifyZeroInteractions(chain);
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding, User-Agent, Cookie", response.getHeader("Vary"));
+        assertArrayEquals(cached.getGzip(), response.getContentAsByteArray());
+        assertEquals(cached.getGzip().length, response.getContentLength());
+    }
+
+    @Test
+    public void shouldServeIdentityFromCache() throws Exception {
+        //given
+        CachedPageResponse cached = CachedPageResponse.of("text/html", "UTF-8", BODY.getBytes(StandardCharsets.UTF_8));
+        when(pageResponseCache.get("key")).thenReturn(cached);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(new MockHttpServletRequest("GET", "/page"), response, mock(FilterChain.class));
+
+        //then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    public void shouldBypassPreviewRequests() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+        request.setCookies(new Cookie("preview-session-token", "token"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, renderingChain("text/html"));
+
+        //then
+        assertEquals(BODY, response.getContentAsString());
+        verify(pageResponseCache, never()).get(any());
+        verify(pageResponseCache, never()).addAndGet(any(), any(CachedPageResponse.class));
+    }
+
+    @Test
+    public void shouldNotCacheNonHtmlOrSessionResponses() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), renderingChain("application/json"));
+        MockHttpServletRequest withSession = new MockHttpServletRequest("GET", "/page");
+        filter.doFilter(withSession, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.getSession(true);
+                resp.setContentType("text/html");
+                resp.getWriter().write(BODY);
+            }
+        }));
+
+        //then
+        verify(pageResponseCache, never()).addAndGet(any(), any(CachedPageResponse.class));
+    }
+
+    @Test
+    public void shouldPassNonPageRequestsThroughUnwrapped() throws Exception {
+        //given
+        MockHttpServletRequest image = new MockHttpServletRequest("GET", "/media/image.jpg");
+        MockHttpServletRequest asset = new MockHttpServletRequest("GET", "/system/v1.7/assets/css/main.css");
+        MockHttpServletRequest json = new MockHttpServletRequest("GET", "/page");
+        json.setParameter("format", "json");
+        MockHttpServletRequest api = new MockHttpServletRequest("GET", "/page");
+        api.addHeader("Accept", "application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        for (MockHttpServletRequest request : new MockHttpServletRequest[]{image, asset, json, api}) {
+            FilterChain chain = mock(FilterChain.class);
+
+            //when
+            filter.doFilter(request, response, chain);
+
+            //then
+            verify(chain).doFilter(request, response);
+        }
+        verify(pageResponseCache, never()).get(any());
+    }
+
+    @Test
+    public void shouldCacheHtmlPageUrls() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/about/index.html");
+        request.addHeader("Accept", "text/html,application/xhtml+xml,*/*;q=0.8");
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), renderingChain("text/html"));
+
+        //then
+        verify(pageResponseCache).addAndGet(eq("key"), any(CachedPageResponse.class));
+    }
+
+    @Test
+    public void shouldAppendPreEncodedOutputInOrder() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("text/html");
+                resp.setCharacterEncoding("UTF-8");
+                resp.getWriter().write("<html>");
+                PreEncodedOutput.of(req).write("<p>Größe</p>".getBytes(StandardCharsets.UTF_8));
+                resp.getWriter().write("</html>");
+            }
+        }));
+
+        //then
+        assertEquals("<html><p>Größe</p></html>", response.getContentAsString());
+        assertNull(PreEncodedOutput.of(request));
+    }
+
+    @Test
+    public void shouldReplayHeadersOfCachedResponse() throws Exception {
+        //given
+        MockHttpServletResponse rendered = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/page"), rendered, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("text/html");
+                resp.setHeader("Content-Language", "en");
+                resp.addHeader("Link", "</a.css>; rel=preload");
+                resp.addHeader("Link", "</b.js>; rel=preload");
+                resp.getWriter().write(BODY);
+            }
+        }));
+        ArgumentCaptor<CachedPageResponse> captor = ArgumentCaptor.forClass(CachedPageResponse.class);
+        verify(pageResponseCache).addAndGet(eq("key"), captor.capture());
+        when(pageResponseCache.get("key")).thenReturn(captor.getValue());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(new MockHttpServletRequest("GET", "/page"), response, mock(FilterChain.class));
+
+        //then
+        assertEquals("Accept-Encoding, User-Agent, Cookie", rendered.getHeader("Vary"));
+        assertEquals(Collections.singletonList("en"), captor.getValue().getHeaders().get("Content-Language"));
+        assertNull(captor.getValue().getHeaders().get("Vary"));
+        assertNull(captor.getValue().getHeaders().get("Content-Type"));
+        assertEquals("en", response.getHeader("Content-Language"));
+        assertEquals(Arrays.asList("</a.css>; rel=preload", "</b.js>; rel=preload"), response.getHeaders("Link"));
+        assertEquals("Accept-Encoding, User-Agent, Cookie", response.getHeader("Vary"));
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    public void shouldBuildKeyInRequestScope() throws Exception {
+        //given
+        when(pageResponseCache.getSpecificKey(any(HttpServletRequest.class))).then(invocation -> {
+            assertNotNull(RequestContextHolder.getRequestAttributes());
+            return "key";
+        });
+
+        //when
+        filter.doFilter(new MockHttpServletRequest("GET", "/page"), new MockHttpServletResponse(), renderingChain("text/html"));
+
+        //then
+        verify(pageResponseCache).get("key");
+        assertNull(RequestContextHolder.getRequestAttributes());
+    }
+}
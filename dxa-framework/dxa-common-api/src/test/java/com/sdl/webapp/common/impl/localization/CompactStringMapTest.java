@@ -0,0 +1,67 @@
+package com.sdl.webapp.common.impl.localization;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactStringMapTest {
+
+    @Test
+    public void shouldBehaveAsCopiedMap() {
+        //given
+        Map<String, String> source = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            source.put("core.key" + i, "value" + i);
+        }
+
+        //when
+        CompactStringMap map = CompactStringMap.copyOf(source);
+
+        //then
+        assertEquals(source, map);
+        assertEquals(source.hashCode(), map.hashCode());
+        assertEquals(100, map.size());
+        assertEquals("value42", map.get("core.key42"));
+        assertTrue(map.containsKey("core.key0"));
+        assertFalse(map.containsKey("core.key100"));
+        assertNull(map.get("unknown"));
+        assertNull(map.get(42));
+    }
+
+    @Test
+    public void shouldIterateInKeyOrder() {
+        //given
+        CompactStringMap map = CompactStringMap.copyOf(ImmutableMap.of("b", "2", "c", "3", "a", "1"));
+
+        //when
+        StringBuilder keys = new StringBuilder();
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            keys.append(entry.getKey()).append(entry.getValue());
+        }
+
+        //then
+        assertEquals("a1b2c3", keys.toString());
+    }
+
+    @Test
+    public void shouldShareKeysBetweenMaps() {
+        //given
+        String key = "core.readMore";
+
+        //when
+        CompactStringMap first = CompactStringMap.copyOf(ImmutableMap.of(new String(key), "Read more"));
+        CompactStringMap second = CompactStringMap.copyOf(ImmutableMap.of(new String(key), "Lees meer"));
+
+        //then
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+        assertSame(CompactStringMap.copyOf(new HashMap<>()), CompactStringMap.copyOf(ImmutableMap.of()));
+    }
+}
@@ -12,11 +12,17 @@ import org.junit.Test;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.springframework.test.util.ReflectionTestUtils.getField;
 
@@ -252,6 +258,44 @@ public class LocalizationImplTest {
         assertEquals(1, local.getSiteLocalizations().size());
     }
 
+    @Test
+    public void shouldShareDataBetweenManyLocalizations() throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        //given
+        int localizationsCount = 300;
+        int resourcesCount = 200;
+        String[] languages = {"en", "nl", "de"};
+        List<Localization> localizations = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < localizationsCount; i++) {
+            Builder builder = getBuilder();
+            Map<String, String> resources = new HashMap<>();
+            for (int j = 0; j < resourcesCount; j++) {
+                resources.put("core.resource" + j, languages[i % languages.length] + " text " + j);
+            }
+            builder.setId(String.valueOf(i))
+                    .addResources(resources)
+                    .addConfiguration(Collections.singletonMap("core.culture", languages[i % languages.length]))
+                    .addSemanticSchema(new SemanticSchema(1, "Article", Collections.emptySet(), Collections.emptyMap()))
+                    .addInclude("Home", "system/include/header");
+            localizations.add(builder.build());
+        }
+
+        //then
+        Set<String> retainedStrings = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Localization localization : localizations) {
+            for (Map.Entry<String, String> entry : ((Map<String, String>) getField(localization, "resources")).entrySet()) {
+                retainedStrings.add(entry.getKey());
+                retainedStrings.add(entry.getValue());
+            }
+            assertSame(localizations.get(0).getSemanticSchemas(), localization.getSemanticSchemas());
+            assertSame(getField(localizations.get(0), "includes"), getField(localization, "includes"));
+        }
+        assertEquals("Keys and values are kept once for all localizations",
+                resourcesCount + resourcesCount * languages.length, retainedStrings.size());
+        assertEquals("nl text 7", localizations.get(1).getResource("core.resource7"));
+    }
+
     private Builder getBuilder() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         Constructor<Builder> declaredConstructor = Builder.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
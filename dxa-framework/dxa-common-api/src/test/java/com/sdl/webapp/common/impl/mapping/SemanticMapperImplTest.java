@@ -1,6 +1,8 @@
 package com.sdl.webapp.common.impl.mapping;
 
 import com.google.common.collect.ImmutableMap;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
 import com.sdl.webapp.common.api.mapping.semantic.FieldData;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticFieldDataProvider;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
@@ -10,8 +12,10 @@ import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticEntity;
 import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticProperties;
 import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticProperty;
 import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.LazyXPath;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.mapping.semantic.config.WithXPath;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,14 +29,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SCHEMA_ORG;
@@ -44,6 +53,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -118,6 +128,84 @@ public class SemanticMapperImplTest {
         assertThat(xpmMetadata, hasEntry("manyMappingsNoValue", "tcm:Content/custom:TestArticle/custom:manyMappingsNoValue"));
     }
 
+    @Test
+    public void shouldNotBuildXPaths_OutsideOfPreviewSession() throws SemanticMappingException, NoSuchFieldException {
+        //given
+        SemanticSchema semanticSchema = new SemanticSchema(1L, "not important", Collections.emptySet(), TestArticle.getSemantics());
+        when(fieldDataProvider.getSemanticSchema()).thenReturn(semanticSchema);
+        AtomicInteger xPaths = new AtomicInteger();
+        WithXPath headline = contextXPath -> {
+            xPaths.incrementAndGet();
+            return "tcm:Content/HeadlineField";
+        };
+        mockData(TestArticle.class.getDeclaredField("headline"), TestArticle.SEMANTIC_FIELDS.get("headline"),
+                new FieldData("HEADLINE", LazyXPath.of(headline, null)), new FieldData("HEADLINE", LazyXPath.of(headline, null)));
+
+        WebRequestContext webRequestContext = mock(WebRequestContext.class);
+        ReflectionTestUtils.setField(semanticMapper, "webRequestContext", webRequestContext);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        try {
+            //when
+            TestArticle article = semanticMapper.createEntity(TestArticle.class, TestArticle.getSemantics(), fieldDataProvider);
+
+            //then
+            assertThat(article.getHeadline(), is("HEADLINE"));
+            assertEquals(0, xPaths.get());
+            Map<String, String> xpmMetadata = article.getXpmPropertyMetadata();
+            assertThat(xpmMetadata, hasEntry("headline", "tcm:Content/HeadlineField"));
+            assertThat(xpmMetadata, hasEntry("emptyField", "tcm:Content/custom:TestArticle/custom:emptyField"));
+            assertEquals(1, xPaths.get());
+
+            //when
+            when(webRequestContext.isSessionPreview()).thenReturn(true);
+            semanticMapper.createEntity(TestArticle.class, TestArticle.getSemantics(), fieldDataProvider);
+
+            //then
+            assertEquals(2, xPaths.get());
+        } finally {
+            ReflectionTestUtils.setField(semanticMapper, "webRequestContext", null);
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    public void shouldTakePreviewStateFromModelBuildingContext() throws SemanticMappingException, NoSuchFieldException {
+        //given
+        SemanticSchema semanticSchema = new SemanticSchema(1L, "not important", Collections.emptySet(), TestArticle.getSemantics());
+        when(fieldDataProvider.getSemanticSchema()).thenReturn(semanticSchema);
+        AtomicInteger xPaths = new AtomicInteger();
+        WithXPath headline = contextXPath -> {
+            xPaths.incrementAndGet();
+            return "tcm:Content/HeadlineField";
+        };
+        mockData(TestArticle.class.getDeclaredField("headline"), TestArticle.SEMANTIC_FIELDS.get("headline"),
+                new FieldData("HEADLINE", LazyXPath.of(headline, null)), new FieldData("HEADLINE", LazyXPath.of(headline, null)));
+
+        WebRequestContext webRequestContext = mock(WebRequestContext.class);
+        ReflectionTestUtils.setField(semanticMapper, "webRequestContext", webRequestContext);
+
+        try {
+            //when
+            ModelBuildingContext.bind(new ModelBuildingContext(null, null, false));
+            semanticMapper.createEntity(TestArticle.class, TestArticle.getSemantics(), fieldDataProvider);
+
+            //then
+            assertEquals(0, xPaths.get());
+
+            //when
+            ModelBuildingContext.bind(new ModelBuildingContext(null, null, true));
+            semanticMapper.createEntity(TestArticle.class, TestArticle.getSemantics(), fieldDataProvider);
+
+            //then
+            assertEquals(1, xPaths.get());
+            verifyZeroInteractions(webRequestContext);
+        } finally {
+            ModelBuildingContext.bind(null);
+            ReflectionTestUtils.setField(semanticMapper, "webRequestContext", null);
+        }
+    }
+
     private static class SemanticMapBuilder extends ImmutableMap.Builder<FieldSemantics, SemanticField> {
 
         SemanticMapBuilder both(String entityName, String propertyName, SemanticField field) {
@@ -0,0 +1,177 @@
+package com.sdl.webapp.common.impl.mapping;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.mapping.semantic.FieldData;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticFieldDataProvider;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.LazyXPath;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Allocation benchmark: maps the entities of a large page in an XPM session, where all XPaths are built,
+ * and on a live site, where only lazy XPath descriptors are kept, and compares the allocated bytes.
+ */
+@Slf4j
+public class SemanticMapperXPathBenchmarkTest {
+
+    private static final int ENTITIES = 2000;
+
+    private static final String[] FIELDS = {"headline", "text", "link", "date", "author", "category"};
+
+    private static final SemanticField TEASERS = new SemanticField("teasers", "/TestPage/teasers", true, Collections.emptyMap());
+
+    private final Map<FieldSemantics, SemanticField> semantics = semantics();
+
+    private final SemanticSchema schema = new SemanticSchema(1L, "TestPage", Collections.emptySet(), semantics);
+
+    private final WebRequestContext webRequestContext = mock(WebRequestContext.class);
+
+    private SemanticMapperImpl semanticMapper;
+
+    private static Map<FieldSemantics, SemanticField> semantics() {
+        ImmutableMap.Builder<FieldSemantics, SemanticField> builder = ImmutableMap.builder();
+        for (String field : FIELDS) {
+            builder.put(new FieldSemantics(SDL_CORE_VOCABULARY, "TestTeaser", field),
+                    new SemanticField(field, "/TestPage/teasers/" + field, false, Collections.emptyMap()));
+        }
+        return builder.build();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Before
+    public void init() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean &&
+                ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported());
+
+        SemanticMappingRegistryImpl registry = new SemanticMappingRegistryImpl();
+        registry.registerEntity(TestTeaser.class);
+        semanticMapper = new SemanticMapperImpl(registry);
+        ReflectionTestUtils.setField(semanticMapper, "webRequestContext", webRequestContext);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @After
+    public void reset() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private List<TestTeaser> mapPage(boolean lazy) throws SemanticMappingException {
+        ReflectionTestUtils.setField(semanticMapper, "lazyXpmMetadata", lazy);
+        List<TestTeaser> teasers = new ArrayList<>(ENTITIES);
+        for (int i = 0; i < ENTITIES; i++) {
+            // like DefaultSemanticFieldDataProvider#iteration for items of a multi-value field
+            TeaserFieldDataProvider provider = new TeaserFieldDataProvider(i, LazyXPath.of(TEASERS, null, i + 1));
+            teasers.add(semanticMapper.createEntity(TestTeaser.class, semantics, provider));
+        }
+        return teasers;
+    }
+
+    private long measure(boolean lazy) throws SemanticMappingException {
+        long before = allocatedBytes();
+        mapPage(lazy);
+        return allocatedBytes() - before;
+    }
+
+    @Test
+    public void shouldAllocateLessWhenXPathsAreLazy() throws SemanticMappingException {
+        //given
+        for (int i = 0; i < 3; i++) {
+            measure(false);
+            measure(true);
+        }
+
+        //when
+        long eager = measure(false);
+        long lazy = measure(true);
+        log.info("Mapping {} entities with {} fields: {} KB with XPaths, {} KB with lazy XPaths",
+                ENTITIES, FIELDS.length, eager / 1024, lazy / 1024);
+
+        //then
+        TestTeaser teaser = mapPage(true).get(41);
+        assertEquals("text 41", teaser.getText());
+        assertEquals("tcm:Content/custom:TestPage/custom:teasers[42]/custom:text", teaser.getXpmPropertyMetadata().get("text"));
+        assertEquals(mapPage(false).get(41).getXpmPropertyMetadata(), teaser.getXpmPropertyMetadata());
+        assertTrue("Lazy XPaths should allocate less, but allocated " + lazy + " vs " + eager + " bytes", lazy < eager);
+    }
+
+    private class TeaserFieldDataProvider implements SemanticFieldDataProvider {
+
+        private final int index;
+
+        private final LazyXPath context;
+
+        private TeaserFieldDataProvider(int index, LazyXPath context) {
+            this.index = index;
+            this.context = context;
+        }
+
+        @Override
+        public FieldData getFieldData(SemanticField semanticField, TypeDescriptor targetType) {
+            return new FieldData(semanticField.getName() + ' ' + index, LazyXPath.of(semanticField, context));
+        }
+
+        @Override
+        public Object getSelfFieldData(TypeDescriptor targetType) {
+            return null;
+        }
+
+        @Override
+        public <T> Map<String, T> getAllFieldData(Class<T> targetType) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public SemanticSchema getSemanticSchema() {
+            return schema;
+        }
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    @Data
+    public static class TestTeaser extends AbstractEntityModel {
+
+        private String headline;
+
+        private String text;
+
+        private String link;
+
+        private String date;
+
+        private String author;
+
+        private String category;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.impl.markup;
 
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
 import com.sdl.webapp.common.api.model.entity.SitemapItem;
 import com.sdl.webapp.common.api.model.region.RegionModelImpl;
@@ -14,12 +15,16 @@ import org.joda.time.format.DateTimeFormat;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class MarkupImplTest {
 
@@ -204,6 +209,46 @@ public class MarkupImplTest {
         assertEquals("", propertyReturn3);
     }
 
+    @Test
+    public void shouldBuildSemanticAttributesOncePerClass() throws NoSuchFieldException {
+        //given
+        MarkupTest.MarkupTestConfig config = new MarkupTest.MarkupTestConfig();
+        SemanticMappingRegistry semanticMappingRegistry = config.semanticMappingRegistry();
+        WebRequestContext webRequestContext = mock(WebRequestContext.class);
+        MarkupImpl markup = new MarkupImpl(semanticMappingRegistry, webRequestContext);
+        TestEntity entity = new TestEntity();
+        entity.setXpmPropertyMetadata(Collections.singletonMap("testField", "xmp"));
+
+        //when
+        String entityReturn = markup.entity(entity);
+        String propertyReturn = markup.property(entity, "testField");
+        String propertyReturn2 = markup.property(new TestEntity(), "testField", 1);
+        String propertyReturn3 = markup.property(entity, "hiddenField");
+
+        //then
+        assertEquals("prefix=\"s: http://schema.org/\" typeof=\"s:SchemaEnt\"", entityReturn);
+        assertEquals("property=\"s:TheField\"", propertyReturn);
+        assertEquals("property=\"s:TheField\"", propertyReturn2);
+        assertEquals("", propertyReturn3);
+        verify(semanticMappingRegistry, times(1)).getEntityInfo(TestEntity.class);
+        verify(semanticMappingRegistry, times(1)).getPropertyInfo(TestEntity.class.getDeclaredField("testField"));
+    }
+
+    @Test
+    public void shouldAddXpathOfEachPropertyInPreview() {
+        //given
+        TestEntity entity = new TestEntity();
+        entity.setXpmPropertyMetadata(Collections.singletonMap("testField", "xmp"));
+
+        //when
+        String first = markup.property(entity, "testField", 0);
+        String second = markup.property(entity, "testField", 1);
+
+        //then
+        assertEquals("property=\"s:TheField\" data-entity-property-xpath=\"xmp[1]\"", first);
+        assertEquals("property=\"s:TheField\" data-entity-property-xpath=\"xmp[2]\"", second);
+    }
+
     @Test
     public void shouldReturnSiteMapList() {
         //given
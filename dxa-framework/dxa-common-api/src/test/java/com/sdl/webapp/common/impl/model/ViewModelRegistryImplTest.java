@@ -3,28 +3,36 @@ package com.sdl.webapp.common.impl.model;
 import com.google.common.collect.Sets;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.model.MvcData;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.api.model.ViewModelRegistry;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
 import com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator;
 import com.sdl.webapp.common.exceptions.DxaException;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.springframework.test.util.ReflectionTestUtils.getField;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ViewModelRegistryImplTest {
 
+    private static final int VIEWS = 300;
+
     @Mock
     private SemanticMappingRegistry semanticMappingRegistry;
 
@@ -126,6 +134,98 @@ public class ViewModelRegistryImplTest {
         assertEquals(TestEntity2.class, entityClass);
     }
 
+    @Test
+    public void shouldResolveViewModelType_ByControllerAreaAndView() throws DxaException {
+        //given
+        registry.registerViewModel(MvcDataCreator.creator()
+                .fromQualifiedName("Other:Entity:TestEntity")
+                .create(), TestEntity3.class);
+
+        //when
+        Class<? extends ViewModel> exact = registry.getViewModelType(MvcDataCreator.creator()
+                .fromQualifiedName("Other:Entity:TestEntity").create());
+        Class<? extends ViewModel> byController = registry.getViewModelType(MvcDataCreator.creator()
+                .fromQualifiedName("Unknown:Entity:TestEntity2").create());
+
+        //then
+        assertEquals(TestEntity3.class, exact);
+        assertEquals(TestEntity2.class, byController);
+    }
+
+    @Test
+    public void shouldPreferFirstRegistered_WhenOnlyViewNameMatches() throws DxaException {
+        //given
+        registry.registerViewModel(MvcDataCreator.creator()
+                .fromQualifiedName("Other:Entity:TestEntity")
+                .create(), TestEntity3.class);
+        MvcData viewData = MvcDataCreator.creator()
+                .fromQualifiedName("Unknown:Entity:TestEntity")
+                .create();
+
+        //when
+        Class<? extends ViewModel> viewModelType = registry.getViewModelType(viewData);
+
+        //then
+        assertEquals(TestEntity.class, viewModelType);
+    }
+
+    @Test(expected = DxaException.class)
+    public void shouldThrowException_WhenViewModelTypeNotFound() throws DxaException {
+        //when
+        registry.getViewModelType(MvcDataCreator.creator().fromQualifiedName("Area:Entity:Unknown").create());
+    }
+
+    @Test
+    public void shouldResolveViewModelsForLargePage() throws DxaException {
+        //given
+        List<MvcData> page = registerLargePage();
+
+        //when
+        //then
+        resolveLargePage(page, 1);
+    }
+
+    @Test
+    @Ignore("benchmark, timing depends on the build machine")
+    public void shouldResolveViewModelsForLargePage_WithoutDegradation() throws DxaException {
+        //given
+        List<MvcData> page = registerLargePage();
+
+        //when
+        long start = System.nanoTime();
+        resolveLargePage(page, 200);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        //then
+        // lookups are map reads now, so this must not grow with the number of registered views
+        assertTrue("Resolving view models took " + elapsed + " ms", elapsed < 2_000);
+    }
+
+    private List<MvcData> registerLargePage() {
+        for (int i = 0; i < VIEWS; i++) {
+            registry.registerViewModel(MvcDataCreator.creator()
+                    .fromQualifiedName("Area" + (i % 7) + ":Entity:View" + i)
+                    .create(), i % 2 == 0 ? TestEntity2.class : TestEntity3.class);
+        }
+        List<MvcData> page = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int view = i % VIEWS;
+            page.add(MvcDataCreator.creator()
+                    .fromQualifiedName((i % 3 == 0 ? "Elsewhere" : "Area" + (view % 7)) + ":Entity:View" + view)
+                    .create());
+        }
+        return page;
+    }
+
+    private void resolveLargePage(List<MvcData> page, int pageRenders) throws DxaException {
+        for (int render = 0; render < pageRenders; render++) {
+            for (int i = 0; i < page.size(); i++) {
+                Class<? extends ViewModel> viewModelType = registry.getViewModelType(page.get(i));
+                assertEquals(i % VIEWS % 2 == 0 ? TestEntity2.class : TestEntity3.class, viewModelType);
+            }
+        }
+    }
+
     private class TestEntity extends AbstractEntityModel {
 
     }
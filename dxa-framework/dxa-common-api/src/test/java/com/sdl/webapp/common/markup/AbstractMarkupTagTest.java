@@ -0,0 +1,193 @@
+package com.sdl.webapp.common.markup;
+
+import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
+import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.markup.html.HtmlTextNode;
+import com.sdl.webapp.common.markup.html.PreEncodedHtmlNode;
+import com.sdl.webapp.common.markup.html.PreEncodedOutput;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockPageContext;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractMarkupTagTest {
+
+    private static final String INCLUDE = "/system/mvc/Core/Entity/Article";
+
+    @Mock
+    private MarkupDecoratorRegistry markupDecoratorRegistry;
+
+    @Mock
+    private MarkupDecorator markupDecorator;
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
+    @Mock
+    private OutputCache outputCache;
+
+    @Mock
+    private ViewModel model;
+
+    private MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private MockPageContext pageContext = new MockPageContext(new MockServletContext(), request, response);
+
+    private TestTag tag = new TestTag();
+
+    @Before
+    public void init() {
+        when(markupDecoratorRegistry.getDecorators("Test")).thenReturn(Collections.singletonList(markupDecorator));
+        tag.setPageContext(pageContext);
+    }
+
+    @Test
+    public void shouldStreamIncludeIfNoDecoratorApplies() throws Exception {
+        //given
+        when(markupDecorator.isApplicable(model, webRequestContext)).thenReturn(false);
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        assertEquals(INCLUDE, response.getIncludedUrl());
+        verify(markupDecorator, never()).process(any(), any(), any());
+    }
+
+    @Test
+    public void shouldNotStreamIfDecoratorNeedsBuffering() {
+        //given
+        when(markupDecorator.isApplicable(model, webRequestContext)).thenReturn(true);
+
+        //when
+        Boolean streamed = invokeMethod(tag, "streamInclude", INCLUDE, model);
+
+        //then
+        assertFalse(streamed);
+        assertEquals(0, response.getIncludedUrls().size());
+    }
+
+    @Test
+    public void shouldNotStreamIfOutputIsCached() {
+        //given
+        when(outputCache.isCachingEnabled()).thenReturn(true);
+        tag.cacheKey = Optional.of(new CompositeOutputCacheKeyBase("1", "view", INCLUDE, null, null));
+
+        //when
+        Boolean streamed = invokeMethod(tag, "streamInclude", INCLUDE, model);
+
+        //then
+        assertFalse(streamed);
+        verify(markupDecorator, never()).isApplicable(any(), any());
+    }
+
+    @Test
+    public void shouldStreamIfOutputIsNotCached() {
+        //when
+        Boolean streamed = invokeMethod(tag, "streamInclude", INCLUDE, model);
+
+        //then
+        assertTrue(streamed);
+        assertEquals(INCLUDE, response.getIncludedUrl());
+    }
+
+    @Test
+    public void shouldWritePreEncodedOutputAsBytes() throws Exception {
+        //given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        request.setAttribute(PreEncodedOutput.REQUEST_ATTRIBUTE, (PreEncodedOutput) utf8 -> {
+            bytes.write(response.getContentAsByteArray());
+            bytes.write(utf8);
+            return true;
+        });
+        when(outputCache.isCachingEnabled()).thenReturn(true);
+        when(outputCache.get(any())).thenReturn(PreEncodedHtmlNode.of(new HtmlTextNode("<p>Größe</p>", false)));
+        tag.cacheKey = Optional.of(new CompositeOutputCacheKeyBase("1", "view", INCLUDE, null, null));
+        pageContext.getOut().write("<div>");
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        assertEquals("<div><p>Größe</p>", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals("<div>", response.getContentAsString());
+    }
+
+    @Test
+    public void shouldWritePreEncodedOutputAsTextInIncludes() throws Exception {
+        //given
+        request.setAttribute(PreEncodedOutput.REQUEST_ATTRIBUTE, (PreEncodedOutput) utf8 -> {
+            throw new AssertionError("Included views must not write bytes");
+        });
+        request.setAttribute("javax.servlet.include.request_uri", "/system/mvc/Core/Region/Main");
+        when(outputCache.isCachingEnabled()).thenReturn(true);
+        when(outputCache.get(any())).thenReturn(PreEncodedHtmlNode.of(new HtmlTextNode("<p>text</p>", false)));
+        tag.cacheKey = Optional.of(new CompositeOutputCacheKeyBase("1", "view", INCLUDE, null, null));
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+        pageContext.getOut().flush();
+
+        //then
+        assertEquals("<p>text</p>", response.getContentAsString());
+    }
+
+    private class TestTag extends AbstractMarkupTag {
+
+        private Optional<CompositeOutputCacheKeyBase> cacheKey = Optional.empty();
+
+        @Override
+        protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
+            return cacheKey;
+        }
+
+        @Override
+        protected MarkupDecoratorRegistry getMarkupDecoratorRegistry() {
+            return markupDecoratorRegistry;
+        }
+
+        @Override
+        protected WebRequestContext getWebRequestContext() {
+            return webRequestContext;
+        }
+
+        @Override
+        protected boolean isSessionPreview() {
+            return false;
+        }
+
+        @Override
+        protected OutputCache getOutputCache() {
+            return outputCache;
+        }
+
+        @Override
+        protected boolean isStreamingEnabled() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.sdl.webapp.common.markup;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class MarkupEventWriterTest {
+
+    private static final String HTML = "<div class=\"a > b\" data-xpath='x'>\n" +
+            "<!-- comment --><p>Text &amp; more</p><br/>" +
+            "<script>if (a<b) { document.write('<p data-xpath=\"y\">'); }</script>" +
+            "</div>";
+
+    private static String write(String html, int chunkSize, MarkupEventHandler handler) throws IOException {
+        StringWriter out = new StringWriter();
+        try (MarkupEventWriter writer = new MarkupEventWriter(out, Collections.singletonList(handler))) {
+            for (int i = 0; i < html.length(); i += chunkSize) {
+                writer.write(html.substring(i, Math.min(html.length(), i + chunkSize)));
+            }
+        }
+        return out.toString();
+    }
+
+    @Test
+    public void shouldPassMarkupThroughInAnyChunks() throws IOException {
+        for (int chunkSize = 1; chunkSize <= HTML.length(); chunkSize++) {
+            assertEquals("Chunk size " + chunkSize, HTML, write(HTML, chunkSize, new MarkupEventHandler() {
+            }));
+        }
+    }
+
+    @Test
+    public void shouldReportEvents() throws IOException {
+        //given
+        List<String> events = new ArrayList<>();
+        MarkupEventHandler handler = new MarkupEventHandler() {
+            @Override
+            public void startElement(MarkupElement element, Writer out) {
+                events.add("<" + element.getName());
+            }
+
+            @Override
+            public void endElement(String name, Writer out) {
+                events.add("/" + name);
+            }
+
+            @Override
+            public void comment(String comment, Writer out) {
+                events.add("!" + comment.trim());
+            }
+        };
+
+        //when
+        write(HTML, 7, handler);
+
+        //then
+        assertEquals("[<div, !comment, <p, /p, <br, <script, /script, /div]", events.toString());
+    }
+
+    @Test
+    public void shouldInjectContentAndChangeAttributes() throws IOException {
+        //given
+        MarkupEventHandler handler = new MarkupEventHandler() {
+            @Override
+            public void startElement(MarkupElement element, Writer out) throws IOException {
+                String xpath = element.getAttribute("data-xpath");
+                if (xpath != null) {
+                    element.removeAttribute("data-xpath");
+                    element.appendContent("<!-- " + xpath + " -->");
+                }
+                if ("br".equals(element.getName())) {
+                    out.write("[before]");
+                    element.setAttribute("title", "\"quoted\"");
+                }
+            }
+
+            @Override
+            public void endFragment(Writer out) throws IOException {
+                out.write("[end]");
+            }
+        };
+
+        //when
+        String result = write(HTML, 5, handler);
+
+        //then
+        assertEquals("<div class=\"a > b\"><!-- x -->\n" +
+                "<!-- comment --><p>Text &amp; more</p>[before]<br title=\"&quot;quoted&quot;\"/>" +
+                "<script>if (a<b) { document.write('<p data-xpath=\"y\">'); }</script>" +
+                "</div>[end]", result);
+    }
+
+    @Test
+    public void shouldWriteIncompleteMarkupAsTextOnClose() throws IOException {
+        assertEquals("text <a href=\"", write("text <a href=\"", 3, new MarkupEventHandler() {
+        }));
+    }
+}
@@ -0,0 +1,60 @@
+package com.sdl.webapp.common.markup;
+
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.markup.html.HtmlNode;
+import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import org.junit.Test;
+
+import java.io.Writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class StreamingMarkupDecoratorTest {
+
+    private static StreamingMarkupDecorator decorator(MarkupEventHandler handler) {
+        return new StreamingMarkupDecorator() {
+            @Override
+            public MarkupEventHandler createHandler(ViewModel model, WebRequestContext webRequestContext) {
+                return handler;
+            }
+
+            @Override
+            public int getOrder() {
+                return 0;
+            }
+        };
+    }
+
+    @Test
+    public void shouldProcessBufferedMarkupWithHandler() {
+        //given
+        StreamingMarkupDecorator decorator = decorator(new MarkupEventHandler() {
+            @Override
+            public void startElement(MarkupElement element, Writer out) {
+                element.setAttribute("class", "decorated");
+            }
+        });
+
+        //when
+        HtmlNode result = decorator.process(new ParsableHtmlNode("<div class='plain'>text</div>"),
+                mock(ViewModel.class), mock(WebRequestContext.class));
+
+        //then
+        assertEquals("<div class=\"decorated\">text</div>", result.toHtml());
+    }
+
+    @Test
+    public void shouldReturnSameMarkupIfNotApplicable() {
+        //given
+        HtmlNode markup = new ParsableHtmlNode("<div>text</div>");
+
+        //when
+        HtmlNode result = decorator(null).process(markup, mock(ViewModel.class), mock(WebRequestContext.class));
+
+        //then
+        assertSame(markup, result);
+    }
+}
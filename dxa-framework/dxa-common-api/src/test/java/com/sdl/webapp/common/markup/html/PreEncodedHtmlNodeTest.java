@@ -0,0 +1,54 @@
+package com.sdl.webapp.common.markup.html;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@code PreEncodedHtmlNode}.
+ */
+public class PreEncodedHtmlNodeTest {
+
+    private static final String HTML = "<p>Größe &amp; €</p>";
+
+    @Test
+    public void shouldKeepRenderedHtml() {
+        PreEncodedHtmlNode node = PreEncodedHtmlNode.of(new HtmlTextNode(HTML, false));
+
+        assertThat(node.renderHtml(), is(HTML));
+        assertThat(node.toHtml(), is(HTML));
+        assertThat(node.length(), is(HTML.getBytes(StandardCharsets.UTF_8).length));
+    }
+
+    @Test
+    public void shouldWriteBytes() throws Exception {
+        //given
+        PreEncodedHtmlNode node = PreEncodedHtmlNode.of(new HtmlTextNode(HTML, false));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        node.writeTo(bytes);
+        boolean written = node.writeTo(utf8 -> {
+            output.write(utf8);
+            return true;
+        });
+
+        //then
+        assertThat(new String(bytes.toByteArray(), StandardCharsets.UTF_8), is(HTML));
+        assertThat(written, is(true));
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8), is(HTML));
+    }
+
+    @Test
+    public void shouldNotEncodeTwice() {
+        PreEncodedHtmlNode node = PreEncodedHtmlNode.of(new HtmlTextNode(HTML, false));
+
+        assertThat(PreEncodedHtmlNode.of(node), sameInstance(node));
+    }
+}
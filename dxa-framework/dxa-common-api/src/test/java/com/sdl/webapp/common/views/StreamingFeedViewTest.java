@@ -0,0 +1,196 @@
+package com.sdl.webapp.common.views;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.sdl.dxa.caching.wrapper.RenderedFeedCache;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.formatters.support.FeedItem;
+import com.sdl.webapp.common.api.formatters.support.FeedItemsProvider;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.entity.Link;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import com.sdl.webapp.common.api.model.region.RegionModelSetImpl;
+import lombok.EqualsAndHashCode;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StreamingFeedViewTest {
+
+    private static final DateTime DATE = new DateTime(2014, 12, 11, 15, 39, 8, DateTimeZone.UTC);
+
+    private final WebRequestContext webRequestContext = mock(WebRequestContext.class);
+
+    private final AtomicInteger extractions = new AtomicInteger();
+
+    private DefaultPageModel page;
+
+    @Before
+    public void init() throws Exception {
+        Localization localization = mock(Localization.class);
+        when(localization.getId()).thenReturn("1");
+        when(localization.getCulture()).thenReturn("en-US");
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        when(webRequestContext.getBaseUrl()).thenReturn("http://example.org");
+
+        RegionModelImpl main = new RegionModelImpl("Main");
+        main.addEntity(new TestEntity("First & best", "/first"));
+        main.addEntity(new TestEntity("Second", "http://other.org/second"));
+        RegionModelImpl nested = new RegionModelImpl("Nested");
+        nested.addEntity(new TestEntity("Third", null));
+        main.getRegions().add(nested);
+        RegionModelSetImpl regions = new RegionModelSetImpl();
+        regions.add(main);
+
+        page = new DefaultPageModel();
+        page.setId("42");
+        page.setTitle("News");
+        page.setMeta(ImmutableMap.of("description", "Latest news"));
+        page.setRegions(regions);
+    }
+
+    private MockHttpServletResponse render(StreamingFeedView view) throws Exception {
+        ReflectionTestUtils.setField(view, "context", webRequestContext);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/news");
+        request.setQueryString("page=2&format=rss");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        view.render(Collections.singletonMap("data", page), request, response);
+        return response;
+    }
+
+    private static Document parse(MockHttpServletResponse response) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(response.getContentAsByteArray()));
+    }
+
+    private static List<String> texts(Document document, String name) {
+        List<String> texts = Lists.newArrayList();
+        NodeList nodes = document.getElementsByTagNameNS("*", name);
+        for (int i = 0; i < nodes.getLength(); i++) {
+            texts.add(nodes.item(i).getTextContent());
+        }
+        return texts;
+    }
+
+    // feed items of nested regions come before the entities of a region, as in FeedFormatter
+    @Test
+    public void shouldWriteRssFeedOfAllFeedItems() throws Exception {
+        //when
+        MockHttpServletResponse response = render(new StreamingRssView());
+        Document rss = parse(response);
+
+        //then
+        assertTrue(response.getContentType().startsWith("application/rss+xml"));
+        assertEquals("UTF-8", response.getCharacterEncoding());
+        assertEquals("2.0", rss.getDocumentElement().getAttribute("version"));
+        assertEquals(Lists.newArrayList("News", "Third", "First & best", "Second"), texts(rss, "title"));
+        assertEquals(Lists.newArrayList("http://localhost/news?page=2"), texts(rss, "link"));
+        assertEquals(Lists.newArrayList("Latest news", "Summary of Third", "Summary of First & best", "Summary of Second"),
+                texts(rss, "description"));
+        assertEquals("Thu, 11 Dec 2014 15:39:08 GMT", texts(rss, "pubDate").get(0));
+        assertEquals(Lists.newArrayList("en-US"), texts(rss, "language"));
+    }
+
+    @Test
+    public void shouldWriteAtomFeedOfAllFeedItems() throws Exception {
+        //when
+        MockHttpServletResponse response = render(new StreamingAtomView());
+        Document atom = parse(response);
+
+        //then
+        assertTrue(response.getContentType().startsWith("application/atom+xml"));
+        Element feed = atom.getDocumentElement();
+        assertEquals("http://www.w3.org/2005/Atom", feed.getNamespaceURI());
+        assertEquals("en-US", feed.getAttributeNS("http://www.w3.org/XML/1998/namespace", "lang"));
+        assertEquals(Lists.newArrayList("News", "Third", "First & best", "Second"), texts(atom, "title"));
+        assertEquals(Lists.newArrayList("Latest news"), texts(atom, "subtitle"));
+        assertEquals(4, texts(atom, "id").size());
+        assertEquals("2014-12-11T15:39:08Z", texts(atom, "published").get(0));
+
+        NodeList links = atom.getElementsByTagNameNS("*", "link");
+        assertEquals(3, links.getLength());
+        assertEquals("http://localhost/news?page=2", ((Element) links.item(0)).getAttribute("href"));
+        assertEquals("http://example.org/first", ((Element) links.item(1)).getAttribute("href"));
+        assertEquals("http://other.org/second", ((Element) links.item(2)).getAttribute("href"));
+    }
+
+    @Test
+    public void shouldWriteCachedFeedWithoutVisitingItems() throws Exception {
+        //given
+        Map<Object, byte[]> cached = new HashMap<>();
+        RenderedFeedCache feedCache = mock(RenderedFeedCache.class);
+        when(feedCache.isCachingEnabled()).thenReturn(true);
+        when(feedCache.getSpecificKey(any(), anyVararg())).thenCallRealMethod();
+        doAnswer(invocation -> cached.get(invocation.getArguments()[0])).when(feedCache).get(any());
+        doAnswer(invocation -> {
+            cached.put(invocation.getArguments()[0], (byte[]) invocation.getArguments()[1]);
+            return invocation.getArguments()[1];
+        }).when(feedCache).addAndGet(any(Object.class), any(byte[].class));
+        StreamingRssView view = new StreamingRssView();
+        ReflectionTestUtils.setField(view, "feedCache", feedCache);
+
+        //when
+        MockHttpServletResponse first = render(view);
+        int extractionsOfFirst = extractions.get();
+        MockHttpServletResponse second = render(view);
+
+        //then
+        assertEquals(3, extractionsOfFirst);
+        assertEquals(3, extractions.get());
+        assertEquals(1, cached.size());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(first.getContentAsByteArray().length, second.getContentLength());
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    private class TestEntity extends AbstractEntityModel implements FeedItemsProvider {
+
+        private final String headline;
+
+        private final String url;
+
+        private TestEntity(String headline, String url) {
+            this.headline = headline;
+            this.url = url;
+        }
+
+        @Override
+        public List<FeedItem> extractFeedItems() {
+            extractions.incrementAndGet();
+            Link link = null;
+            if (url != null) {
+                link = new Link();
+                link.setUrl(url);
+            }
+            return Lists.newArrayList(new FeedItem(headline, link, new RichText("Summary of " + headline), DATE.toDate()));
+        }
+    }
+}
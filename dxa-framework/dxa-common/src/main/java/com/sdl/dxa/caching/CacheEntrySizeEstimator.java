@@ -0,0 +1,223 @@
+package com.sdl.dxa.caching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fast estimator of the heap size of cached values like view models, HTML fragments and {@code PageModelData}.
+ * <p>Walks the object graph once and counts every reachable object once, so that shared objects are not
+ * counted twice. Strings, arrays, boxed values and collections are sized without reflection, other JDK types
+ * are sized shallowly, and the field layouts of DXA and project classes are computed once per class.
+ * Class objects, class loaders, threads and enum constants are shared by the whole application and never counted.</p>
+ * <p>The result is an estimate for a 64-bit JVM with compressed references, good enough to compare cache entries
+ * with each other and with a memory budget, but not an exact measurement.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public final class CacheEntrySizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+
+    private static final int ARRAY_HEADER = 16;
+
+    private static final int REFERENCE = 4;
+
+    private static final int STRING = align(OBJECT_HEADER + REFERENCE + 4);
+
+    private static final int COLLECTION = 48;
+
+    private static final int COLLECTION_ENTRY = 32;
+
+    /**
+     * Maximum number of objects walked per estimate, larger graphs are cut off and underestimated.
+     */
+    private static final int MAX_OBJECTS = 100_000;
+
+    private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<ClassLayout>() {
+        @Override
+        protected ClassLayout computeValue(Class<?> type) {
+            return new ClassLayout(type);
+        }
+    };
+
+    private CacheEntrySizeEstimator() {
+    }
+
+    /**
+     * Estimates the retained heap size of the given object graph.
+     *
+     * @param value object to estimate
+     * @return estimated size in bytes, {@code 0} for {@code null} and objects shared by the application
+     * @dxa.publicApi
+     */
+    public static long estimate(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(value);
+        long size = 0;
+        while (!pending.isEmpty()) {
+            Object current = pending.pop();
+            if (isShared(current) || !visited.add(current)) {
+                continue;
+            }
+            if (visited.size() > MAX_OBJECTS) {
+                log.debug("Object graph of {} has more than {} objects, size estimate is cut off",
+                        value.getClass().getName(), MAX_OBJECTS);
+                break;
+            }
+            try {
+                size += sizeOf(current, pending);
+            } catch (RuntimeException e) {
+                // e.g. a collection modified concurrently, the estimate just misses its elements
+                log.trace("Cannot estimate size of {}", current.getClass().getName(), e);
+            }
+        }
+        return size;
+    }
+
+    private static long sizeOf(Object value, Deque<Object> pending) {
+        Class<?> type = value.getClass();
+        if (value instanceof String) {
+            return STRING + align(ARRAY_HEADER + 2L * ((String) value).length());
+        }
+        if (type.isArray()) {
+            return sizeOfArray(value, type.getComponentType(), pending);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Date) {
+            return 24;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                push(pending, entry.getKey());
+                push(pending, entry.getValue());
+            }
+            return COLLECTION + (long) map.size() * COLLECTION_ENTRY;
+        }
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            for (Object element : collection) {
+                push(pending, element);
+            }
+            return COLLECTION + (long) collection.size() * (value instanceof List ? REFERENCE : COLLECTION_ENTRY);
+        }
+
+        ClassLayout layout = LAYOUTS.get(type);
+        for (Field field : layout.references) {
+            try {
+                push(pending, field.get(value));
+            } catch (IllegalAccessException e) {
+                log.trace("Cannot read field {} for size estimate", field, e);
+            }
+        }
+        return layout.shallowSize;
+    }
+
+    private static long sizeOfArray(Object array, Class<?> componentType, Deque<Object> pending) {
+        int length = Array.getLength(array);
+        if (!componentType.isPrimitive()) {
+            for (Object element : (Object[]) array) {
+                push(pending, element);
+            }
+            return align(ARRAY_HEADER + (long) length * REFERENCE);
+        }
+        return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+    }
+
+    private static void push(Deque<Object> pending, @Nullable Object value) {
+        if (value != null) {
+            pending.push(value);
+        }
+    }
+
+    private static boolean isShared(Object value) {
+        return value instanceof Class || value instanceof ClassLoader || value instanceof Thread || value instanceof Enum;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    /**
+     * Shallow size and reference fields of a class. Fields of JDK classes are not followed.
+     */
+    private static final class ClassLayout {
+
+        private final long shallowSize;
+
+        private final List<Field> references = new ArrayList<>();
+
+        private ClassLayout(Class<?> type) {
+            long fields = 0;
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                boolean followReferences = !isJdkType(current);
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    Class<?> fieldType = field.getType();
+                    if (fieldType.isPrimitive()) {
+                        fields += primitiveSize(fieldType);
+                        continue;
+                    }
+                    fields += REFERENCE;
+                    if (followReferences && makeAccessible(field)) {
+                        references.add(field);
+                    }
+                }
+            }
+            this.shallowSize = align(OBJECT_HEADER + fields);
+        }
+
+        private static boolean isJdkType(Class<?> type) {
+            String name = type.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.") || name.startsWith("jdk.");
+        }
+
+        private static boolean makeAccessible(Field field) {
+            try {
+                field.setAccessible(true);
+                return true;
+            } catch (RuntimeException e) {
+                log.trace("Field {} is not accessible for size estimate", field, e);
+                return false;
+            }
+        }
+    }
+}
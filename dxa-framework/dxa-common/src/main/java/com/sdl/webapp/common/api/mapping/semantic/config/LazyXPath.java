@@ -0,0 +1,72 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * XPath of a field value which is only built when it is requested.
+ * <p>Semantic mapping needs the XPath of every mapped field only for XPM markup. Instead of building the string
+ * for every field and every list item, the data provider keeps this small descriptor: the field, the XPath of
+ * its context and the position in a multi-value field. {@link #toString()} builds the XPath once, exactly
+ * as {@link WithXPath#getXPath(String)} of the field with the resolved context XPath would.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class LazyXPath {
+
+    private final WithXPath field;
+
+    private final LazyXPath context;
+
+    private final int index;
+
+    private volatile String xPath;
+
+    private LazyXPath(WithXPath field, @Nullable LazyXPath context, int index) {
+        this.field = field;
+        this.context = context;
+        this.index = index;
+    }
+
+    /**
+     * Creates the XPath of a field in the given context.
+     *
+     * @param field   field to create the XPath for
+     * @param context XPath of the context, {@code null} for top level fields
+     * @return XPath of the field
+     */
+    public static LazyXPath of(WithXPath field, @Nullable LazyXPath context) {
+        return new LazyXPath(field, context, 0);
+    }
+
+    /**
+     * Creates the XPath of a value of a multi-value field in the given context, i.e. with the {@code [index]} predicate.
+     *
+     * @param field   multi-value field
+     * @param context XPath of the context, {@code null} for top level fields
+     * @param index   1-based position of the value
+     * @return XPath of the value
+     */
+    public static LazyXPath of(WithXPath field, @Nullable LazyXPath context, int index) {
+        return new LazyXPath(field, context, index);
+    }
+
+    /**
+     * Returns the XPath, building it on the first call.
+     *
+     * @return XPath
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        String result = xPath;
+        if (result == null) {
+            result = field.getXPath(context == null ? null : context.toString());
+            if (index > 0) {
+                result = result + '[' + index + ']';
+            }
+            xPath = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * XPM property metadata of an entity which keeps {@link LazyXPath} descriptors and builds the XPaths
+ * only when they are read, e.g. when the entity is rendered in an XPM session or serialized to JSON.
+ *
+ * @dxa.publicApi
+ */
+public final class XpmPropertyMetadata extends AbstractMap<String, String> {
+
+    // values are either String or LazyXPath, toString() gives the XPath for both
+    private final Map<String, Object> xPaths = new HashMap<>();
+
+    /**
+     * Adds the XPath of a field which is built when it is read.
+     *
+     * @param fieldName name of the field
+     * @param xPath     XPath descriptor of the field
+     */
+    public void putLazy(String fieldName, LazyXPath xPath) {
+        xPaths.put(fieldName, xPath);
+    }
+
+    /**
+     * Copies the metadata without building the XPaths. {@link LazyXPath} is immutable, so the copy shares
+     * the descriptors and each XPath is still built at most once.
+     *
+     * @return independent copy of the metadata
+     */
+    public XpmPropertyMetadata copy() {
+        XpmPropertyMetadata copy = new XpmPropertyMetadata();
+        copy.xPaths.putAll(xPaths);
+        return copy;
+    }
+
+    private static String resolve(Object xPath) {
+        return xPath == null ? null : xPath.toString();
+    }
+
+    @Override
+    public int size() {
+        return xPaths.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return xPaths.containsKey(key);
+    }
+
+    @Override
+    public String get(Object key) {
+        return resolve(xPaths.get(key));
+    }
+
+    @Override
+    public String put(String key, String value) {
+        return resolve(xPaths.put(key, value));
+    }
+
+    @Override
+    public String remove(Object key) {
+        return resolve(xPaths.remove(key));
+    }
+
+    @Override
+    public void clear() {
+        xPaths.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return xPaths.keySet();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                Iterator<Entry<String, Object>> iterator = xPaths.entrySet().iterator();
+                return new Iterator<Entry<String, String>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        Entry<String, Object> entry = iterator.next();
+                        return new SimpleImmutableEntry<>(entry.getKey(), resolve(entry.getValue()));
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return xPaths.size();
+            }
+        };
+    }
+}
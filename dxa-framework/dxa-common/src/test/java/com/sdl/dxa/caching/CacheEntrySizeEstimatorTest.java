@@ -0,0 +1,96 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CacheEntrySizeEstimatorTest {
+
+    private static PageModelData page(int entities) {
+        List<EntityModelData> entityModels = new ArrayList<>();
+        for (int i = 0; i < entities; i++) {
+            EntityModelData entity = new EntityModelData();
+            entity.setId("1-" + i);
+            entity.setLinkUrl("/articles/article-" + i);
+            entity.setXpmMetadata(Collections.singletonMap("ComponentID", "tcm:1-" + i));
+            entityModels.add(entity);
+        }
+        RegionModelData region = new RegionModelData();
+        region.setName("Main");
+        region.setEntities(entityModels);
+
+        PageModelData page = new PageModelData();
+        page.setId("640");
+        page.setTitle("Home");
+        page.setRegions(Collections.singletonList(region));
+        return page;
+    }
+
+    @Test
+    public void shouldEstimateNullAsEmpty() {
+        assertEquals(0, CacheEntrySizeEstimator.estimate(null));
+    }
+
+    @Test
+    public void shouldEstimateStringsByLength() {
+        //when
+        long small = CacheEntrySizeEstimator.estimate("a");
+        long large = CacheEntrySizeEstimator.estimate(new String(new char[1000]));
+
+        //then
+        assertTrue(small >= 40);
+        assertTrue(large >= 2000);
+    }
+
+    @Test
+    public void shouldEstimatePageModelsBySize() {
+        //when
+        long small = CacheEntrySizeEstimator.estimate(page(1));
+        long large = CacheEntrySizeEstimator.estimate(page(100));
+
+        //then
+        assertTrue(small > 0);
+        assertTrue(large > 10 * small);
+    }
+
+    @Test
+    public void shouldCountSharedObjectsOnce() {
+        //given
+        String shared = new String(new char[1000]);
+        List<String> list = new ArrayList<>(Collections.nCopies(100, shared));
+
+        //when
+        long size = CacheEntrySizeEstimator.estimate(list);
+
+        //then
+        assertTrue(size < 2 * CacheEntrySizeEstimator.estimate(shared));
+    }
+
+    @Test
+    public void shouldHandleCycles() {
+        //given
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+
+        //when
+        long size = CacheEntrySizeEstimator.estimate(list);
+
+        //then
+        assertTrue(size > 0);
+    }
+
+    @Test
+    public void shouldNotCountSharedConstants() {
+        assertEquals(0, CacheEntrySizeEstimator.estimate(TimeUnit.SECONDS));
+        assertEquals(0, CacheEntrySizeEstimator.estimate(String.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class LazyXPathTest {
+
+    private final FieldPath paragraphs = new FieldPath("/Article/paragraphs");
+
+    private final FieldPath subheading = new FieldPath("/Article/paragraphs/subheading");
+
+    @Test
+    public void shouldBuildSameXPathAsField() {
+        //given
+        String context = paragraphs.getXPath(null) + "[2]";
+
+        //when
+        LazyXPath item = LazyXPath.of(paragraphs, null, 2);
+        LazyXPath field = LazyXPath.of(subheading, item);
+
+        //then
+        assertEquals(context, item.toString());
+        assertEquals(subheading.getXPath(context), field.toString());
+        assertEquals("tcm:Content/custom:Article/custom:paragraphs[2]/custom:subheading", field.toString());
+        assertEquals(subheading.getXPath(null), LazyXPath.of(subheading, null).toString());
+    }
+
+    @Test
+    public void shouldBuildXPathOnlyOnceAndOnlyWhenRequested() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        WithXPath field = contextXPath -> {
+            calls.incrementAndGet();
+            return "tcm:Content/custom:field";
+        };
+
+        //when
+        LazyXPath xPath = LazyXPath.of(field, null);
+
+        //then
+        assertEquals(0, calls.get());
+        assertEquals("tcm:Content/custom:field", xPath.toString());
+        assertEquals("tcm:Content/custom:field", xPath.toString());
+        assertEquals(1, calls.get());
+    }
+}
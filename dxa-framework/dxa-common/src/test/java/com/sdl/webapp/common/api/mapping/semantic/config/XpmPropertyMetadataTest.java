@@ -0,0 +1,46 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class XpmPropertyMetadataTest {
+
+    @Test
+    public void shouldCopyWithoutBuildingXPaths() {
+        //given
+        AtomicInteger builds = new AtomicInteger();
+        XpmPropertyMetadata metadata = new XpmPropertyMetadata();
+        metadata.putLazy("headline", LazyXPath.of(contextXPath -> {
+            builds.incrementAndGet();
+            return "tcm:Content/custom:Article/custom:headline";
+        }, null));
+
+        //when
+        XpmPropertyMetadata copy = metadata.copy();
+
+        //then
+        assertEquals(0, builds.get());
+        assertEquals("tcm:Content/custom:Article/custom:headline", copy.get("headline"));
+        assertEquals("tcm:Content/custom:Article/custom:headline", metadata.get("headline"));
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void shouldCopyIndependently() {
+        //given
+        XpmPropertyMetadata metadata = new XpmPropertyMetadata();
+        metadata.put("headline", "xpath");
+
+        //when
+        XpmPropertyMetadata copy = metadata.copy();
+        copy.remove("headline");
+
+        //then
+        assertEquals("xpath", metadata.get("headline"));
+        assertNull(copy.get("headline"));
+    }
+}
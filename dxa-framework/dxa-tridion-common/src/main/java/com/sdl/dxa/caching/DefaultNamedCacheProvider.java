@@ -1,5 +1,6 @@
 package com.sdl.dxa.caching;
 
+import com.sdl.dxa.caching.statistics.CacheStatisticsRegistry;
 import com.sdl.web.client.cache.CacheProviderInitializer;
 import com.sdl.web.client.cache.GeneralCacheProvider;
 import com.sdl.web.client.configuration.ClientConstants;
@@ -17,6 +18,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -34,9 +36,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentSkipListSet;
@@ -68,6 +72,24 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
     @Value("${dxa.caching.configuration:#{null}}")
     private String cachingConfigurationFile;
 
+    @Value("${dxa.caching.weighted.enabled:false}")
+    private boolean weightedCachingEnabled;
+
+    @Value("${dxa.caching.weighted.budgets:pages:64MB, pageModels:64MB, entities:32MB, entityModels:32MB, output:64MB, queryCache:16MB}")
+    private String weightedCachingBudgets;
+
+    @Value("${dxa.caching.weighted.default.budget:0}")
+    private String weightedCachingDefaultBudget;
+
+    private Map<String, Long> cacheBudgets = new HashMap<>();
+
+    private long defaultCacheBudget;
+
+    private ConcurrentMap<String, WeightedCache> weightedCaches = new ConcurrentHashMap<>();
+
+    @Autowired(required = false)
+    private CacheStatisticsRegistry statisticsRegistry;
+
     private boolean isCilConfigUsed;
 
     @Getter
@@ -94,6 +116,7 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
                 cachingConfigurationFile;
         log.info("Using cache config {}, CIL uses GeneralCacheProvider: {}", cacheConfigurationUri, isCilConfigUsed);
         cacheManager = getCacheManager(cacheConfigurationUri);
+        initCacheBudgets();
 
         //cannot be null because of default value
         //noinspection ConstantConditions
@@ -115,6 +138,10 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
             log.debug("Cache name '{}' for such key/value does not exist, auto-creating...", cacheName);
             newCache = cacheManager.createCache(cacheName, buildDefaultCacheConfiguration(keyType, valueType));
         }
+        newCache = weighCache(cacheName, newCache);
+        if (statisticsRegistry != null) {
+            newCache = statisticsRegistry.monitor(cacheName, newCache);
+        }
 
         if (ownCachesNames.add(cacheName)) {
             Triple<String, Class, Class> triple = Triple.of(cacheName, keyType, valueType);
@@ -146,6 +173,37 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         return isCacheEnabled() && !disabledCaches.contains(cacheName);
     }
 
+    private void initCacheBudgets() {
+        if (!weightedCachingEnabled) {
+            return;
+        }
+        for (String budget : weightedCachingBudgets.split(",")) {
+            int separator = budget.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cannot parse cache budget '" + budget + "' of 'dxa.caching.weighted.budgets', " +
+                        "expected <cache name>:<size>");
+            }
+            cacheBudgets.put(budget.substring(0, separator).trim(), WeightedCache.parseSize(budget.substring(separator + 1)));
+        }
+        defaultCacheBudget = WeightedCache.parseSize(weightedCachingDefaultBudget);
+        log.info("Caches are limited by estimated memory size, budgets: {}, other caches: {} bytes", cacheBudgets, defaultCacheBudget);
+    }
+
+    /**
+     * Wraps the cache into a {@link WeightedCache} if weighted caching is enabled and the cache has a memory budget.
+     * All callers get the same wrapper, so that it knows the weight of all entries.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> Cache<K, V> weighCache(String cacheName, Cache<K, V> cache) {
+        long budget = cacheBudgets.getOrDefault(cacheName, defaultCacheBudget);
+        if (!weightedCachingEnabled || budget <= 0) {
+            return cache;
+        }
+        WeightedCache weightedCache = weightedCaches.compute(cacheName, (name, current) ->
+                current != null && current.isWrapping(cache) ? current : new WeightedCache<>(cache, budget));
+        return (Cache<K, V>) weightedCache;
+    }
+
     @NotNull
     private <K, V> javax.cache.configuration.Configuration<K, V> buildDefaultCacheConfiguration(Class<K> keyType, Class<V> valueType) {
         return fromEhcacheCacheConfiguration(isCilConfigUsed ?
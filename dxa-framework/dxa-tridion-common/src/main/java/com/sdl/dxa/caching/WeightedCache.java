@@ -0,0 +1,347 @@
+package com.sdl.dxa.caching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import javax.cache.Cache;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cache which keeps the estimated heap size of its entries within a memory budget.
+ * <p>Every entry put into the cache is weighed with {@link CacheEntrySizeEstimator}. When the total weight exceeds
+ * the budget, the least recently used entries are removed until the cache is 10% below its budget, so that a single
+ * huge page model displaces many small ones and not the other way around. Entries larger than the budget are
+ * not cached at all. Expiration and the entry count limit of the wrapped cache still apply.</p>
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+@Slf4j
+public class WeightedCache<K, V> extends ForwardingCache<K, V> {
+
+    private static final Pattern SIZE = Pattern.compile("(\\d+)\\s*([KMG]?)B?", Pattern.CASE_INSENSITIVE);
+
+    private final long budget;
+
+    private final ConcurrentMap<K, Weight> weights = new ConcurrentHashMap<>();
+
+    private final AtomicLong weight = new AtomicLong();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public WeightedCache(Cache<K, V> delegate, long budget) {
+        super(delegate);
+        this.budget = budget;
+    }
+
+    /**
+     * Parses a memory size like {@code 512KB}, {@code 64MB}, {@code 1GB} or a plain number of bytes.
+     *
+     * @param size memory size
+     * @return size in bytes
+     * @throws IllegalArgumentException if the size cannot be parsed
+     */
+    public static long parseSize(String size) {
+        Matcher matcher = SIZE.matcher(size.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Cannot parse memory size '" + size + "', expected e.g. 512KB, 64MB or 1GB");
+        }
+        long value = Long.parseLong(matcher.group(1));
+        switch (matcher.group(2).toUpperCase()) {
+            case "K":
+                return value << 10;
+            case "M":
+                return value << 20;
+            case "G":
+                return value << 30;
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Returns the memory budget of this cache.
+     *
+     * @return budget in bytes
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the estimated heap size of all entries currently known to this cache. Entries expired in the wrapped
+     * cache are only subtracted once they are requested or pushed out by newer entries.
+     *
+     * @return estimated size in bytes
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    /**
+     * Returns the number of entries removed because the cache exceeded its budget.
+     *
+     * @return number of evicted entries
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public V get(K key) {
+        V value = delegate.get(key);
+        touch(key, value);
+        return value;
+    }
+
+    @Override
+    public Map<K, V> getAll(Set<? extends K> keys) {
+        Map<K, V> values = delegate.getAll(keys);
+        for (K key : keys) {
+            touch(key, values.get(key));
+        }
+        return values;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        long size = weigh(key, value);
+        if (fits(key, size)) {
+            delegate.put(key, value);
+            track(key, size);
+        }
+    }
+
+    @Override
+    public V getAndPut(K key, V value) {
+        long size = weigh(key, value);
+        if (!fits(key, size)) {
+            return getAndRemove(key);
+        }
+        V previous = delegate.getAndPut(key, value);
+        track(key, size);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(K key, V value) {
+        long size = weigh(key, value);
+        if (fits(key, size) && delegate.putIfAbsent(key, value)) {
+            track(key, size);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(K key) {
+        boolean removed = delegate.remove(key);
+        untrack(key);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(K key, V oldValue) {
+        boolean removed = delegate.remove(key, oldValue);
+        if (removed) {
+            untrack(key);
+        }
+        return removed;
+    }
+
+    @Override
+    public V getAndRemove(K key) {
+        V previous = delegate.getAndRemove(key);
+        untrack(key);
+        return previous;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        long size = weigh(key, newValue);
+        if (!fits(key, size)) {
+            return remove(key, oldValue);
+        }
+        boolean replaced = delegate.replace(key, oldValue, newValue);
+        if (replaced) {
+            track(key, size);
+        }
+        return replaced;
+    }
+
+    @Override
+    public boolean replace(K key, V value) {
+        long size = weigh(key, value);
+        if (!fits(key, size)) {
+            return remove(key);
+        }
+        boolean replaced = delegate.replace(key, value);
+        if (replaced) {
+            track(key, size);
+        }
+        return replaced;
+    }
+
+    @Override
+    public V getAndReplace(K key, V value) {
+        long size = weigh(key, value);
+        if (!fits(key, size)) {
+            return getAndRemove(key);
+        }
+        V previous = delegate.getAndReplace(key, value);
+        if (previous != null) {
+            track(key, size);
+        }
+        return previous;
+    }
+
+    @Override
+    public void removeAll(Set<? extends K> keys) {
+        delegate.removeAll(keys);
+        keys.forEach(this::untrack);
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.removeAll();
+        untrackAll();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        untrackAll();
+    }
+
+    @Override
+    public <T> T invoke(K key, EntryProcessor<K, V, T> entryProcessor, Object... arguments) throws EntryProcessorException {
+        T result = delegate.invoke(key, entryProcessor, arguments);
+        reweigh(key);
+        return result;
+    }
+
+    @Override
+    public <T> Map<K, EntryProcessorResult<T>> invokeAll(Set<? extends K> keys, EntryProcessor<K, V, T> entryProcessor, Object... arguments) {
+        Map<K, EntryProcessorResult<T>> results = delegate.invokeAll(keys, entryProcessor, arguments);
+        keys.forEach(this::reweigh);
+        return results;
+    }
+
+    private static long weigh(Object key, Object value) {
+        return CacheEntrySizeEstimator.estimate(key) + CacheEntrySizeEstimator.estimate(value);
+    }
+
+    private boolean fits(K key, long size) {
+        if (size > budget) {
+            log.debug("Entry {} of cache '{}' has about {} bytes and exceeds the budget of {} bytes, not caching it",
+                    key, getName(), size, budget);
+            return false;
+        }
+        return true;
+    }
+
+    private void track(K key, long bytes) {
+        Weight previous = weights.put(key, new Weight(bytes));
+        weight.addAndGet(previous == null ? bytes : bytes - previous.bytes);
+        if (weight.get() > budget) {
+            evict();
+        }
+    }
+
+    private void touch(K key, @Nullable V value) {
+        if (value == null) {
+            // expired or evicted by the wrapped cache
+            untrack(key);
+            return;
+        }
+        Weight current = weights.get(key);
+        if (current != null) {
+            current.lastAccess = System.nanoTime();
+        }
+    }
+
+    private void reweigh(K key) {
+        V value = delegate.get(key);
+        if (value == null) {
+            untrack(key);
+        } else {
+            track(key, weigh(key, value));
+        }
+    }
+
+    private void untrack(K key) {
+        Weight previous = weights.remove(key);
+        if (previous != null) {
+            weight.addAndGet(-previous.bytes);
+        }
+    }
+
+    private void untrackAll() {
+        weights.keySet().forEach(this::untrack);
+    }
+
+    private void evict() {
+        // only one thread evicts, the others go on with their requests
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long target = budget - budget / 10;
+            if (weight.get() <= target) {
+                return;
+            }
+            // snapshot the access times, they change while sorting
+            List<Map.Entry<K, Long>> entries = new ArrayList<>(weights.size());
+            weights.forEach((key, value) -> entries.add(new SimpleImmutableEntry<>(key, value.lastAccess)));
+            entries.sort(Map.Entry.comparingByValue());
+            int evicted = 0;
+            for (Map.Entry<K, Long> entry : entries) {
+                if (weight.get() <= target) {
+                    break;
+                }
+                delegate.remove(entry.getKey());
+                untrack(entry.getKey());
+                evicted++;
+            }
+            evictions.add(evicted);
+            log.debug("Evicted {} entries from cache '{}', estimated size is now {} of {} bytes",
+                    evicted, getName(), weight.get(), budget);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Weight {
+
+        private final long bytes;
+
+        private volatile long lastAccess = System.nanoTime();
+
+        private Weight(long bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
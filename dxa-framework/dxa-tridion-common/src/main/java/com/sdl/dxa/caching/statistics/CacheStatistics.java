@@ -0,0 +1,189 @@
+package com.sdl.dxa.caching.statistics;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sdl.dxa.caching.CacheEntrySizeEstimator;
+import com.sdl.dxa.caching.WeightedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventType;
+import org.jetbrains.annotations.Nullable;
+
+import javax.cache.Cache;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a DXA cache, collected by {@link MonitoredCache}.
+ * <p>Hot keys are only available in JMX and are not serialized to JSON, keys may contain request data
+ * such as the context cookie.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public class CacheStatistics implements CacheStatisticsMXBean, CacheEventListener<Object, Object> {
+
+    private static final int SIZE_SAMPLE = 64;
+
+    private final String name;
+
+    private final Cache<?, ?> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LoadTimeHistogram loadTimes = new LoadTimeHistogram();
+
+    private final HotKeyTracker hotKeys;
+
+    CacheStatistics(String name, Cache<?, ?> cache, @Nullable HotKeyTracker hotKeys) {
+        this.name = name;
+        this.cache = cache;
+        this.hotKeys = hotKeys;
+    }
+
+    void recordHit(Object key) {
+        hits.increment();
+        recordKey(key);
+    }
+
+    void recordMiss(Object key) {
+        misses.increment();
+        recordKey(key);
+    }
+
+    void recordLoad(long nanos) {
+        loadTimes.record(nanos);
+    }
+
+    private void recordKey(Object key) {
+        if (hotKeys != null) {
+            hotKeys.record(key);
+        }
+    }
+
+    /**
+     * Counts evictions and expirations reported by Ehcache.
+     */
+    @Override
+    public void onEvent(CacheEvent<?, ?> event) {
+        if (event.getType() == EventType.EVICTED) {
+            evictions.increment();
+        } else if (event.getType() == EventType.EXPIRED) {
+            expirations.increment();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long requests = hitCount + getMisses();
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public long getLoads() {
+        return loadTimes.getCount();
+    }
+
+    @Override
+    public double getLoadTimeMedian() {
+        return loadTimes.getPercentile(0.5);
+    }
+
+    @Override
+    public double getLoadTime95thPercentile() {
+        return loadTimes.getPercentile(0.95);
+    }
+
+    @Override
+    public double getLoadTime99thPercentile() {
+        return loadTimes.getPercentile(0.99);
+    }
+
+    @Override
+    public long getEvictions() {
+        WeightedCache<?, ?> weightedCache = getWeightedCache();
+        return evictions.sum() + (weightedCache == null ? 0 : weightedCache.getEvictions());
+    }
+
+    @Override
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    @Override
+    public long getEntries() {
+        long entries = 0;
+        for (Iterator<? extends Cache.Entry<?, ?>> iterator = cache.iterator(); iterator.hasNext(); iterator.next()) {
+            entries++;
+        }
+        return entries;
+    }
+
+    @Override
+    public long getEstimatedSize() {
+        WeightedCache<?, ?> weightedCache = getWeightedCache();
+        if (weightedCache != null) {
+            return weightedCache.getWeight();
+        }
+
+        long entries = 0;
+        long sampleSize = 0;
+        for (Cache.Entry<?, ?> entry : cache) {
+            if (entries++ < SIZE_SAMPLE) {
+                sampleSize += CacheEntrySizeEstimator.estimate(entry.getKey()) + CacheEntrySizeEstimator.estimate(entry.getValue());
+            }
+        }
+        return entries <= SIZE_SAMPLE ? sampleSize : sampleSize * entries / SIZE_SAMPLE;
+    }
+
+    @Override
+    @JsonIgnore
+    public Map<String, Long> getHotKeys() {
+        return hotKeys == null ? Collections.emptyMap() : hotKeys.getHotKeys();
+    }
+
+    @Override
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        expirations.reset();
+        loadTimes.reset();
+        if (hotKeys != null) {
+            hotKeys.reset();
+        }
+    }
+
+    @Nullable
+    private WeightedCache<?, ?> getWeightedCache() {
+        try {
+            return cache.unwrap(WeightedCache.class);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sdl.dxa.caching.statistics;
+
+import java.util.Map;
+
+/**
+ * Statistics of a DXA cache, registered in JMX as {@code com.sdl.dxa:type=CacheStatistics,name=<cache name>}.
+ *
+ * @dxa.publicApi
+ */
+public interface CacheStatisticsMXBean {
+
+    /**
+     * Returns the name of the cache.
+     *
+     * @return cache name
+     */
+    String getName();
+
+    /**
+     * Returns the number of requests which found a value in the cache.
+     *
+     * @return number of cache hits
+     */
+    long getHits();
+
+    /**
+     * Returns the number of requests which did not find a value in the cache.
+     *
+     * @return number of cache misses
+     */
+    long getMisses();
+
+    /**
+     * Returns the share of requests which found a value in the cache.
+     *
+     * @return hit ratio between {@code 0} and {@code 1}, {@code 0} if there were no requests
+     */
+    double getHitRatio();
+
+    /**
+     * Returns the number of values put into the cache after a miss.
+     *
+     * @return number of loads
+     */
+    long getLoads();
+
+    /**
+     * Returns the median time between a miss and putting the loaded value into the cache.
+     *
+     * @return load time in milliseconds
+     */
+    double getLoadTimeMedian();
+
+    /**
+     * Returns the 95th percentile of the time between a miss and putting the loaded value into the cache.
+     *
+     * @return load time in milliseconds
+     */
+    double getLoadTime95thPercentile();
+
+    /**
+     * Returns the 99th percentile of the time between a miss and putting the loaded value into the cache.
+     *
+     * @return load time in milliseconds
+     */
+    double getLoadTime99thPercentile();
+
+    /**
+     * Returns the number of entries removed because the cache was full, by entry count or by memory budget.
+     *
+     * @return number of evictions
+     */
+    long getEvictions();
+
+    /**
+     * Returns the number of entries which expired.
+     *
+     * @return number of expirations
+     */
+    long getExpirations();
+
+    /**
+     * Returns the current number of entries. Counts the entries of the cache, so don't poll it too often.
+     *
+     * @return number of entries
+     */
+    long getEntries();
+
+    /**
+     * Returns the estimated heap size of the entries. Exact for the weighted caches, otherwise extrapolated
+     * from a sample of entries.
+     *
+     * @return estimated size in bytes
+     */
+    long getEstimatedSize();
+
+    /**
+     * Returns the most requested keys with their estimated number of requests, if hot key tracking is enabled.
+     * Only exposed in JMX.
+     *
+     * @return keys ordered by requests, empty if hot keys are not tracked
+     */
+    Map<String, Long> getHotKeys();
+
+    /**
+     * Resets all counters and hot keys.
+     */
+    void reset();
+}
@@ -0,0 +1,145 @@
+package com.sdl.dxa.caching.statistics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.event.EventFiring;
+import org.ehcache.event.EventOrdering;
+import org.ehcache.event.EventType;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.cache.Cache;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Collects statistics of the DXA caches and registers them in JMX, if enabled with {@code dxa.caching.statistics.enabled}.
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+@Component
+public class CacheStatisticsRegistry {
+
+    private static final String OBJECT_NAME = "com.sdl.dxa:type=CacheStatistics,name=";
+
+    @Value("${dxa.caching.statistics.enabled:false}")
+    private boolean statisticsEnabled;
+
+    @Value("${dxa.caching.statistics.jmx.enabled:true}")
+    private boolean jmxEnabled;
+
+    @Value("${dxa.caching.statistics.hotkeys:0}")
+    private int hotKeys;
+
+    @Value("${dxa.caching.statistics.hotkeys.sampling:16}")
+    private int hotKeysSampling;
+
+    private final ConcurrentMap<String, MonitoredCache> caches = new ConcurrentHashMap<>();
+
+    private final List<ObjectName> registeredBeans = new CopyOnWriteArrayList<>();
+
+    /**
+     * Wraps the cache into a {@link MonitoredCache} if statistics are enabled.
+     * All callers get the same wrapper for a cache, so that the statistics cover all requests.
+     *
+     * @param cacheName name of the cache
+     * @param cache     cache to monitor
+     * @param <K>       type of the key
+     * @param <V>       type of the value
+     * @return monitored cache, or the given cache if statistics are disabled
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Cache<K, V> monitor(String cacheName, Cache<K, V> cache) {
+        if (!statisticsEnabled) {
+            return cache;
+        }
+        return caches.compute(cacheName, (name, current) -> {
+            if (current != null && current.isWrapping(cache)) {
+                return current;
+            }
+            MonitoredCache<K, V> monitoredCache = new MonitoredCache<>(cache, hotKeys > 0 ? new HotKeyTracker(hotKeys, hotKeysSampling) : null);
+            listenToEhcache(cache, monitoredCache.getStatistics());
+            registerMBean(name, monitoredCache.getStatistics());
+            return monitoredCache;
+        });
+    }
+
+    /**
+     * Returns the statistics of all monitored caches.
+     *
+     * @return statistics ordered by cache name, empty if statistics are disabled
+     */
+    public Collection<CacheStatistics> getStatistics() {
+        return caches.values().stream()
+                .map(MonitoredCache::getStatistics)
+                .sorted(Comparator.comparing(CacheStatistics::getName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the statistics of the given cache.
+     *
+     * @param cacheName name of the cache
+     * @return statistics of the cache, or {@code null} if the cache is not monitored
+     */
+    @Nullable
+    public CacheStatistics getStatistics(String cacheName) {
+        MonitoredCache cache = caches.get(cacheName);
+        return cache == null ? null : cache.getStatistics();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName objectName : registeredBeans) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                log.debug("Cannot unregister {}", objectName, e);
+            }
+        }
+        registeredBeans.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void listenToEhcache(Cache<?, ?> cache, CacheStatistics statistics) {
+        try {
+            org.ehcache.Cache ehcache = cache.unwrap(org.ehcache.Cache.class);
+            ehcache.getRuntimeConfiguration().registerCacheEventListener(statistics,
+                    EventOrdering.UNORDERED, EventFiring.ASYNCHRONOUS, EnumSet.of(EventType.EVICTED, EventType.EXPIRED));
+        } catch (RuntimeException e) {
+            log.info("Cache '{}' is not an Ehcache cache, evictions by the cache itself are not counted", cache.getName());
+            log.debug("Cannot listen to events of cache '{}'", cache.getName(), e);
+        }
+    }
+
+    private void registerMBean(String cacheName, CacheStatistics statistics) {
+        if (!jmxEnabled) {
+            return;
+        }
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME + ObjectName.quote(cacheName));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                // e.g. the cache was recreated or another application in the same JVM uses the same name
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(statistics, objectName);
+            registeredBeans.add(objectName);
+        } catch (JMException e) {
+            log.warn("Cannot register statistics of cache '{}' in JMX", cacheName, e);
+        }
+    }
+}
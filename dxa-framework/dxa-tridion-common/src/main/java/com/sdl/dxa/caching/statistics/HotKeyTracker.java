@@ -0,0 +1,83 @@
+package com.sdl.dxa.caching.statistics;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sampled tracker of the most requested keys of a cache.
+ * <p>Only every n-th request on average is counted, and only the string form of a key is kept, so that tracking
+ * costs little and doesn't keep cached objects alive. When more keys are tracked than needed, all counts are halved
+ * and keys without requests are dropped, so that keys which were hot a long time ago fade out.</p>
+ */
+class HotKeyTracker {
+
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final int size;
+
+    private final int sampling;
+
+    private final int capacity;
+
+    private final ConcurrentMap<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    private final ReentrantLock decayLock = new ReentrantLock();
+
+    HotKeyTracker(int size, int sampling) {
+        this.size = size;
+        this.sampling = Math.max(sampling, 1);
+        this.capacity = Math.max(size * 10, 100);
+    }
+
+    void record(Object key) {
+        if (sampling > 1 && ThreadLocalRandom.current().nextInt(sampling) != 0) {
+            return;
+        }
+        counts.computeIfAbsent(describe(key), k -> new AtomicLong()).incrementAndGet();
+        if (counts.size() > capacity) {
+            decay();
+        }
+    }
+
+    /**
+     * Returns the hottest keys with their estimated number of requests.
+     *
+     * @return keys ordered by requests
+     */
+    Map<String, Long> getHotKeys() {
+        Map<String, Long> hotKeys = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .map(entry -> new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().get()))
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(size)
+                .forEach(entry -> hotKeys.put(entry.getKey(), entry.getValue() * sampling));
+        return hotKeys;
+    }
+
+    void reset() {
+        counts.clear();
+    }
+
+    private void decay() {
+        if (!decayLock.tryLock()) {
+            return;
+        }
+        try {
+            counts.values().forEach(count -> count.updateAndGet(value -> value / 2));
+            counts.values().removeIf(count -> count.get() == 0);
+        } finally {
+            decayLock.unlock();
+        }
+    }
+
+    private static String describe(Object key) {
+        String description = String.valueOf(key);
+        return description.length() > MAX_KEY_LENGTH ? description.substring(0, MAX_KEY_LENGTH) + "..." : description;
+    }
+}
@@ -0,0 +1,129 @@
+package com.sdl.dxa.caching.statistics;
+
+import com.sdl.dxa.caching.ForwardingCache;
+import org.jetbrains.annotations.Nullable;
+
+import javax.cache.Cache;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cache which collects {@link CacheStatistics}.
+ * <p>The load time is the time between a miss and putting a value for the same key into the cache in the same thread,
+ * which is how DXA uses its caches. For entry processors like the ones of synchronized Spring caches, the time of
+ * the processor is taken if the key was missing.</p>
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class MonitoredCache<K, V> extends ForwardingCache<K, V> {
+
+    private final CacheStatistics statistics;
+
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+
+    MonitoredCache(Cache<K, V> delegate, @Nullable HotKeyTracker hotKeys) {
+        super(delegate);
+        this.statistics = new CacheStatistics(delegate.getName(), this, hotKeys);
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public V get(K key) {
+        V value = delegate.get(key);
+        record(key, value != null);
+        return value;
+    }
+
+    @Override
+    public Map<K, V> getAll(Set<? extends K> keys) {
+        Map<K, V> values = delegate.getAll(keys);
+        keys.forEach(key -> record(key, values.containsKey(key)));
+        return values;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        boolean contains = delegate.containsKey(key);
+        if (!contains) {
+            // a hit is counted by the get which follows
+            record(key, false);
+        }
+        return contains;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        delegate.put(key, value);
+        loaded(key);
+    }
+
+    @Override
+    public V getAndPut(K key, V value) {
+        V previous = delegate.getAndPut(key, value);
+        loaded(key);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        delegate.putAll(map);
+        map.keySet().forEach(this::loaded);
+    }
+
+    @Override
+    public boolean putIfAbsent(K key, V value) {
+        boolean put = delegate.putIfAbsent(key, value);
+        loaded(key);
+        return put;
+    }
+
+    @Override
+    public <T> T invoke(K key, EntryProcessor<K, V, T> entryProcessor, Object... arguments) throws EntryProcessorException {
+        boolean contains = delegate.containsKey(key);
+        long start = System.nanoTime();
+        T result = delegate.invoke(key, entryProcessor, arguments);
+        if (contains) {
+            statistics.recordHit(key);
+        } else {
+            statistics.recordMiss(key);
+            statistics.recordLoad(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private void record(K key, boolean hit) {
+        if (hit) {
+            statistics.recordHit(key);
+        } else {
+            statistics.recordMiss(key);
+            pendingLoad.set(new PendingLoad(key, System.nanoTime()));
+        }
+    }
+
+    private void loaded(K key) {
+        PendingLoad load = pendingLoad.get();
+        if (load != null && Objects.equals(load.key, key)) {
+            pendingLoad.remove();
+            statistics.recordLoad(System.nanoTime() - load.start);
+        }
+    }
+
+    private static final class PendingLoad {
+
+        private final Object key;
+
+        private final long start;
+
+        private PendingLoad(Object key, long start) {
+            this.key = key;
+            this.start = start;
+        }
+    }
+}
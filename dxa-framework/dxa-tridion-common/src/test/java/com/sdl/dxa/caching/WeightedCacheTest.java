@@ -0,0 +1,116 @@
+package com.sdl.dxa.caching;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WeightedCacheTest {
+
+    private static final String VALUE = new String(new char[1000]);
+
+    private static final long VALUE_SIZE = CacheEntrySizeEstimator.estimate(1) + CacheEntrySizeEstimator.estimate(VALUE);
+
+    private CacheManager cacheManager;
+
+    private Cache<Integer, String> delegate;
+
+    private WeightedCache<Integer, String> cache;
+
+    @Before
+    public void init() {
+        cacheManager = Caching.getCachingProvider().getCacheManager();
+        delegate = cacheManager.createCache("weighted", new MutableConfiguration<Integer, String>().setTypes(Integer.class, String.class));
+        cache = new WeightedCache<>(delegate, VALUE_SIZE * 10);
+    }
+
+    @After
+    public void shutdown() {
+        cacheManager.destroyCache("weighted");
+    }
+
+    @Test
+    public void shouldParseSizes() {
+        assertEquals(512, WeightedCache.parseSize("512"));
+        assertEquals(512 * 1024, WeightedCache.parseSize("512KB"));
+        assertEquals(64L * 1024 * 1024, WeightedCache.parseSize(" 64mb "));
+        assertEquals(1024L * 1024 * 1024, WeightedCache.parseSize("1G"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotParseInvalidSize() {
+        WeightedCache.parseSize("64 megabytes");
+    }
+
+    @Test
+    public void shouldTrackWeightOfEntries() {
+        //when
+        cache.put(1, VALUE);
+        cache.put(1, VALUE);
+        cache.put(2, VALUE);
+        cache.remove(2);
+
+        //then
+        assertEquals(VALUE_SIZE, cache.getWeight());
+        assertEquals(VALUE, cache.get(1));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntriesOverBudget() {
+        //given
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, VALUE);
+        }
+        cache.get(0);
+
+        //when
+        cache.put(10, VALUE);
+
+        //then
+        assertTrue(cache.getWeight() <= cache.getBudget() * 9 / 10);
+        assertNotNull(delegate.get(0));
+        assertNotNull(delegate.get(10));
+        assertNull(delegate.get(1));
+    }
+
+    @Test
+    public void shouldNotCacheEntriesLargerThanBudget() {
+        //when
+        boolean put = cache.putIfAbsent(1, new String(new char[(int) cache.getBudget()]));
+
+        //then
+        assertFalse(put);
+        assertNull(delegate.get(1));
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void shouldForgetEntriesRemovedFromWrappedCache() {
+        //given
+        cache.put(1, VALUE);
+        delegate.remove(1);
+
+        //when
+        String value = cache.get(1);
+
+        //then
+        assertNull(value);
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void shouldUnwrapItself() {
+        assertSame(cache, cache.unwrap(WeightedCache.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.sdl.dxa.caching.statistics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CacheStatisticsRegistryTest {
+
+    private CacheManager cacheManager;
+
+    private Cache<String, String> cache;
+
+    private CacheStatisticsRegistry registry;
+
+    @Before
+    public void init() {
+        cacheManager = Caching.getCachingProvider().getCacheManager();
+        cache = cacheManager.createCache("registered", new MutableConfiguration<String, String>().setTypes(String.class, String.class));
+        registry = new CacheStatisticsRegistry();
+        ReflectionTestUtils.setField(registry, "statisticsEnabled", true);
+        ReflectionTestUtils.setField(registry, "jmxEnabled", true);
+    }
+
+    @After
+    public void shutdown() {
+        registry.destroy();
+        cacheManager.destroyCache("registered");
+    }
+
+    @Test
+    public void shouldNotMonitorIfDisabled() {
+        //given
+        ReflectionTestUtils.setField(registry, "statisticsEnabled", false);
+
+        //when
+        Cache<String, String> result = registry.monitor("registered", cache);
+
+        //then
+        assertSame(cache, result);
+        assertTrue(registry.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void shouldMonitorCacheOnce() {
+        //when
+        Cache<String, String> first = registry.monitor("registered", cache);
+        Cache<String, String> second = registry.monitor("registered", cache);
+        first.get("key");
+
+        //then
+        assertSame(first, second);
+        assertEquals(1, registry.getStatistics().size());
+        assertEquals(1, registry.getStatistics("registered").getMisses());
+        assertNull(registry.getStatistics("unknown"));
+    }
+
+    @Test
+    public void shouldRegisterStatisticsInJmx() throws Exception {
+        //given
+        ObjectName objectName = new ObjectName("com.sdl.dxa:type=CacheStatistics,name=\"registered\"");
+        registry.monitor("registered", cache).get("key");
+
+        //when
+        Object misses = ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Misses");
+        registry.destroy();
+
+        //then
+        assertEquals(1L, misses);
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+    }
+}
@@ -0,0 +1,140 @@
+package com.sdl.dxa.caching.statistics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.caching.WeightedCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MonitoredCacheTest {
+
+    private CacheManager cacheManager;
+
+    private Cache<String, String> delegate;
+
+    @Before
+    public void init() {
+        cacheManager = Caching.getCachingProvider().getCacheManager();
+        delegate = cacheManager.createCache("monitored", new MutableConfiguration<String, String>().setTypes(String.class, String.class));
+    }
+
+    @After
+    public void shutdown() {
+        cacheManager.destroyCache("monitored");
+    }
+
+    @Test
+    public void shouldCountHitsMissesAndLoads() throws InterruptedException {
+        //given
+        MonitoredCache<String, String> cache = new MonitoredCache<>(delegate, null);
+
+        //when
+        cache.get("key");
+        Thread.sleep(5);
+        cache.put("key", "value");
+        cache.get("key");
+        cache.get("key");
+        cache.containsKey("other");
+
+        //then
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals("monitored", statistics.getName());
+        assertEquals(2, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(0.5, statistics.getHitRatio(), 0.001);
+        assertEquals(1, statistics.getLoads());
+        assertTrue(statistics.getLoadTimeMedian() >= 4);
+        assertEquals(1, statistics.getEntries());
+        assertTrue(statistics.getEstimatedSize() > 0);
+    }
+
+    @Test
+    public void shouldNotCountPutsWithoutMissAsLoads() {
+        //given
+        MonitoredCache<String, String> cache = new MonitoredCache<>(delegate, null);
+
+        //when
+        cache.get("key");
+        cache.put("other", "value");
+
+        //then
+        assertEquals(0, cache.getStatistics().getLoads());
+    }
+
+    @Test
+    public void shouldTrackHotKeys() {
+        //given
+        MonitoredCache<String, String> cache = new MonitoredCache<>(delegate, new HotKeyTracker(2, 1));
+        cache.put("hot", "value");
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            cache.get("hot");
+        }
+        cache.get("warm");
+        cache.get("warm");
+        cache.get("cold");
+
+        //then
+        Map<String, Long> hotKeys = cache.getStatistics().getHotKeys();
+        assertEquals(2, hotKeys.size());
+        assertEquals(Long.valueOf(10), hotKeys.get("hot"));
+        assertEquals(Long.valueOf(2), hotKeys.get("warm"));
+    }
+
+    @Test
+    public void shouldNotSerializeHotKeys() throws Exception {
+        //given
+        MonitoredCache<String, String> cache = new MonitoredCache<>(delegate, new HotKeyTracker(2, 1));
+        cache.get("context-cookie-value");
+
+        //when
+        String json = new ObjectMapper().writeValueAsString(cache.getStatistics());
+
+        //then
+        assertTrue(json.contains("\"misses\":1"));
+        assertFalse(json.contains("hotKeys"));
+        assertFalse(json.contains("context-cookie-value"));
+    }
+
+    @Test
+    public void shouldReportWeightAndEvictionsOfWeightedCache() {
+        //given
+        WeightedCache<String, String> weightedCache = new WeightedCache<>(delegate, 1000);
+        MonitoredCache<String, String> cache = new MonitoredCache<>(weightedCache, null);
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+
+        //then
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(weightedCache.getWeight(), statistics.getEstimatedSize());
+        assertTrue(statistics.getEvictions() > 0);
+    }
+
+    @Test
+    public void shouldResetStatistics() {
+        //given
+        MonitoredCache<String, String> cache = new MonitoredCache<>(delegate, new HotKeyTracker(2, 1));
+        cache.get("key");
+
+        //when
+        cache.getStatistics().reset();
+
+        //then
+        assertEquals(0, cache.getStatistics().getMisses());
+        assertTrue(cache.getStatistics().getHotKeys().isEmpty());
+    }
+}
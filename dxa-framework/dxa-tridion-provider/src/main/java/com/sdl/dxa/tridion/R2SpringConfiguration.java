@@ -1,6 +1,7 @@
 package com.sdl.dxa.tridion;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.tridion.modelservice.ModelServiceRequestFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -19,9 +20,12 @@ public class R2SpringConfiguration {
     @Qualifier("dxaR2ObjectMapper")
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ModelServiceRequestFactory modelServiceRequestFactory;
+
     @Bean
     public RestTemplate modelServiceRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+        RestTemplate restTemplate = new RestTemplate(modelServiceRequestFactory);
         // replace the default JSON message converter with R2 on the right place in collection
         restTemplate.setMessageConverters(
                 restTemplate.getMessageConverters().stream()
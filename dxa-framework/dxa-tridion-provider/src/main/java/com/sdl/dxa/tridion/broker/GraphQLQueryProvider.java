@@ -5,6 +5,7 @@ import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.contentmodel.Pagination;
 import com.sdl.web.pca.client.contentmodel.enums.ContentIncludeMode;
 import com.sdl.web.pca.client.contentmodel.generated.InputItemFilter;
+import com.sdl.web.pca.client.contentmodel.generated.InputKeywordCriteria;
 import com.sdl.web.pca.client.contentmodel.generated.InputSchemaCriteria;
 import com.sdl.web.pca.client.contentmodel.generated.InputSortParam;
 import com.sdl.web.pca.client.contentmodel.generated.Item;
@@ -13,9 +14,9 @@ import com.sdl.web.pca.client.contentmodel.generated.SortFieldType;
 import com.sdl.web.pca.client.contentmodel.generated.SortOrderType;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
+import com.sdl.webapp.common.util.TcmUtils;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.support.SimpleValueWrapper;
 
 import java.util.Arrays;
 import java.util.List;
@@ -51,42 +52,45 @@ public class GraphQLQueryProvider implements QueryProvider {
 
     @Override
     public List<Item> executeQueryItems(SimpleBrokerQuery queryParams) {
-        String key = queryParams.toString();
+        QueryPage page = executeQueryPage(queryParams);
+        hasMore = page.isHasMore();
+        cursor = page.getCursor();
+        return page.getItems();
+    }
 
-        SimpleValueWrapper simpleValueWrapper = null;
-        if (!webRequestContext.isSessionPreview()) {
-            simpleValueWrapper = (SimpleValueWrapper) queryCache.get(key);
-        }
+    @Override
+    public QueryPage executeQueryPage(SimpleBrokerQuery queryParams) {
+        boolean cacheable = !webRequestContext.isSessionPreview();
+        QueryCacheKey key = cacheable ? QueryCacheKey.of(queryParams) : null;
 
-        List<Item> result;
-        if (simpleValueWrapper != null) {
-            //Query result is in cache
-            result = (List<Item>) simpleValueWrapper.get();
-        } else {
+        QueryPage page = cacheable ? queryCache.get(key, QueryPage.class) : null;
+        if (page == null) {
             //Not in cache, query from backend
-            InputItemFilter filter = buildFilter(queryParams);
-            InputSortParam sort = buildSort(queryParams);
-            int pageSize = queryParams.getPageSize() > 0 ? queryParams.getPageSize() + 1 : queryParams.getPageSize();
-            Pagination pagination = new Pagination();
-            pagination.setFirst(pageSize);
-            pagination.setAfter(queryParams.getCursor());
-            ItemConnection results = clientProvider.getClient().executeItemQuery(filter, sort, pagination, null, ContentIncludeMode.EXCLUDE, false, null);
-            List<Item> resultList = results.getEdges().stream().map(edge -> edge.getNode()).collect(Collectors.toList());
-
-            if (pageSize == -1) {
-                cursor = null;
-                return resultList;
+            page = queryBackend(queryParams);
+            if (cacheable) {
+                queryCache.put(key, page);
             }
-            hasMore = results.getEdges().size() > queryParams.getPageSize();
-            int n = hasMore ? queryParams.getPageSize() : results.getEdges().size();
-            cursor = n > 0 ? results.getEdges().get(n - 1).getCursor() : null;
-            result = hasMore ? resultList.subList(0, queryParams.getPageSize()) : resultList;
+        }
+        return page;
+    }
 
-            if (!webRequestContext.isSessionPreview()) {
-                queryCache.put(key, result);
-            }
+    private QueryPage queryBackend(SimpleBrokerQuery queryParams) {
+        InputItemFilter filter = buildFilter(queryParams);
+        InputSortParam sort = buildSort(queryParams);
+        int pageSize = queryParams.getPageSize() > 0 ? queryParams.getPageSize() + 1 : queryParams.getPageSize();
+        Pagination pagination = new Pagination();
+        pagination.setFirst(pageSize);
+        pagination.setAfter(queryParams.getCursor());
+        ItemConnection results = clientProvider.getClient().executeItemQuery(filter, sort, pagination, null, ContentIncludeMode.EXCLUDE, false, null);
+        List<Item> resultList = results.getEdges().stream().map(edge -> edge.getNode()).collect(Collectors.toList());
+
+        if (pageSize == -1) {
+            return new QueryPage(resultList, false, null);
         }
-        return result;
+        boolean hasMore = results.getEdges().size() > queryParams.getPageSize();
+        int n = hasMore ? queryParams.getPageSize() : results.getEdges().size();
+        String cursor = n > 0 ? results.getEdges().get(n - 1).getCursor() : null;
+        return new QueryPage(hasMore ? resultList.subList(0, queryParams.getPageSize()) : resultList, hasMore, cursor);
     }
 
     private InputItemFilter buildFilter(SimpleBrokerQuery queryParams) {
@@ -102,21 +106,40 @@ public class GraphQLQueryProvider implements QueryProvider {
         if (queryParams.getPublicationId() > 0) {
             filter.setPublicationIds(Arrays.asList(queryParams.getPublicationId()));
         }
-/** @ToDo https://github.com/sdl/dxa-web-application-java/issues/129
-        if (queryParams.getKeywordFilters() != null) {
-            List<InputItemFilter> extraTaxonolies = new ArrayList<>();
-            queryParams.getKeywordFilters().entries().forEach(entry -> {
-                InputItemFilter extraFilter = new InputItemFilter();
-                extraFilter.setItemTypes(Arrays.asList(KEYWORD));
-                TaxonomyKeywordCriteria tkc = new TaxonomyKeywordCriteria(entry.getKey(), entry.getValue(), true);
-                InputKeywordCriteria keywordCriteria = new InputKeywordCriteria();
-                keywordCriteria.setKey(entry.getKey());
-                keywordCriteria.setKeywordId(tkc.getKeywordId());
-                extraFilter.setKeyword(keywordCriteria);
-            });
-            filter.setAnd(extraTaxonolies);
+
+        if (queryParams.getKeywordFilters() != null && !queryParams.getKeywordFilters().isEmpty()) {
+            List<InputItemFilter> keywordFilters = queryParams.getKeywordFilters().entries().stream()
+                    .map(entry -> buildKeywordFilter(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList());
+            if (queryParams.isMatchAnyKeyword()) {
+                filter.setOr(keywordFilters);
+            } else {
+                filter.setAnd(keywordFilters);
+            }
         }
-*/
+
+        return filter;
+    }
+
+    /**
+     * Builds a filter for items tagged with the given keyword. Category and keyword are either TCM URIs,
+     * or the name of the category and the key of the keyword.
+     */
+    private static InputItemFilter buildKeywordFilter(String category, String keyword) {
+        InputKeywordCriteria criteria = new InputKeywordCriteria();
+        if (TcmUtils.isTcmUri(category)) {
+            criteria.setCategoryId(TcmUtils.getItemId(category));
+        } else {
+            criteria.setCategoryName(category);
+        }
+        if (TcmUtils.isTcmUri(keyword)) {
+            criteria.setKeywordId(TcmUtils.getItemId(keyword));
+        } else {
+            criteria.setKey(keyword);
+        }
+
+        InputItemFilter filter = new InputItemFilter();
+        filter.setKeyword(criteria);
         return filter;
     }
 
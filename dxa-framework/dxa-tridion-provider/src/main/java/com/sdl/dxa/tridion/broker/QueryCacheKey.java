@@ -0,0 +1,39 @@
+package com.sdl.dxa.tridion.broker;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
+import lombok.Value;
+
+/**
+ * Key of a page of broker query results in the {@code queryCache}. Unlike the {@link SimpleBrokerQuery} it is made of,
+ * the key is immutable and only contains what the backend request depends on.
+ */
+@Value
+public class QueryCacheKey {
+
+    private int publicationId;
+
+    private int schemaId;
+
+    private String sort;
+
+    private ImmutableListMultimap<String, String> keywordFilters;
+
+    private boolean matchAnyKeyword;
+
+    private int pageSize;
+
+    private String cursor;
+
+    /**
+     * Creates the key of the current page of the query.
+     *
+     * @param query broker query
+     * @return the cache key
+     */
+    public static QueryCacheKey of(SimpleBrokerQuery query) {
+        return new QueryCacheKey(query.getPublicationId(), query.getSchemaId(), query.getSort(),
+                query.getKeywordFilters() == null ? ImmutableListMultimap.of() : ImmutableListMultimap.copyOf(query.getKeywordFilters()),
+                query.isMatchAnyKeyword(), query.getPageSize(), query.getCursor());
+    }
+}
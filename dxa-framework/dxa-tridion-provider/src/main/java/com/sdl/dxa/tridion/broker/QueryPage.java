@@ -0,0 +1,35 @@
+package com.sdl.dxa.tridion.broker;
+
+import com.sdl.web.pca.client.contentmodel.generated.Item;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of the results of a broker query, as it is cached in the {@code queryCache}.
+ */
+@Value
+public class QueryPage {
+
+    private List<Item> items;
+
+    /**
+     * Whether there are more results after this page.
+     */
+    private boolean hasMore;
+
+    /**
+     * Cursor of the last item of the page, to request the next page with.
+     */
+    @Nullable
+    private String cursor;
+
+    public QueryPage(List<Item> items, boolean hasMore, @Nullable String cursor) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        this.hasMore = hasMore;
+        this.cursor = cursor;
+    }
+}
@@ -12,4 +12,16 @@ public interface QueryProvider {
     String getCursor();
 
     List<Item> executeQueryItems(SimpleBrokerQuery query);
+
+    /**
+     * Executes the query and returns the page of results together with its paging state. Unlike {@link #hasMore()} and
+     * {@link #getCursor()}, the result does not depend on other queries executed by this provider.
+     *
+     * @param query broker query
+     * @return page of results
+     */
+    default QueryPage executeQueryPage(SimpleBrokerQuery query) {
+        List<Item> items = executeQueryItems(query);
+        return new QueryPage(items, hasMore(), getCursor());
+    }
 }
@@ -8,6 +8,9 @@ import com.sdl.webapp.common.exceptions.DxaException;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Builds a strongly typed {@linkplain EntityModel Entity Model} based on a given DXA R2 Data Model.
  *
@@ -30,4 +33,27 @@ public interface EntityModelBuilder extends ModelBuilder {
     @Contract("_, _, _ -> !null")
     <T extends EntityModel> T buildEntityModel(@Nullable T originalEntityModel, EntityModelData modelData,
                                                @Nullable Class<T> expectedClass) throws DxaException;
+
+    /**
+     * Builds strongly typed Entity Models for a batch of DXA R2 Data Models, e.g. the results of a dynamic list.
+     * The default implementation builds them one by one with {@link #buildEntityModel(EntityModel, EntityModelData, Class)},
+     * builders may override it to share the work between models with the same schemas.
+     *
+     * @param <T> The expected class of the values.
+     * @param originalEntityModels the strongly typed Entity Models to build in the order of {@code modelData}.
+     *                             Is {@code null} for the first {@linkplain EntityModelBuilder Entity Model Builder} in the {@link ModelBuilderPipelineImpl}
+     * @param modelData            the DXA R2 Data Models
+     * @param expectedClass        required class of entity models
+     * @return the strongly typed Entity Models in the order of {@code modelData}
+     * @throws DxaException Thrown when building of any model fails
+     */
+    default <T extends EntityModel> List<T> buildEntityModels(@Nullable List<T> originalEntityModels, List<EntityModelData> modelData,
+                                                              @Nullable Class<T> expectedClass) throws DxaException {
+        List<T> entityModels = new ArrayList<>(modelData.size());
+        for (int i = 0; i < modelData.size(); i++) {
+            T originalEntityModel = originalEntityModels == null ? null : originalEntityModels.get(i);
+            entityModels.add(buildEntityModel(originalEntityModel, modelData.get(i), expectedClass));
+        }
+        return entityModels;
+    }
 }
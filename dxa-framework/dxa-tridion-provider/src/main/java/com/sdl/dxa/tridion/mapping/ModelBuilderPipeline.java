@@ -8,6 +8,9 @@ import com.sdl.webapp.common.exceptions.DxaException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Represents a pipeline/chain of configured Strongly Typed View Model Builders based on DXA R2 Data Model.
  *
@@ -46,4 +49,24 @@ public interface ModelBuilderPipeline {
      */
     @NotNull
     <T extends EntityModel> T createEntityModel(@NotNull EntityModelData modelData, @Nullable Class<T> expectedClass) throws DxaException;
+
+    /**
+     * See {@link EntityModelBuilder#buildEntityModels(java.util.List, java.util.List, Class)}.
+     * Builds the Entity Models of a batch of models, e.g. the results of a dynamic list, so that builders can share the work
+     * between models with the same schemas.
+     *
+     * @param <T> type that extends EntityModel
+     * @param modelData model data
+     * @param expectedClass expected class
+     * @return Entity Models in the order of {@code modelData}
+     * @throws DxaException in case
+     */
+    @NotNull
+    default <T extends EntityModel> List<T> createEntityModels(@NotNull List<EntityModelData> modelData, @Nullable Class<T> expectedClass) throws DxaException {
+        List<T> entityModels = new ArrayList<>(modelData.size());
+        for (EntityModelData entityModelData : modelData) {
+            entityModels.add(createEntityModel(entityModelData, expectedClass));
+        }
+        return entityModels;
+    }
 }
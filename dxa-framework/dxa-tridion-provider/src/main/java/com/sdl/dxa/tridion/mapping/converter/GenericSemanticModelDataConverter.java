@@ -7,6 +7,7 @@ import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.entity.Link;
@@ -44,7 +45,7 @@ public class GenericSemanticModelDataConverter {
     private Map<Class<?>, SemanticModelConverter<?>> converters = new HashMap<>();
 
     private static String resolveLink(String itemId, WebRequestContext webRequestContext, LinkResolver linkResolver) {
-        String publicationId = webRequestContext.getLocalization().getId();
+        String publicationId = ModelBuildingContext.localizationOf(webRequestContext).getId();
         String url = TcmUtils.isTcmUri(itemId) ? itemId : TcmUtils.buildTcmUri(publicationId, itemId);
         return linkResolver.resolveLink(url, publicationId);
     }
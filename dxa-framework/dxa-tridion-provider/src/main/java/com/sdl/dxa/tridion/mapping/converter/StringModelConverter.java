@@ -4,6 +4,7 @@ import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.model.RichText;
 import com.sdl.webapp.common.api.model.entity.Link;
@@ -50,7 +51,8 @@ public class StringModelConverter implements SemanticModelConverter<String> {
             result = toConvert;
         } else if (Link.class.isAssignableFrom(objectType)) {
             Link link = new Link();
-            String url = linkResolver.resolveLink(toConvert, webRequestContext.getLocalization().getId(), webRequestContext.getPageContextId());
+            String url = linkResolver.resolveLink(toConvert, ModelBuildingContext.localizationOf(webRequestContext).getId(),
+                    ModelBuildingContext.pageContextIdOf(webRequestContext));
             link.setUrl(url);
             result = link;
         } else if (RichText.class.isAssignableFrom(objectType)) {
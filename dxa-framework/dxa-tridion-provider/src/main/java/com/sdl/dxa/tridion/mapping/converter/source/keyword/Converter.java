@@ -2,6 +2,7 @@ package com.sdl.dxa.tridion.mapping.converter.source.keyword;
 
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticFieldDataProvider;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
@@ -109,7 +110,7 @@ public abstract class Converter<T> {
 
         KeywordConverter(Class<? extends KeywordModel> targetClass) {
             this.semanticMapper = ApplicationContextHolder.getContext().getBean(SemanticMapper.class);
-            this.localization = ApplicationContextHolder.getContext().getBean(WebRequestContext.class).getLocalization();
+            this.localization = ModelBuildingContext.localizationOf(ApplicationContextHolder.getContext().getBean(WebRequestContext.class));
             this.targetClass = targetClass;
         }
 
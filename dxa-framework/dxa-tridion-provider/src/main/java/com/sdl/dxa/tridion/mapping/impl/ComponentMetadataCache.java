@@ -0,0 +1,39 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.caching.wrapper.SimpleCacheWrapper;
+import com.sdl.webapp.common.api.model.query.ComponentMetadata;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of broker component metadata for dynamic lists, keyed by publication and component ID.
+ * Subsequent queries of a publication which return the same components do not need a broker round trip per component.
+ * Expiration and size are configured for the {@code componentMetadata} cache.
+ */
+@Component
+@Profile("cil.providers.active")
+public class ComponentMetadataCache extends SimpleCacheWrapper<Integer, ComponentMetadata> {
+
+    @Override
+    public String getCacheName() {
+        return "componentMetadata";
+    }
+
+    @Override
+    public Class<ComponentMetadata> getValueType() {
+        return ComponentMetadata.class;
+    }
+
+    /**
+     * Constructs the key of a component's metadata.
+     *
+     * @param publicationId publication ID
+     * @param keyParams     component ID
+     * @return the cache key
+     */
+    @Override
+    public Object getSpecificKey(Integer publicationId, Object... keyParams) {
+        return new SimpleKey(publicationId, keyParams[0]);
+    }
+}
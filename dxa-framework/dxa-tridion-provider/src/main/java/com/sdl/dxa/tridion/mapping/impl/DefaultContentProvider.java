@@ -31,6 +31,7 @@ import com.tridion.broker.querying.criteria.content.ItemSchemaCriteria;
 import com.tridion.broker.querying.criteria.content.PageURLCriteria;
 import com.tridion.broker.querying.criteria.content.PublicationCriteria;
 import com.tridion.broker.querying.criteria.operators.AndCriteria;
+import com.tridion.broker.querying.criteria.operators.OrCriteria;
 import com.tridion.broker.querying.criteria.taxonomy.TaxonomyKeywordCriteria;
 import com.tridion.broker.querying.filter.LimitFilter;
 import com.tridion.broker.querying.filter.PagingFilter;
@@ -45,6 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.NotImplementedException;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.joda.time.DateTime;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -86,6 +88,9 @@ public class DefaultContentProvider extends AbstractContentProvider implements C
 
     private final StaticContentResolver staticContentResolver;
 
+    @Autowired(required = false)
+    private ComponentMetadataCache metadataCache;
+
     @Autowired
     public DefaultContentProvider(WebRequestContext webRequestContext,
                                   StaticContentResolver staticContentResolver,
@@ -261,6 +266,7 @@ public class DefaultContentProvider extends AbstractContentProvider implements C
 
     /**
      * Executes the given query on a specific version of Tridion and returns a list of metadata.
+     * Metadata is loaded at most once per component and taken from {@link ComponentMetadataCache} if cached.
      *
      * @param simpleBrokerQuery query to execute
      * @return a list of metadata, never returns <code>null</code>
@@ -269,16 +275,39 @@ public class DefaultContentProvider extends AbstractContentProvider implements C
     protected List<ComponentMetadata> executeMetadataQuery(SimpleBrokerQuery simpleBrokerQuery) {
         List<String> ids = executeQuery(simpleBrokerQuery);
 
-        final ComponentMetaFactory cmf = new ComponentMetaFactory(simpleBrokerQuery.getPublicationId());
+        final int publicationId = simpleBrokerQuery.getPublicationId();
+        final ComponentMetaFactory cmf = createComponentMetaFactory(publicationId);
         simpleBrokerQuery.setHasMore(ids.size() > simpleBrokerQuery.getPageSize());
 
         return ids.stream()
-                .filter(id -> cmf.getMeta(id) != null)
+                .map(id -> getComponentMetadata(cmf, publicationId, id))
+                .filter(Objects::nonNull)
                 .limit(simpleBrokerQuery.getPageSize())
-                .map(id -> convert(cmf.getMeta(id)))
                 .collect(Collectors.toList());
     }
 
+    ComponentMetaFactory createComponentMetaFactory(int publicationId) {
+        return new ComponentMetaFactory(publicationId);
+    }
+
+    @Nullable
+    private ComponentMetadata getComponentMetadata(ComponentMetaFactory cmf, int publicationId, String id) {
+        Object key = metadataCache != null ? metadataCache.getSpecificKey(publicationId, id) : null;
+        if (key != null) {
+            ComponentMetadata cached = metadataCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ComponentMeta componentMeta = cmf.getMeta(id);
+        if (componentMeta == null) {
+            return null;
+        }
+        ComponentMetadata metadata = convert(componentMeta);
+        return key != null ? metadataCache.addAndGet(key, metadata) : metadata;
+    }
+
     private Criteria buildCriteria(@NotNull SimpleBrokerQuery query) {
         final List<Criteria> children = new ArrayList<>();
 
@@ -294,10 +323,16 @@ public class DefaultContentProvider extends AbstractContentProvider implements C
             children.add(new PageURLCriteria(query.getPath()));
         }
 
-        if (query.getKeywordFilters() != null) {
+        if (query.getKeywordFilters() != null && !query.getKeywordFilters().isEmpty()) {
+            final List<Criteria> keywords = new ArrayList<>();
             query.getKeywordFilters().entries().forEach(entry -> {
-                children.add(new TaxonomyKeywordCriteria(entry.getKey(), entry.getValue(), true));
+                keywords.add(new TaxonomyKeywordCriteria(entry.getKey(), entry.getValue(), true));
             });
+            if (query.isMatchAnyKeyword()) {
+                children.add(new OrCriteria(keywords));
+            } else {
+                children.addAll(keywords);
+            }
         }
 
         return new AndCriteria(children);
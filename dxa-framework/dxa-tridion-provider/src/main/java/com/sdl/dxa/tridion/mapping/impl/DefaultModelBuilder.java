@@ -1,6 +1,7 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.MapMaker;
 import com.sdl.dxa.api.datamodel.model.BinaryContentData;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.ExternalContentData;
@@ -14,6 +15,7 @@ import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.PageModelBuilder;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
 import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
@@ -41,15 +43,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Default implementation of {@link EntityModelBuilder} and {@link PageModelBuilder}. Priority of this builder is always {@code highest precedence}.
@@ -72,6 +79,22 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @Autowired
     private WebRequestContext webRequestContext;
 
+    @Autowired(required = false)
+    private ModelBuildingPool modelBuildingPool;
+
+    /**
+     * Minimal number of entities in a batch, e.g. a page of a dynamic list, to build them concurrently
+     * if {@link ModelBuildingPool} is enabled.
+     */
+    @Value("${dxa.tridion.modelbuilder.concurrent.batch.threshold:20}")
+    private int concurrentBatchThreshold = 20;
+
+    /**
+     * Compiled entity build plans of each localization. Localizations are compared by identity and held weakly,
+     * so plans of a reloaded localization are compiled again and the outdated ones are collected with it.
+     */
+    private final Map<Localization, Map<EntityBuildPlan.Key, EntityBuildPlan>> buildPlans = new MapMaker().weakKeys().makeMap();
+
     @Override
     public int getOrder() {
         return HIGHEST_PRECEDENCE;
@@ -86,27 +109,79 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     public <T extends EntityModel> T buildEntityModel(@Nullable T originalEntityModel,
                                                       @NotNull EntityModelData modelData,
                                                       @Nullable Class<T> expectedClass) throws DxaException {
+        EntityBuildPlan plan = getBuildPlan(modelData);
+        return buildEntityModel(modelData, plan, getModelType(modelData, plan, expectedClass), expectedClass);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The build plan and model type are resolved once for all models with the same schemas and MvcData,
+     * and the models are built concurrently if there are at least {@code dxa.tridion.modelbuilder.concurrent.batch.threshold}
+     * of them and {@link ModelBuildingPool} is enabled.</p>
+     *
+     * @dxa.publicApi
+     */
+    @Override
+    public <T extends EntityModel> List<T> buildEntityModels(@Nullable List<T> originalEntityModels,
+                                                             @NotNull List<EntityModelData> modelData,
+                                                             @Nullable Class<T> expectedClass) throws DxaException {
+        Localization localization = getLocalization();
+        List<EntityBuildPlan> plans = new ArrayList<>(modelData.size());
+        Map<EntityBuildPlan, Class<? extends ViewModel>> modelTypes = new IdentityHashMap<>();
+        for (EntityModelData entityModelData : modelData) {
+            EntityBuildPlan plan = getBuildPlan(entityModelData, localization);
+            if (!modelTypes.containsKey(plan)) {
+                modelTypes.put(plan, getModelType(entityModelData, plan, expectedClass));
+            }
+            plans.add(plan);
+        }
+
+        List<Integer> indexes = IntStream.range(0, modelData.size()).boxed().collect(Collectors.toList());
+        ModelBuildingPool.ModelTask<Integer, T, DxaException> entityTask = index -> {
+            EntityBuildPlan plan = plans.get(index);
+            return buildEntityModel(modelData.get(index), plan, modelTypes.get(plan), expectedClass);
+        };
+        if (isConcurrent(modelData) && modelData.size() >= concurrentBatchThreshold) {
+            return modelBuildingPool.map(indexes, ModelBuildingContext.of(webRequestContext), entityTask);
+        }
+        List<T> entityModels = new ArrayList<>(modelData.size());
+        for (Integer index : indexes) {
+            entityModels.add(entityTask.apply(index));
+        }
+        return entityModels;
+    }
+
+    @NotNull
+    private Class<? extends ViewModel> getModelType(@NotNull EntityModelData modelData, @NotNull EntityBuildPlan plan,
+                                                    @Nullable Class<? extends EntityModel> expectedClass) throws DxaException {
+        Class<? extends ViewModel> modelType;
         try {
-            MvcData mvcData = null;
-            Class<? extends ViewModel> modelType;
             if (expectedClass != null) {
                 log.debug("Expected class is pre-set to {} for model {}", expectedClass, modelData);
                 // https://jira.sdl.com/browse/TSI-2273
                 // we currently ignore the base type because of the issue but don't ignore the fact that it's set
-                SemanticSchema semanticSchema = webRequestContext.getLocalization().getSemanticSchemas().get(Long.parseLong(modelData.getSchemaId()));
-                modelType = viewModelRegistry.getMappedModelTypes(semanticSchema.getFullyQualifiedNames(), expectedClass);
+                modelType = plan.getMappedModelType(viewModelRegistry, expectedClass);
             } else {
-                mvcData = createMvcData(modelData.getMvcData(), DefaultsMvcData.ENTITY);
                 log.debug("Expected class is not set explicitly, trying to get it from MvcData");
-                modelType = viewModelRegistry.getViewModelType(mvcData);
+                modelType = plan.getViewModelType(viewModelRegistry);
             }
-            if (modelType == null) throw new IllegalStateException("Could not determine ModelType " +
-                    (expectedClass != null
-                            ? " from pre-selected class " + expectedClass.getCanonicalName()
-                            : " from MvcData class " + mvcData.getClass().getCanonicalName()));
+        } catch (DxaException e) {
+            throw new DxaException("Exception happened while creating a entity model from: " + modelData, e);
+        }
+        if (modelType == null) throw new IllegalStateException("Could not determine ModelType " +
+                (expectedClass != null
+                        ? " from pre-selected class " + expectedClass.getCanonicalName()
+                        : " from MvcData class " + plan.getMvcData().getClass().getCanonicalName()));
+        return modelType;
+    }
 
-            T entityModel = (T) createViewModel(modelType, modelData);
-            entityModel.setMvcData(mvcData);
+    @SuppressWarnings("unchecked")
+    private <T extends EntityModel> T buildEntityModel(@NotNull EntityModelData modelData, @NotNull EntityBuildPlan plan,
+                                                       @NotNull Class<? extends ViewModel> modelType,
+                                                       @Nullable Class<T> expectedClass) throws DxaException {
+        try {
+            T entityModel = (T) createViewModel(modelType, modelData, plan);
+            entityModel.setMvcData(expectedClass != null ? null : plan.getMvcData());
 
             ((AbstractEntityModel) entityModel).setId(modelData.getId());
             fillViewModel(entityModel, modelData);
@@ -136,68 +211,114 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @NotNull
     <T extends ViewModel> T createViewModel(Class<T> viewModelType, @NonNull ViewModelData viewModelData)
             throws SemanticMappingException, ReflectiveOperationException {
-        Localization localization = webRequestContext.getLocalization();
+        return createViewModel(viewModelType, viewModelData, compileBuildPlan(viewModelData, getLocalization(), null));
+    }
+
+    @NotNull
+    private <T extends ViewModel> T createViewModel(Class<T> viewModelType, @NonNull ViewModelData viewModelData, EntityBuildPlan plan)
+            throws SemanticMappingException, ReflectiveOperationException {
+        if (!plan.isMappable()) {
+            return viewModelType.newInstance();
+        }
+        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getFor(viewModelData, plan.getSemanticSchema());
+        return semanticMapper.createEntity(viewModelType, plan.getSemanticFields(), dataProvider);
+    }
+
+    /**
+     * Returns the build plan of the entity from the plans of the current localization, compiling it if this is
+     * the first entity with such schemas and MvcData.
+     */
+    @NotNull
+    EntityBuildPlan getBuildPlan(@NotNull EntityModelData modelData) {
+        return getBuildPlan(modelData, getLocalization());
+    }
+
+    @NotNull
+    private EntityBuildPlan getBuildPlan(@NotNull EntityModelData modelData, @Nullable Localization localization) {
+        if (localization == null) {
+            return compileBuildPlan(modelData, null, createMvcData(modelData.getMvcData(), DefaultsMvcData.ENTITY));
+        }
+        Map<EntityBuildPlan.Key, EntityBuildPlan> plans = buildPlans.computeIfAbsent(localization, key -> new ConcurrentHashMap<>());
+
+        EntityBuildPlan.Key key = new EntityBuildPlan.Key(modelData.getSchemaId(), getInheritedSchemaIds(modelData), modelData.getMvcData());
+        EntityBuildPlan plan = plans.get(key);
+        if (plan == null) {
+            plan = compileBuildPlan(modelData, localization, createSharedMvcData(modelData.getMvcData()));
+            EntityBuildPlan existing = plans.putIfAbsent(key.copy(), plan);
+            if (existing != null) {
+                plan = existing;
+            }
+            log.debug("Compiled build plan for {} in localization {}", key, localization.getId());
+        }
+        return plan;
+    }
+
+    @NotNull
+    private EntityBuildPlan compileBuildPlan(@NotNull ViewModelData viewModelData, @Nullable Localization localization, @Nullable MvcData mvcData) {
         List<SemanticSchema> allSchemas = getInheritedSemanticSchemas(viewModelData, localization);
-        SemanticSchema semanticSchema = null;
+        SemanticSchema semanticSchema;
         if (!Strings.isNullOrEmpty(viewModelData.getSchemaId())) {
             long schemaId = Long.parseLong(viewModelData.getSchemaId());
             semanticSchema = localization.getSemanticSchemas().get(schemaId);
         } else {
             if (allSchemas.isEmpty()) {
-                return viewModelType.newInstance();
+                return new EntityBuildPlan(null, Collections.emptyMap(), false, mvcData);
             }
             semanticSchema = allSchemas.get(0);
         }
-        Map<FieldSemantics, SemanticField> semanticFields = getAllSemanticFields(semanticSchema, viewModelData);
-        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getFor(viewModelData, semanticSchema);
-        return semanticMapper.createEntity(viewModelType, semanticFields, dataProvider);
+        return new EntityBuildPlan(semanticSchema, mergeSemanticFields(semanticSchema, allSchemas), true, mvcData);
+    }
+
+    /**
+     * Creates MvcData which is shared between entities, so its route values and metadata are read-only.
+     */
+    @NotNull
+    private MvcData createSharedMvcData(@Nullable MvcModelData modelData) {
+        MvcData mvcData = createMvcData(modelData, DefaultsMvcData.ENTITY);
+        return MvcDataCreator.creator(mvcData).builder()
+                .routeValues(Collections.unmodifiableMap(new HashMap<>(mvcData.getRouteValues())))
+                .metadata(Collections.emptyMap())
+                .build();
     }
 
     protected List<SemanticSchema> getInheritedSemanticSchemas(ViewModelData viewModelData, Localization localization) {
-        Object schemas = viewModelData.getExtensionData() != null ? viewModelData.getExtensionData().get("Schemas") : null;
-        if (!(schemas instanceof ListWrapper) ||
-            ((ListWrapper) schemas).getValues().isEmpty()) {
+        List<?> inheritedSchemaIds = getInheritedSchemaIds(viewModelData);
+        if (inheritedSchemaIds == null) {
             return Collections.emptyList();
         }
-        ListWrapper<String> allInheritedSchemas = (ListWrapper<String>) schemas;
-        return allInheritedSchemas.getValues()
+        return inheritedSchemaIds
                 .stream()
-                .map(schemaId -> localization.getSemanticSchemas().get(Long.parseLong(schemaId)))
+                .map(schemaId -> localization.getSemanticSchemas().get(Long.parseLong(String.valueOf(schemaId))))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    @Nullable
+    private static List<?> getInheritedSchemaIds(ViewModelData viewModelData) {
+        Object schemas = viewModelData.getExtensionData() != null ? viewModelData.getExtensionData().get("Schemas") : null;
+        if (!(schemas instanceof ListWrapper) ||
+            ((ListWrapper) schemas).getValues().isEmpty()) {
+            return null;
+        }
+        return ((ListWrapper<?>) schemas).getValues();
+    }
+
     @NotNull
-    private Map<FieldSemantics, SemanticField> getAllSemanticFields(@Nullable SemanticSchema semanticSchema,
-                                                                    @NotNull ViewModelData modelData) {
+    private Map<FieldSemantics, SemanticField> mergeSemanticFields(@Nullable SemanticSchema semanticSchema,
+                                                                   @NotNull List<SemanticSchema> inheritedSchemas) {
         if (semanticSchema == null) {
             return Collections.emptyMap();
         }
         final Map<FieldSemantics, SemanticField> semanticFields = semanticSchema.getSemanticFields();
-
-        if (modelData.getExtensionData() == null) {
+        if (inheritedSchemas.isEmpty()) {
             return semanticFields;
         }
-        Object schemas = modelData.getExtensionData().get("Schemas");
-        if (!(schemas instanceof ListWrapper) ||
-            ((ListWrapper) schemas).getValues().isEmpty()) {
-            return semanticFields;
-        }
-        if (log.isDebugEnabled()) log.debug("Found additional semantic schemas {} used in the view model {}", schemas, modelData);
+        if (log.isDebugEnabled()) log.debug("Found additional semantic schemas {} used in the schema {}", inheritedSchemas, semanticSchema);
 
-        Localization localization = webRequestContext.getLocalization();
         Map<FieldSemantics, SemanticField> allAncestorsSemanticFields = new HashMap<>(semanticFields);
-
-                //noinspection unchecked
-        ListWrapper<String> inheritedSchemas = (ListWrapper<String>) schemas;
-        allAncestorsSemanticFields.putAll(inheritedSchemas.getValues()
-                .stream()
-                        .map(schemaId -> localization.getSemanticSchemas().get(Long.parseLong(schemaId)))
-                        .filter(Objects::nonNull)
-                        .map(SemanticSchema::getSemanticFields)
-                        .flatMap(fieldMap -> fieldMap.entrySet().stream())
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-
+        for (SemanticSchema inheritedSchema : inheritedSchemas) {
+            allAncestorsSemanticFields.putAll(inheritedSchema.getSemanticFields());
+        }
         return allAncestorsSemanticFields;
     }
 
@@ -273,6 +394,10 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         if (regions == null) {
             return;
         }
+        if (isConcurrent(regions)) {
+            modelBuildingPool.map(regions, ModelBuildingContext.of(webRequestContext), this::createRegionModel).forEach(regionsToAdd::add);
+            return;
+        }
         for (RegionModelData region : regions) {
             RegionModel regionModel = createRegionModel(region);
             regionsToAdd.add(regionModel);
@@ -311,7 +436,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     }
 
     private String getPageTitle(PageModelData modelData) {
-        Localization localization = webRequestContext.getLocalization();
+        Localization localization = getLocalization();
         String title = "defaultPageTitle".equals(modelData.getTitle()) ? localization.getResource("core.defaultPageTitle") : modelData.getTitle();
         String separator = localization.getResource("core.pageTitleSeparator");
         String postfix = localization.getResource("core.pageTitlePostfix");
@@ -353,24 +478,42 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         if (regionModelData.getEntities() == null) {
             return;
         }
-        regionModelData.getEntities().stream()
-                .map(entityModelData -> {
-                    EntityModel entityModel = createEntityModel(entityModelData);
-                    MvcDataImpl.MvcDataImplBuilder creator = MvcDataCreator.creator(entityModel.getMvcData()).builder().regionName(regionModelData.getName());
-                    entityModel.setMvcData(creator.build());
-                    return entityModel;
-                }).forEach(regionModel::addEntity);
+        ModelBuildingPool.ModelTask<EntityModelData, EntityModel, RuntimeException> entityTask = entityModelData -> {
+            EntityModel entityModel = createEntityModel(entityModelData);
+            MvcDataImpl.MvcDataImplBuilder creator = MvcDataCreator.creator(entityModel.getMvcData()).builder().regionName(regionModelData.getName());
+            entityModel.setMvcData(creator.build());
+            return entityModel;
+        };
+        if (isConcurrent(regionModelData.getEntities())) {
+            modelBuildingPool.map(regionModelData.getEntities(), ModelBuildingContext.of(webRequestContext), entityTask).forEach(regionModel::addEntity);
+            return;
+        }
+        for (EntityModelData entityModelData : regionModelData.getEntities()) {
+            regionModel.addEntity(entityTask.apply(entityModelData));
+        }
+    }
+
+    /**
+     * Returns the localization of the current build task, so that tasks on worker threads do not use the request-scoped
+     * {@link WebRequestContext}, or the localization of the request outside of build tasks.
+     */
+    private Localization getLocalization() {
+        return ModelBuildingContext.localizationOf(webRequestContext);
+    }
+
+    private boolean isConcurrent(List<?> models) {
+        return modelBuildingPool != null && modelBuildingPool.isEnabled() && models.size() > 1;
     }
 
     void processOwnSchema(RegionModelData regionModelData, Class<? extends ViewModel> viewModelType, RegionModel regionModel, String schemaId) {
-        Localization localization = webRequestContext.getLocalization();
+        Localization localization = getLocalization();
         SemanticSchema semanticSchema = localization.getSemanticSchemas().get(Long.parseLong(schemaId));
 
-        List<SemanticSchema> allSchemas = semanticSchema == null ? getInheritedSemanticSchemas(regionModelData, localization) : Collections.emptyList();
+        List<SemanticSchema> allSchemas = getInheritedSemanticSchemas(regionModelData, localization);
         semanticSchema = semanticSchema == null && !allSchemas.isEmpty()
                 ? allSchemas.get(0)
                 : semanticSchema;
-        Map<FieldSemantics, SemanticField> semanticFields = getAllSemanticFields(semanticSchema, regionModelData);
+        Map<FieldSemantics, SemanticField> semanticFields = mergeSemanticFields(semanticSchema, allSchemas);
 
         semanticMapper.mapSemanticFields(viewModelType,
                 semanticFields,
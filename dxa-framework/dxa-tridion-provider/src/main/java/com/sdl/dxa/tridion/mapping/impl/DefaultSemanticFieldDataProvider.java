@@ -10,10 +10,12 @@ import com.sdl.dxa.api.datamodel.model.util.ModelDataWrapper;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.converter.GenericSemanticModelDataConverter;
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
 import com.sdl.webapp.common.api.mapping.semantic.FieldData;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticFieldDataProvider;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
 import com.sdl.webapp.common.api.mapping.semantic.config.FieldPath;
+import com.sdl.webapp.common.api.mapping.semantic.config.LazyXPath;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
 import com.sdl.webapp.common.api.model.KeywordModel;
@@ -54,7 +56,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
 
     private int iteration = 0;
 
-    private String context = null;
+    private LazyXPath context = null;
 
     private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema) {
         this.dataWrapper = dataWrapper;
@@ -91,7 +93,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
         if (provider != null) {
             provider.embeddingLevel = this.embeddingLevel;
             provider.iteration = index + 1;
-            provider.context = semanticField.getXPath(this.context) + "[" + provider.iteration + "]";
+            provider.context = LazyXPath.of(semanticField, this.context, provider.iteration);
             log.trace("Iterating over some list, current index = {}, item = {}, embedding level = {}, context = {}",
                     index, model, this.embeddingLevel, provider.context);
         }
@@ -137,7 +139,8 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
 
         Object value = genericSemanticModelDataConverter.convert(field.get(), targetType, semanticField, pipeline, this);
 
-        return new FieldData(value, semanticField.getXPath(this.context));
+        // the XPath is only built if it is needed for XPM
+        return new FieldData(value, LazyXPath.of(semanticField, this.context));
     }
 
     @Override
@@ -213,7 +216,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             return Optional.empty();
         }
 
-        String localizationId = getContext().getBean(WebRequestContext.class).getLocalization().getId();
+        String localizationId = ModelBuildingContext.localizationOf(getContext().getBean(WebRequestContext.class)).getId();
         return Optional.of(TcmUtils.buildTcmUri(localizationId, modelData.getId()));
     }
 
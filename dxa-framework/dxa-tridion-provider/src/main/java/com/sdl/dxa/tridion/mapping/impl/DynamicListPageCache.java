@@ -0,0 +1,71 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.sdl.dxa.caching.wrapper.SimpleCacheWrapper;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Cache of dynamic list pages shared by all visitors, keyed by localization, entity type, the query without its
+ * paging state and the start index of the page. Each page keeps the GraphQL cursor of the next page,
+ * so that paging to page N only walks the pages which nobody requested before.
+ * Expiration and size are configured for the {@code dynamicListPages} cache.
+ */
+@Component
+@Profile("!cil.providers.active")
+public class DynamicListPageCache extends SimpleCacheWrapper<SimpleBrokerQuery, DynamicListPageCache.Page> {
+
+    @Override
+    public String getCacheName() {
+        return "dynamicListPages";
+    }
+
+    @Override
+    public Class<Page> getValueType() {
+        return Page.class;
+    }
+
+    /**
+     * Constructs the key of a page of the query.
+     *
+     * @param query     dynamic list query, its start index and cursor are ignored
+     * @param keyParams localization ID, entity type and start index of the page
+     * @return the cache key
+     */
+    @Override
+    public Object getSpecificKey(SimpleBrokerQuery query, Object... keyParams) {
+        return new SimpleKey(keyParams[0], keyParams[1], keyParams[2],
+                query.getPublicationId(), query.getSchemaId(), query.getPath(), query.getSort(),
+                query.getResultLimit(), query.getPageSize(),
+                query.getKeywordFilters() == null ? null : ImmutableListMultimap.copyOf(query.getKeywordFilters()),
+                query.isMatchAnyKeyword());
+    }
+
+    /**
+     * Page of a dynamic list.
+     */
+    @Value
+    public static class Page {
+
+        /**
+         * Built entities of the page, or {@code null} if the page was only walked through to get to a later page.
+         */
+        @Nullable
+        private List<EntityModel> entities;
+
+        private boolean hasMore;
+
+        /**
+         * Cursor to request the next page with.
+         */
+        @Nullable
+        private String nextCursor;
+    }
+}
@@ -0,0 +1,138 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.api.datamodel.model.MvcModelData;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.MvcData;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.api.model.ViewModelRegistry;
+import com.sdl.webapp.common.exceptions.DxaException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Everything {@link DefaultModelBuilder} needs to build an entity which depends only on its schemas and MvcData:
+ * the resolved semantic schema, the semantic fields merged with the inherited schemas, the model type and MvcData.
+ * Plans are compiled once per localization and shared by all entities with the same {@link Key},
+ * so building an entity only needs to map its field values.
+ */
+final class EntityBuildPlan {
+
+    @Getter
+    @Nullable
+    private final SemanticSchema semanticSchema;
+
+    @Getter
+    private final Map<FieldSemantics, SemanticField> semanticFields;
+
+    /**
+     * Whether the entity has any schema at all. Entities without schemas are only instantiated.
+     */
+    @Getter
+    private final boolean mappable;
+
+    /**
+     * MvcData shared by all entities built with this plan. Route values and metadata of the instance are read-only,
+     * use {@link MvcData#deepCopy()} or {@link com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator} to change it.
+     */
+    @Getter
+    private final MvcData mvcData;
+
+    private volatile Class<? extends ViewModel> viewModelType;
+
+    private final Map<Class<?>, Class<? extends ViewModel>> mappedModelTypes = new ConcurrentHashMap<>();
+
+    EntityBuildPlan(@Nullable SemanticSchema semanticSchema, Map<FieldSemantics, SemanticField> semanticFields,
+                    boolean mappable, MvcData mvcData) {
+        this.semanticSchema = semanticSchema;
+        this.semanticFields = Collections.unmodifiableMap(semanticFields);
+        this.mappable = mappable;
+        this.mvcData = mvcData;
+    }
+
+    /**
+     * Returns the model type registered for the MvcData of this plan, resolving it on the first call.
+     *
+     * @param viewModelRegistry registry to resolve the type in
+     * @return model type
+     * @throws DxaException if the type cannot be resolved
+     */
+    Class<? extends ViewModel> getViewModelType(ViewModelRegistry viewModelRegistry) throws DxaException {
+        Class<? extends ViewModel> type = this.viewModelType;
+        if (type == null) {
+            type = viewModelRegistry.getViewModelType(mvcData);
+            this.viewModelType = type;
+        }
+        return type;
+    }
+
+    /**
+     * Returns the model type mapped to the semantic schema of this plan for the expected class, resolving it
+     * on the first call for the class.
+     *
+     * @param viewModelRegistry registry to resolve the type in
+     * @param expectedClass     expected class of the model
+     * @return model type, or {@code null} if none is mapped
+     * @throws DxaException if the type cannot be resolved or the plan has no semantic schema
+     */
+    @Nullable
+    Class<? extends ViewModel> getMappedModelType(ViewModelRegistry viewModelRegistry,
+                                                  Class<? extends EntityModel> expectedClass) throws DxaException {
+        Class<? extends ViewModel> type = mappedModelTypes.get(expectedClass);
+        if (type == null) {
+            if (semanticSchema == null) {
+                throw new DxaException("Cannot find a semantic schema to map the expected class " + expectedClass);
+            }
+            type = viewModelRegistry.getMappedModelTypes(semanticSchema.getFullyQualifiedNames(), expectedClass);
+            if (type != null) {
+                mappedModelTypes.put(expectedClass, type);
+            }
+        }
+        return type;
+    }
+
+    /**
+     * Key of a plan within a localization: the schema ID, the inherited schema IDs and the MvcData of an entity.
+     */
+    @EqualsAndHashCode
+    @ToString
+    static final class Key {
+
+        private final String schemaId;
+
+        private final List<?> inheritedSchemaIds;
+
+        private final MvcModelData mvcData;
+
+        Key(@Nullable String schemaId, @Nullable List<?> inheritedSchemaIds, @Nullable MvcModelData mvcData) {
+            this.schemaId = schemaId;
+            this.inheritedSchemaIds = inheritedSchemaIds;
+            this.mvcData = mvcData;
+        }
+
+        /**
+         * Returns a copy of this key which is not affected by later changes to the model data it was created from.
+         *
+         * @return key to store a plan under
+         */
+        Key copy() {
+            MvcModelData mvcDataCopy = mvcData == null ? null : new MvcModelData(mvcData.getActionName(),
+                    mvcData.getAreaName(), mvcData.getControllerAreaName(), mvcData.getControllerName(),
+                    mvcData.getViewName(), mvcData.getParameters() == null ? null :
+                    Collections.unmodifiableMap(new HashMap<>(mvcData.getParameters())));
+            return new Key(schemaId, inheritedSchemaIds == null ? null :
+                    Collections.unmodifiableList(new ArrayList<>(inheritedSchemaIds)), mvcDataCopy);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.sdl.dxa.common.dto.EntityRequestDto;
 import com.sdl.dxa.common.dto.PageRequestDto;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.broker.GraphQLQueryProvider;
+import com.sdl.dxa.tridion.broker.QueryPage;
 import com.sdl.dxa.tridion.broker.QueryProvider;
 import com.sdl.dxa.tridion.content.StaticContentResolver;
 import com.sdl.dxa.tridion.graphql.GraphQLProvider;
@@ -17,7 +18,6 @@ import com.sdl.web.pca.client.contentmodel.enums.DataModelType;
 import com.sdl.web.pca.client.contentmodel.enums.PageInclusion;
 import com.sdl.web.pca.client.contentmodel.generated.Component;
 import com.sdl.web.pca.client.contentmodel.generated.CustomMetaEdge;
-import com.sdl.web.pca.client.contentmodel.generated.Item;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ContentProvider;
 import com.sdl.webapp.common.api.content.ContentProviderException;
@@ -33,6 +33,7 @@ import com.sdl.webapp.common.exceptions.DxaRuntimeException;
 import com.sdl.webapp.common.util.FileUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.CacheManager;
@@ -40,13 +41,10 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.request.RequestContextHolder;
 
-import javax.servlet.http.HttpSession;
-import java.io.Serializable;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -66,6 +64,9 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
     private ApiClientProvider pcaClientProvider;
     private CacheManager cacheManager;
 
+    @Autowired(required = false)
+    private DynamicListPageCache pageCache;
+
     @Autowired
     public GraphQLContentProvider(WebRequestContext webRequestContext,
                                   StaticContentResolver staticContentResolver,
@@ -94,39 +95,91 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
         }
         SimpleBrokerQuery simpleBrokerQuery = dynamicList.getQuery(localization);
 
-        // get our cursor indexer for this list
-        CursorIndexer cursors = CursorIndexer.getCursorIndexer(dynamicList.getId());
+        // cursors are only known for the starts of pages, so a start index within a page is moved to the page start
+        int pageSize = simpleBrokerQuery.getPageSize();
+        int start = pageSize > 0 ? Math.max(simpleBrokerQuery.getStartAt(), 0) / pageSize * pageSize : 0;
+        simpleBrokerQuery.setStartAt(start);
+        dynamicList.setStart(start);
 
-        // given our start index into the paged list we need to translate that to a cursor
-        int start = simpleBrokerQuery.getStartAt();
+        Class<T> resultType = dynamicList.getEntityType();
+        boolean shared = pageCache != null && pageCache.isCachingEnabled() && !webRequestContext.isSessionPreview();
+        Object key = shared ? pageCache.getSpecificKey(simpleBrokerQuery, localization.getId(), resultType.getName(), start) : null;
+        DynamicListPageCache.Page page = shared ? pageCache.get(key) : null;
 
-        simpleBrokerQuery.setCursor(cursors.get(start));
-        // the cursor retrieved may of came from a different start index so we update start
-        simpleBrokerQuery.setStartAt(start);
-        dynamicList.setStart(cursors.getStart());
+        if (page == null || page.getEntities() == null) {
+            QueryProvider brokerQuery = new GraphQLQueryProvider(pcaClientProvider, cacheManager, webRequestContext);
+            DynamicListPageCache.Page previous = findPreviousPage(brokerQuery, simpleBrokerQuery, localization, resultType, shared);
+            simpleBrokerQuery.setStartAt(start);
+            if (previous != null && !previous.isHasMore()) {
+                // the list ends before the requested page
+                page = new DynamicListPageCache.Page(Collections.emptyList(), false, null);
+            } else {
+                simpleBrokerQuery.setCursor(previous != null ? previous.getNextCursor() : null);
+                QueryPage results = brokerQuery.executeQueryPage(simpleBrokerQuery);
+                log.debug("Broker query returned {} results. hasMore={}", results.getItems().size(), results.isHasMore());
+                List<EntityModelData> entityModelData = results.getItems().stream()
+                        .map(c -> createEntityModelData((Component) c))
+                        .collect(Collectors.toList());
+                List<EntityModel> entities;
+                try {
+                    // the items of a list mostly share a schema, so they are built together
+                    entities = new ArrayList<>(builderPipeline.createEntityModels(entityModelData, resultType));
+                } catch (DxaException e) {
+                    throw new DxaRuntimeException(e);
+                }
+                page = new DynamicListPageCache.Page(entities, results.isHasMore(), results.isHasMore() ? results.getCursor() : null);
+            }
+            if (shared) {
+                pageCache.addAndGet(key, page);
+            }
+        }
 
-        QueryProvider brokerQuery = new GraphQLQueryProvider(pcaClientProvider, cacheManager, webRequestContext);
+        if (!page.getEntities().isEmpty()) {
+            List<T> results = new ArrayList<>(page.getEntities().size());
+            for (EntityModel entity : page.getEntities()) {
+                // cached entities are shared by all visitors
+                results.add(resultType.cast(shared ? entity.deepCopy() : entity));
+            }
+            dynamicList.setQueryResults(results, page.isHasMore());
+        }
+    }
 
-        List<Item> components = brokerQuery.executeQueryItems(simpleBrokerQuery);
-        log.debug("Broker query returned {} results. hasMore={}", components.size(), brokerQuery.hasMore());
+    /**
+     * Returns the page before the start of the query, walking through all pages after the last cached page
+     * before it. Pages walked through are cached without entities, so that nobody needs to walk them again.
+     *
+     * @return the previous page or {@code null} if the query starts at the first page
+     */
+    @Nullable
+    private DynamicListPageCache.Page findPreviousPage(QueryProvider brokerQuery, SimpleBrokerQuery query,
+                                                       Localization localization, Class<?> resultType, boolean shared) {
+        int pageSize = query.getPageSize();
+        int start = query.getStartAt();
+        if (start == 0) {
+            return null;
+        }
 
-        if (components.size() > 0) {
-            Class<T> resultType = dynamicList.getEntityType();
-            dynamicList.setQueryResults(
-                    components.stream().map(c -> {
-                        try {
-                            return builderPipeline.createEntityModel(createEntityModelData((Component) c), resultType);
-                        } catch (DxaException e) {
-                            throw new DxaRuntimeException(e);
-                        }
-                    }).collect(Collectors.toList()),
-                    brokerQuery.hasMore()
-            );
+        int position = start - pageSize;
+        DynamicListPageCache.Page previous = null;
+        if (shared) {
+            while (position >= 0 && (previous = pageCache.get(pageCache.getSpecificKey(query, localization.getId(), resultType.getName(), position))) == null) {
+                position -= pageSize;
+            }
+        } else {
+            position = -pageSize;
         }
 
-        if (brokerQuery.hasMore()) {
-            cursors.cursors.put(simpleBrokerQuery.getStartAt() + simpleBrokerQuery.getPageSize(), brokerQuery.getCursor());
+        while (position + pageSize < start && (previous == null || previous.isHasMore())) {
+            position += pageSize;
+            query.setStartAt(position);
+            query.setCursor(previous != null ? previous.getNextCursor() : null);
+            QueryPage results = brokerQuery.executeQueryPage(query);
+            previous = new DynamicListPageCache.Page(null, results.isHasMore(), results.isHasMore() ? results.getCursor() : null);
+            if (shared) {
+                pageCache.addAndGet(pageCache.getSpecificKey(query, localization.getId(), resultType.getName(), position), previous);
+            }
         }
+        return previous;
     }
 
     private EntityModelData createEntityModelData(Component component) {
@@ -236,55 +289,4 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
                 .build();
         return staticContentResolver.getStaticContent(requestDto);
     }
-
-    private static class CursorIndexer implements Serializable {
-        public static final String SESSION_KEY = "dxa_indexer";
-        private Map<Integer, String> cursors = new HashMap<>();
-        private int startIndex;
-
-        public CursorIndexer() {
-        }
-
-        public static CursorIndexer getCursorIndexer(String id) {
-            HttpSession session = (HttpSession) RequestContextHolder.getRequestAttributes().getSessionMutex();
-            Map<String, CursorIndexer> indexer = (Map<String, CursorIndexer>) session.getAttribute(SESSION_KEY);
-            if (indexer == null) {
-                indexer = new HashMap<>();
-            }
-            if (!indexer.containsKey(id)) {
-                indexer.put(id, new CursorIndexer());
-            }
-            session.setAttribute(SESSION_KEY, indexer);
-            return indexer.get(id);
-        }
-
-        public String get(int index) {
-            if (index == 0) {
-                startIndex = 0;
-                return null;
-            }
-            if (cursors.isEmpty()) {
-                startIndex = 0;
-                return null;
-            }
-            if (cursors.containsKey(index)) {
-                startIndex = index;
-                return cursors.get(index);
-            }
-            int min = 0;
-            for (Integer x : cursors.keySet()) {
-                if (x >= min && x < index) min = x;
-            }
-            startIndex = min;
-            return startIndex == 0 ? null : cursors.get(startIndex);
-        }
-
-        public void set(int index, String value) {
-            cursors.put(index, value);
-        }
-
-        public int getStart() {
-            return startIndex;
-        }
-    }
-}
\ No newline at end of file
+}
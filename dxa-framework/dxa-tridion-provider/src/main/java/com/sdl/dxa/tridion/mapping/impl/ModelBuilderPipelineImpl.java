@@ -94,4 +94,23 @@ public class ModelBuilderPipelineImpl implements ModelBuilderPipeline {
         Assert.notNull(entityModel, "Entity Model is null after model pipeline, model builder are not set?");
         return entityModel; //NOSONAR
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @dxa.publicApi
+     */
+    @NotNull
+    @Override
+    public <T extends EntityModel> List<T> createEntityModels(@NotNull List<EntityModelData> modelData, @Nullable Class<T> expectedClass) throws DxaException {
+        if (modelData.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> entityModels = null;
+        for (EntityModelBuilder builder : entityModelBuilders) {
+            entityModels = builder.buildEntityModels(entityModels, modelData, expectedClass);
+        }
+        Assert.notNull(entityModels, "Entity Models are null after model pipeline, model builder are not set?");
+        return entityModels;
+    }
 }
@@ -0,0 +1,185 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Bounded fork-join pool which {@link DefaultModelBuilder} uses to build sibling regions and the entities of a region
+ * concurrently, if {@code dxa.tridion.modelbuilder.concurrent.enabled} is set.
+ * <p>The {@link ModelBuildingContext} with the localization and the preview state of the request is resolved on the
+ * request thread and passed to each task, so builders, converters and mappers never use the request-scoped
+ * {@link com.sdl.webapp.common.api.WebRequestContext} on worker threads. Request attributes are not bound to workers,
+ * request-scoped beans are not available there; only the locale is. Tasks may submit nested work (e.g. regions in
+ * regions); it is then forked into the same pool with the context of the parent task.</p>
+ */
+@Slf4j
+@Component
+public class ModelBuildingPool {
+
+    @Getter
+    @Value("${dxa.tridion.modelbuilder.concurrent.enabled:false}")
+    private boolean enabled;
+
+    @Value("${dxa.tridion.modelbuilder.concurrent.threads:0}")
+    private int threads;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("dxa-model-builder-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        log.info("Regions and entities are built concurrently with parallelism {}", parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Applies the task to all items with the context of the current build task, if any.
+     *
+     * @see #map(List, ModelBuildingContext, ModelTask)
+     */
+    public <T, R, E extends Exception> List<R> map(List<T> items, ModelTask<T, R, E> task) throws E {
+        return map(items, ModelBuildingContext.current(), task);
+    }
+
+    /**
+     * Applies the task to all items and returns the results in the order of the items.
+     * Items are processed concurrently if the pool is enabled and there is more than one item, otherwise
+     * on the calling thread.
+     *
+     * @param items   items to process
+     * @param context context resolved on the request thread, which is available to the task through
+     *                {@link ModelBuildingContext#current()}
+     * @param task    task to apply to each item
+     * @param <T>     type of the items
+     * @param <R>     type of the results
+     * @param <E>     type of the exception the task throws
+     * @return results in the order of the items
+     * @throws E the exception thrown for the first failed item
+     */
+    public <T, R, E extends Exception> List<R> map(List<T> items, ModelBuildingContext context, ModelTask<T, R, E> task) throws E {
+        List<R> results = new ArrayList<>(items.size());
+        if (pool == null || items.size() < 2) {
+            ModelBuildingContext previous = ModelBuildingContext.bind(context);
+            try {
+                for (T item : items) {
+                    results.add(task.apply(item));
+                }
+            } finally {
+                ModelBuildingContext.bind(previous);
+            }
+            return results;
+        }
+
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        List<BoundTask<T, R, E>> tasks = new ArrayList<>(items.size());
+        for (T item : items) {
+            tasks.add(new BoundTask<>(item, task, context, localeContext));
+        }
+
+        if (ForkJoinTask.getPool() == pool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        for (BoundTask<T, R, E> boundTask : tasks) {
+            results.add(boundTask.getResult());
+        }
+        return results;
+    }
+
+    /**
+     * Work on a single region or entity.
+     *
+     * @param <T> type of the item
+     * @param <R> type of the result
+     * @param <E> type of the exception
+     */
+    @FunctionalInterface
+    public interface ModelTask<T, R, E extends Exception> {
+
+        R apply(T item) throws E;
+    }
+
+    private static final class BoundTask<T, R, E extends Exception> extends RecursiveTask<R> {
+
+        private final T item;
+
+        private final ModelTask<T, R, E> task;
+
+        private final ModelBuildingContext context;
+
+        private final LocaleContext localeContext;
+
+        private Exception failure;
+
+        private BoundTask(T item, ModelTask<T, R, E> task, ModelBuildingContext context, LocaleContext localeContext) {
+            this.item = item;
+            this.task = task;
+            this.context = context;
+            this.localeContext = localeContext;
+        }
+
+        @Override
+        protected R compute() {
+            ModelBuildingContext previousContext = ModelBuildingContext.bind(context);
+            LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+            LocaleContextHolder.setLocaleContext(localeContext);
+            try {
+                return task.apply(item);
+            } catch (Exception e) {
+                // kept here instead of thrown, so that the caller gets the original exception of the first failed item
+                failure = e;
+                return null;
+            } finally {
+                ModelBuildingContext.bind(previousContext);
+                LocaleContextHolder.setLocaleContext(previousLocale);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private R getResult() throws E {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure != null) {
+                throw (E) failure;
+            }
+            return join();
+        }
+    }
+}
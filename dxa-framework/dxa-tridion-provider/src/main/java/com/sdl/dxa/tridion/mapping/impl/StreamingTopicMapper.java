@@ -0,0 +1,820 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.entity.Link;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ReflectionUtils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StAX-based engine of {@link StronglyTypedTopicBuilder}, used if {@code dxa.generictopic.streaming.enabled} is set.
+ * <p>Instead of parsing the topic into a DOM, evaluating an XPath expression per mapped property and serializing
+ * the nodes back, the topic body is read once as a stream of events. The class-based selectors of each entity type
+ * are compiled once into {@link TopicType matchers} which are checked on every start tag against the stack of open
+ * elements, and values are collected while the matched elements are being read: text content and inner XHTML
+ * go straight into their own buffers.</p>
+ * <p>The mapping is the same as of the DOM-based engine: a property {@code a/b} matches elements with class {@code b}
+ * below an element whose class contains {@code a}, {@code _self} matches the element of the entity itself.
+ * If the topic type has to be determined, the body is scanned for class attributes first.</p>
+ */
+@Slf4j
+final class StreamingTopicMapper {
+
+    private static final String SELF = "_self";
+
+    private static final String ROOT_ELEMENT = "topic";
+
+    private static final Tag TOPIC_TITLE = new Tag("h1", new String[]{"class", "_topicTitle"});
+
+    private final SemanticMappingRegistry semanticMappingRegistry;
+
+    private final XMLInputFactory inputFactory;
+
+    private final Map<Class<?>, TopicType> topicTypes = new ConcurrentHashMap<>();
+
+    StreamingTopicMapper(SemanticMappingRegistry semanticMappingRegistry) {
+        this.semanticMappingRegistry = semanticMappingRegistry;
+        this.inputFactory = XMLInputFactory.newInstance();
+        this.inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    private static boolean hasClass(String classes, String name) {
+        int index = classes.indexOf(name);
+        while (index >= 0) {
+            int end = index + name.length();
+            if ((index == 0 || classes.charAt(index - 1) == ' ') && (end == classes.length() || classes.charAt(end) == ' ')) {
+                return true;
+            }
+            index = classes.indexOf(name, index + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the first segments of a property name are matched, in order, by classes of the elements
+     * between {@code from} (inclusive) and {@code to} (exclusive).
+     */
+    private static boolean matchesAncestors(List<Tag> stack, int from, int to, String[] segments) {
+        int segment = 0;
+        for (int i = from; i < to && segment < segments.length - 1; i++) {
+            if (stack.get(i).classes.contains(segments[segment])) {
+                segment++;
+            }
+        }
+        return segment == segments.length - 1;
+    }
+
+    private static void escape(CharSequence text, int start, int end, boolean attribute, StringBuilder out) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '"':
+                    out.append(attribute ? "&quot;" : "\"");
+                    break;
+                case '\r':
+                    out.append("&#13;");
+                    break;
+                case '\n':
+                    out.append(attribute ? "&#10;" : "\n");
+                    break;
+                case '\t':
+                    out.append(attribute ? "&#9;" : "\t");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Determines the type of the topic the same way as {@link StronglyTypedTopicBuilder#determineTopicType}:
+     * of the types with a matching element, the one with the name found at the latest position of the class wins.
+     *
+     * @param topicBody            XHTML of the topic body
+     * @param topicTitle           title of the topic
+     * @param registeredTopicTypes registered topic types by their entity names
+     * @param <T>                  type of the topic
+     * @return the type, or {@code null} if no type matches
+     * @throws XMLStreamException if the topic is not well-formed
+     */
+    <T extends EntityModel> Class<T> determineTopicType(String topicBody, String topicTitle,
+                                                        Map<String, Field> registeredTopicTypes) throws XMLStreamException {
+        TypeDetection detection = new TypeDetection(registeredTopicTypes);
+        read(topicBody, topicTitle, detection);
+        return detection.getBestMatch();
+    }
+
+    /**
+     * Builds a topic of the given type.
+     *
+     * @param modelType  type of the topic
+     * @param topicBody  XHTML of the topic body
+     * @param topicTitle title of the topic
+     * @param <T>        type of the topic
+     * @return the topic
+     * @throws XMLStreamException           if the topic is not well-formed
+     * @throws ReflectiveOperationException if the topic cannot be instantiated
+     */
+    <T extends EntityModel> T buildTopic(Class<T> modelType, String topicBody, String topicTitle)
+            throws XMLStreamException, ReflectiveOperationException {
+        T topic = modelType.newInstance();
+        read(topicBody, topicTitle, new TopicBuilding(getTopicType(modelType), topic));
+        return topic;
+    }
+
+    private TopicType getTopicType(Class<?> modelType) {
+        return topicTypes.computeIfAbsent(modelType, TopicType::new);
+    }
+
+    private void read(String topicBody, String topicTitle, Handler handler) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new StringReader("<" + ROOT_ELEMENT + ">" + topicBody + "</" + ROOT_ELEMENT + ">"));
+        try {
+            int depth = 0;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        String[] attributes = new String[reader.getAttributeCount() * 2];
+                        for (int i = 0; i < reader.getAttributeCount(); i++) {
+                            attributes[i * 2] = reader.getAttributeLocalName(i);
+                            attributes[i * 2 + 1] = reader.getAttributeValue(i);
+                        }
+                        handler.startElement(new Tag(reader.getLocalName(), attributes));
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (--depth == 0) {
+                            // the title is injected as the last element of the topic, as in the DOM-based engine
+                            handler.startElement(TOPIC_TITLE);
+                            if (topicTitle != null) {
+                                handler.text(topicTitle, 0, topicTitle.length());
+                            }
+                            handler.endElement();
+                        }
+                        handler.endElement();
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        handler.text(new CharArraySequence(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength()),
+                                0, reader.getTextLength());
+                        break;
+                    case XMLStreamConstants.COMMENT:
+                        handler.comment(reader.getText());
+                        break;
+                    default:
+                        break;
+                }
+                if (handler.isDone()) {
+                    return;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private enum ValueKind {
+        TEXT, RICH_TEXT, LINK, ENTITY, UNSUPPORTED
+    }
+
+    private interface Handler {
+
+        void startElement(Tag tag);
+
+        void endElement();
+
+        void text(CharSequence text, int start, int end);
+
+        void comment(String comment);
+
+        boolean isDone();
+    }
+
+    /**
+     * Start tag of an element: name and attributes as name-value pairs.
+     */
+    private static final class Tag {
+
+        private final String name;
+
+        private final String[] attributes;
+
+        private final String classes;
+
+        private Tag(String name, String[] attributes) {
+            this.name = name;
+            this.attributes = attributes;
+            String classAttribute = getAttribute("class");
+            this.classes = classAttribute == null ? "" : classAttribute;
+        }
+
+        private String getAttribute(String attribute) {
+            for (int i = 0; i < attributes.length; i += 2) {
+                if (attribute.equals(attributes[i])) {
+                    return attributes[i + 1];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * View of the character buffer of the reader, valid only while the event is handled.
+     */
+    private static final class CharArraySequence implements CharSequence {
+
+        private final char[] chars;
+
+        private final int offset;
+
+        private final int length;
+
+        private CharArraySequence(char[] chars, int offset, int length) {
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, offset, length);
+        }
+    }
+
+    /**
+     * Compiled selectors of all mapped fields of an entity type.
+     */
+    private final class TopicType {
+
+        private final Class<?> modelType;
+
+        private final List<PropertyMatcher> matchers = new ArrayList<>();
+
+        private TopicType(Class<?> modelType) {
+            this.modelType = modelType;
+            ReflectionUtils.doWithFields(modelType, field -> {
+                for (FieldSemantics fieldSemantics : semanticMappingRegistry.getFieldSemantics(field)) {
+                    matchers.add(new PropertyMatcher(field, fieldSemantics.getPropertyName()));
+                }
+            });
+        }
+    }
+
+    /**
+     * Selector of a single semantic property of a field.
+     */
+    private static final class PropertyMatcher {
+
+        private final Field field;
+
+        private final String propertyName;
+
+        private final boolean self;
+
+        private final String[] segments;
+
+        private final String lastSegment;
+
+        private final boolean list;
+
+        private final ValueKind kind;
+
+        private final Class<?> elementType;
+
+        private PropertyMatcher(Field field, String propertyName) {
+            this.field = field;
+            this.propertyName = propertyName;
+            this.self = SELF.equals(propertyName);
+            this.segments = propertyName.split("/");
+            this.lastSegment = segments[segments.length - 1];
+
+            Class<?> type = field.getType();
+            this.list = type.isAssignableFrom(List.class);
+            if (list) {
+                Type genericType = field.getGenericType();
+                Type argument = genericType instanceof ParameterizedType ? ((ParameterizedType) genericType).getActualTypeArguments()[0] : null;
+                type = argument instanceof Class ? (Class<?>) argument : null;
+            }
+            this.elementType = type;
+            if (type == null) {
+                this.kind = ValueKind.UNSUPPORTED;
+            } else if (type.equals(String.class)) {
+                this.kind = ValueKind.TEXT;
+            } else if (type.equals(RichText.class)) {
+                this.kind = ValueKind.RICH_TEXT;
+            } else if (type.equals(Link.class)) {
+                this.kind = ValueKind.LINK;
+            } else if (EntityModel.class.isAssignableFrom(type)) {
+                this.kind = ValueKind.ENTITY;
+            } else {
+                this.kind = ValueKind.UNSUPPORTED;
+            }
+        }
+
+        private boolean matches(List<Tag> stack, int scopeDepth, int depth) {
+            if (self) {
+                return depth == scopeDepth;
+            }
+            return depth > scopeDepth && hasClass(stack.get(depth).classes, lastSegment)
+                    && (segments.length == 1 || matchesAncestors(stack, scopeDepth + 1, depth, segments));
+        }
+    }
+
+    /**
+     * Values collected for a property: one slot per matched element in document order.
+     */
+    private static final class PropertyValues {
+
+        private final List<Object> values = new ArrayList<>(2);
+
+        private Exception failure;
+    }
+
+    /**
+     * Collects the value of a matched element while it is being read.
+     */
+    private abstract static class Collector {
+
+        private final int depth;
+
+        private final PropertyValues target;
+
+        private final int slot;
+
+        Collector(int depth, PropertyValues target) {
+            this.depth = depth;
+            this.target = target;
+            this.slot = target.values.size();
+            target.values.add(null);
+        }
+
+        void startElement(Tag tag, int depth) {
+        }
+
+        void endElement(int depth) {
+        }
+
+        abstract void text(CharSequence text, int start, int end);
+
+        void comment(String comment) {
+        }
+
+        abstract Object getValue();
+
+        void complete() {
+            target.values.set(slot, getValue());
+        }
+    }
+
+    private static final class TextCollector extends Collector {
+
+        private final StringBuilder text = new StringBuilder();
+
+        TextCollector(int depth, PropertyValues target) {
+            super(depth, target);
+        }
+
+        @Override
+        void text(CharSequence text, int start, int end) {
+            this.text.append(text, start, end);
+        }
+
+        @Override
+        Object getValue() {
+            return text.toString();
+        }
+    }
+
+    /**
+     * Writes the inner XHTML of the element the same way as the identity transformation of its child nodes.
+     */
+    private static final class RichTextCollector extends Collector {
+
+        private final StringBuilder html = new StringBuilder();
+
+        private final List<String> openElements = new ArrayList<>();
+
+        private boolean startTagOpen;
+
+        RichTextCollector(int depth, PropertyValues target) {
+            super(depth, target);
+        }
+
+        private void closeStartTag() {
+            if (startTagOpen) {
+                html.append('>');
+                startTagOpen = false;
+            }
+        }
+
+        @Override
+        void startElement(Tag tag, int depth) {
+            closeStartTag();
+            html.append('<').append(tag.name);
+            for (int i = 0; i < tag.attributes.length; i += 2) {
+                html.append(' ').append(tag.attributes[i]).append("=\"");
+                escape(tag.attributes[i + 1], 0, tag.attributes[i + 1].length(), true, html);
+                html.append('"');
+            }
+            startTagOpen = true;
+            openElements.add(tag.name);
+        }
+
+        @Override
+        void endElement(int depth) {
+            if (openElements.isEmpty()) {
+                return;
+            }
+            String name = openElements.remove(openElements.size() - 1);
+            if (startTagOpen) {
+                html.append("/>");
+                startTagOpen = false;
+            } else {
+                html.append("</").append(name).append('>');
+            }
+        }
+
+        @Override
+        void text(CharSequence text, int start, int end) {
+            closeStartTag();
+            escape(text, start, end, false, html);
+        }
+
+        @Override
+        void comment(String comment) {
+            closeStartTag();
+            html.append("<!--").append(comment).append("-->");
+        }
+
+        @Override
+        Object getValue() {
+            return new RichText(html.toString());
+        }
+    }
+
+    /**
+     * Reads a link from the matched {@code a} element or from the first {@code a} element inside the matched element.
+     */
+    private static final class LinkCollector extends Collector {
+
+        private final StringBuilder linkText = new StringBuilder();
+
+        private Link link;
+
+        private int linkDepth = -1;
+
+        LinkCollector(Tag tag, int depth, PropertyValues target) {
+            super(depth, target);
+            if ("a".equals(tag.name)) {
+                startLink(tag, depth);
+            }
+        }
+
+        private void startLink(Tag tag, int depth) {
+            String href = tag.getAttribute("href");
+            link = new Link();
+            link.setUrl(href == null ? "" : href);
+            link.setAlternateText(tag.getAttribute("title"));
+            linkDepth = depth;
+        }
+
+        @Override
+        void startElement(Tag tag, int depth) {
+            if (link == null && "a".equals(tag.name)) {
+                startLink(tag, depth);
+            }
+        }
+
+        @Override
+        void endElement(int depth) {
+            if (depth == linkDepth) {
+                linkDepth = -1;
+            }
+        }
+
+        @Override
+        void text(CharSequence text, int start, int end) {
+            if (linkDepth >= 0) {
+                linkText.append(text, start, end);
+            }
+        }
+
+        @Override
+        Object getValue() {
+            if (link != null) {
+                link.setLinkText(linkText.toString());
+            }
+            return link;
+        }
+    }
+
+    /**
+     * Entity being built from the element at {@code depth} and its descendants.
+     */
+    private final class Scope {
+
+        private final TopicType type;
+
+        private final Object entity;
+
+        private final int depth;
+
+        private final PropertyValues target;
+
+        private final int slot;
+
+        private final PropertyValues[] values;
+
+        private Scope(TopicType type, Object entity, Tag tag, int depth, PropertyValues target) {
+            this.type = type;
+            this.entity = entity;
+            this.depth = depth;
+            this.target = target;
+            this.slot = target == null ? -1 : target.values.size();
+            if (target != null) {
+                target.values.add(null);
+            }
+            this.values = new PropertyValues[type.matchers.size()];
+
+            AbstractEntityModel model = (AbstractEntityModel) entity;
+            String id = tag.getAttribute("id");
+            if (id != null) {
+                model.setId(id);
+            }
+            String classes = tag.getAttribute("class");
+            if (classes != null) {
+                model.setHtmlClasses(classes);
+            }
+        }
+
+        private void complete() {
+            for (int i = 0; i < values.length; i++) {
+                PropertyMatcher matcher = type.matchers.get(i);
+                PropertyValues propertyValues = values[i];
+                if (propertyValues == null || propertyValues.values.isEmpty()) {
+                    log.debug("Unable to map property '{}'", matcher.propertyName);
+                    continue;
+                }
+                if (propertyValues.failure != null) {
+                    log.warn("Unable to map property " + matcher.field.getDeclaringClass().getSimpleName() + "." + matcher.field.getName(),
+                            propertyValues.failure);
+                    continue;
+                }
+                Object value = matcher.list ? new ArrayList<>(propertyValues.values) : propertyValues.values.get(0);
+                ReflectionUtils.makeAccessible(matcher.field);
+                ReflectionUtils.setField(matcher.field, entity, value);
+            }
+
+            // Let the View Model determine the View to be used after all properties are mapped, as in the DOM-based engine.
+            AbstractEntityModel model = (AbstractEntityModel) entity;
+            model.setMvcData(model.getDefaultMvcData());
+            if (target != null) {
+                target.values.set(slot, entity);
+            }
+        }
+    }
+
+    /**
+     * Builds the topic entity and its nested entities in one pass.
+     */
+    private final class TopicBuilding implements Handler {
+
+        private final TopicType topicType;
+
+        private final Object topic;
+
+        private final List<Tag> stack = new ArrayList<>();
+
+        private final List<Scope> scopes = new ArrayList<>();
+
+        private final List<Collector> collectors = new ArrayList<>();
+
+        private TopicBuilding(TopicType topicType, Object topic) {
+            this.topicType = topicType;
+            this.topic = topic;
+        }
+
+        @Override
+        public void startElement(Tag tag) {
+            int depth = stack.size();
+            stack.add(tag);
+            for (int i = 0; i < collectors.size(); i++) {
+                collectors.get(i).startElement(tag, depth);
+            }
+            if (depth == 0) {
+                scopes.add(new Scope(topicType, topic, tag, 0, null));
+            }
+            // scopes created for this element are added to the list and also checked for their _self properties
+            for (int i = 0; i < scopes.size(); i++) {
+                match(scopes.get(i), tag, depth);
+            }
+        }
+
+        private void match(Scope scope, Tag tag, int depth) {
+            List<PropertyMatcher> matchers = scope.type.matchers;
+            for (int i = 0; i < matchers.size(); i++) {
+                PropertyMatcher matcher = matchers.get(i);
+                PropertyValues values = scope.values[i];
+                if (values != null && !matcher.list && !values.values.isEmpty()) {
+                    // only the first element is used
+                    continue;
+                }
+                if (!matcher.matches(stack, scope.depth, depth)) {
+                    continue;
+                }
+                if (values == null) {
+                    values = scope.values[i] = new PropertyValues();
+                }
+                startValue(matcher, values, tag, depth);
+            }
+        }
+
+        private void startValue(PropertyMatcher matcher, PropertyValues values, Tag tag, int depth) {
+            switch (matcher.kind) {
+                case TEXT:
+                    collectors.add(new TextCollector(depth, values));
+                    break;
+                case RICH_TEXT:
+                    collectors.add(new RichTextCollector(depth, values));
+                    break;
+                case LINK:
+                    collectors.add(new LinkCollector(tag, depth, values));
+                    break;
+                case ENTITY:
+                    try {
+                        Object entity = matcher.elementType.newInstance();
+                        scopes.add(new Scope(getTopicType(matcher.elementType), entity, tag, depth, values));
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        values.values.add(null);
+                        values.failure = e;
+                    }
+                    break;
+                default:
+                    values.values.add(null);
+                    values.failure = new IllegalArgumentException("Unexpected property type '" + matcher.field.getType().getSimpleName() + "'");
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement() {
+            int depth = stack.size() - 1;
+            for (int i = collectors.size() - 1; i >= 0; i--) {
+                Collector collector = collectors.get(i);
+                if (collector.depth == depth) {
+                    collectors.remove(i).complete();
+                } else {
+                    collector.endElement(depth);
+                }
+            }
+            for (int i = scopes.size() - 1; i >= 0; i--) {
+                if (scopes.get(i).depth == depth) {
+                    scopes.remove(i).complete();
+                }
+            }
+            stack.remove(depth);
+        }
+
+        @Override
+        public void text(CharSequence text, int start, int end) {
+            for (int i = 0; i < collectors.size(); i++) {
+                collectors.get(i).text(text, start, end);
+            }
+        }
+
+        @Override
+        public void comment(String comment) {
+            for (int i = 0; i < collectors.size(); i++) {
+                collectors.get(i).comment(comment);
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return false;
+        }
+    }
+
+    /**
+     * Finds the first element matching each registered topic type; stops as soon as all types are matched.
+     */
+    private static final class TypeDetection implements Handler {
+
+        private final List<Map.Entry<String, Field>> candidates = new ArrayList<>();
+
+        private final int[] classPositions;
+
+        private final List<Tag> stack = new ArrayList<>();
+
+        private int unmatched;
+
+        private TypeDetection(Map<String, Field> registeredTopicTypes) {
+            for (Map.Entry<String, Field> entry : registeredTopicTypes.entrySet()) {
+                if (entry.getKey() == null || entry.getKey().isEmpty()) {
+                    log.debug("Skipping Type '" + entry.getValue().getDeclaringClass().getName() + "' (no EntityName specified).");
+                    continue;
+                }
+                candidates.add(entry);
+            }
+            this.classPositions = new int[candidates.size()];
+            Arrays.fill(classPositions, Integer.MIN_VALUE);
+            this.unmatched = candidates.size();
+        }
+
+        @Override
+        public void startElement(Tag tag) {
+            int depth = stack.size();
+            stack.add(tag);
+            if (depth == 0 || tag.classes.isEmpty()) {
+                return;
+            }
+            for (int i = 0; i < candidates.size(); i++) {
+                if (classPositions[i] != Integer.MIN_VALUE) {
+                    continue;
+                }
+                String propertyName = candidates.get(i).getKey();
+                String[] segments = propertyName.split("/");
+                if (tag.classes.contains(segments[segments.length - 1])
+                        && (segments.length == 1 || matchesAncestors(stack, 1, depth, segments))) {
+                    classPositions[i] = tag.classes.indexOf(propertyName);
+                    unmatched--;
+                }
+            }
+        }
+
+        @Override
+        public void endElement() {
+            stack.remove(stack.size() - 1);
+        }
+
+        @Override
+        public void text(CharSequence text, int start, int end) {
+        }
+
+        @Override
+        public void comment(String comment) {
+        }
+
+        @Override
+        public boolean isDone() {
+            return unmatched == 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends EntityModel> Class<T> getBestMatch() {
+            Class<T> bestMatch = null;
+            int bestMatchClassPos = -1;
+            for (int i = 0; i < candidates.size(); i++) {
+                if (classPositions[i] > bestMatchClassPos) {
+                    bestMatch = (Class<T>) candidates.get(i).getValue().getDeclaringClass();
+                    bestMatchClassPos = classPositions[i];
+                }
+            }
+            return bestMatch;
+        }
+    }
+}
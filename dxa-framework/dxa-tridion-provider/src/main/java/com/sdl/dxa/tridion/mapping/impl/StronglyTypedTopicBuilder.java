@@ -19,6 +19,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Service;
@@ -34,6 +35,7 @@ import org.xml.sax.SAXException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -69,6 +71,10 @@ import java.util.Set;
  * * It can be used directly to convert a given {@link GenericTopic}. See {@link #tryConvertToStronglyTypedTopic(GenericTopic, Class)}.
  *
  * This module is enabled by default. It can be disabled by enabling the Spring profile "dxa.generictopic.disabled"
+ *
+ * If the property "dxa.generictopic.streaming.enabled" is set, topics are read with a StAX-based engine which
+ * walks the topic body once instead of parsing it into a DOM and evaluating XPath expressions per property.
+ * The protected DOM-based methods of this class are not used then.
  */
 @Service
 @Profile("!dxa.generictopic.disabled")
@@ -80,12 +86,16 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
     @Autowired
     private ViewModelRegistry viewModelRegistry;
 
-    @Autowired
-    private SemanticMappingRegistry semanticMappingRegistry;
+    private final SemanticMappingRegistry semanticMappingRegistry;
 
     @Autowired
     private WebRequestContext webRequestContext;
 
+    @Value("${dxa.generictopic.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
+    private final StreamingTopicMapper streamingTopicMapper;
+
     private DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     private ThreadLocal<DocumentBuilder> documentBuilderThreadLocal = new ThreadLocal<>();
     private ThreadLocal<Transformer> transformerThreadLocal = new ThreadLocal<>();
@@ -93,7 +103,10 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
     private final XPathExpression linkXPath;
     private ThreadLocal<Map<String, XPathExpression>> xpathExpressionCacheThreadLocal = new ThreadLocal<>();
 
-    public StronglyTypedTopicBuilder() throws XPathExpressionException {
+    @Autowired
+    public StronglyTypedTopicBuilder(SemanticMappingRegistry semanticMappingRegistry) throws XPathExpressionException {
+        this.semanticMappingRegistry = semanticMappingRegistry;
+        this.streamingTopicMapper = new StreamingTopicMapper(semanticMappingRegistry);
         linkXPath = getXpathExpression(".//a");
     }
 
@@ -115,6 +128,10 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
             return null;
         }
 
+        if (streamingEnabled) {
+            return tryConvertStreaming(genericTopic, ofType, registeredTopicTypes);
+        }
+
         Element rootElement = null;
         try {
             rootElement = parseXhtml(genericTopic);
@@ -147,6 +164,31 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         return stronglyTypedTopic;
     }
 
+    private <T extends EntityModel> T tryConvertStreaming(GenericTopic genericTopic, Class<T> ofType, Map<String, Field> registeredTopicTypes) throws DxaException {
+        T stronglyTypedTopic;
+        try {
+            Class<T> topicType = ofType;
+            if (ofType == null) {
+                topicType = streamingTopicMapper.determineTopicType(genericTopic.getTopicBody(), genericTopic.getTopicTitle(), registeredTopicTypes);
+                if (topicType == null) {
+                    LOG.debug("No matching Strongly Typed Topic Model found.");
+                    return null;
+                }
+            }
+            stronglyTypedTopic = streamingTopicMapper.buildTopic(topicType, genericTopic.getTopicBody(), genericTopic.getTopicTitle());
+        } catch (XMLStreamException ex) {
+            LOG.error("Unable to parse generic Topic XHTML. Topic body: \"" + genericTopic.getTopicBody() +"\"", ex);
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new DxaException("Could not instantiate strongly typed topic", e);
+        }
+
+        if (stronglyTypedTopic.getId() == null)
+            ((AbstractEntityModel) stronglyTypedTopic).setId(genericTopic.getId());
+
+        return stronglyTypedTopic;
+    }
+
     protected Element parseXhtml(GenericTopic genericTopic) throws ParserConfigurationException, IOException, SAXException {
         DocumentBuilder builder = getBuilder();
         StringBuilder xmlStringBuilder = new StringBuilder();
@@ -0,0 +1,42 @@
+package com.sdl.webapp.tridion.contextengine;
+
+import com.sdl.dxa.caching.wrapper.SimpleCacheWrapper;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Cache of flattened context claims resolved by the Context Service, keyed by the normalized evidence.
+ * The evidence space is small compared to the number of requests, so most requests do not need a round trip.
+ * Expiration and size are configured for the {@code contextClaims} cache.
+ */
+@Component
+public class ContextClaimsCache extends SimpleCacheWrapper<String, Map<String, Object>> {
+
+    @Override
+    public String getCacheName() {
+        return "contextClaims";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<Map<String, Object>> getValueType() {
+        return (Class<Map<String, Object>>) (Class<?>) Map.class;
+    }
+
+    /**
+     * Constructs the key from the evidence sent to the Context Service.
+     *
+     * @param userAgent user agent of the request
+     * @param keyParams context cookie value, publication ID and aspect name, each may be {@code null}
+     * @return the cache key
+     */
+    @Override
+    public Object getSpecificKey(String userAgent, Object... keyParams) {
+        Object[] elements = new Object[keyParams.length + 1];
+        elements[0] = userAgent == null ? "" : userAgent.trim();
+        System.arraycopy(keyParams, 0, elements, 1, keyParams.length);
+        return new SimpleKey(elements);
+    }
+}
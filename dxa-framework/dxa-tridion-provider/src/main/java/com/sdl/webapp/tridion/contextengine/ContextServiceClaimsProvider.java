@@ -9,7 +9,6 @@ import com.sdl.context.api.resolution.EvidenceBuilder;
 import com.sdl.context.odata.client.api.ODataContextEngine;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.contextengine.ContextClaimsProvider;
-import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.exceptions.DxaException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,11 +32,14 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
     private boolean isPublicationIdExpected;
 
     //todo dxa2 replace with bean initialization based on negated Spring profile
-    private ODataContextEngine oDataContextEngine;
+    private volatile ODataContextEngine oDataContextEngine;
 
     @Autowired
     private WebRequestContext webRequestContext;
 
+    @Autowired
+    private ContextClaimsCache contextClaimsCache;
+
     @Autowired
     private HttpServletRequest request;
 
@@ -68,44 +70,69 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
     private static Map<String, Object> getClaimsForAspect(ContextMap<? extends Aspect> contextMap, String aspectName) {
         Aspect aspect = contextMap.get(aspectName);
         Map<String, Object> result = new HashMap<>(aspect.size());
+        String prefix = aspectName + '.';
         for (String key : aspect.keySet()) {
-            result.put(String.format("%s.%s", aspectName, key), aspect.get(key));
+            result.put(prefix + key, aspect.get(key));
         }
         return result;
     }
 
     @Override
     public Map<String, Object> getContextClaims(String aspectName) throws DxaException {
-        EvidenceBuilder evidenceBuilder = new EvidenceBuilder()
-                .with("user-agent", request.getHeader("user-agent"));
-
+        String userAgent = request.getHeader("user-agent");
+        String contextCookie = null;
         if (request.getCookies() != null) {
             for (Cookie cookie : request.getCookies()) {
                 if (CONTEXT_COOKIE_NAME.equals(cookie.getName())) {
-                    evidenceBuilder.with("cookie", CONTEXT_COOKIE_NAME + '=' + cookie.getValue());
+                    contextCookie = cookie.getValue();
                 }
             }
         }
+        Integer publicationId = isPublicationIdExpected ? Integer.valueOf(webRequestContext.getLocalization().getId()) : null;
 
-        if (isPublicationIdExpected) {
-            Localization localization = webRequestContext.getLocalization();
-            evidenceBuilder.withPublicationId(Integer.valueOf(localization.getId()));
+        Object key = contextClaimsCache.getSpecificKey(userAgent, contextCookie, publicationId, aspectName);
+        Map<String, Object> cachedClaims = contextClaimsCache.get(key);
+        if (cachedClaims != null) {
+            log.trace("Context claims for key {} found in cache", key);
+            return cachedClaims;
+        }
+
+        EvidenceBuilder evidenceBuilder = new EvidenceBuilder().with("user-agent", userAgent);
+        if (contextCookie != null) {
+            evidenceBuilder.with("cookie", CONTEXT_COOKIE_NAME + '=' + contextCookie);
+        }
+        if (publicationId != null) {
+            evidenceBuilder.withPublicationId(publicationId);
         }
 
         ContextMap<? extends Aspect> contextMap;
         try {
             Evidence evidence = evidenceBuilder.build();
-            if (oDataContextEngine == null) {
-                oDataContextEngine = new ODataContextEngine();
-            }
-            contextMap = oDataContextEngine.resolve(evidence);
-            log.trace("Current data context engine impl is {}", oDataContextEngine.getClass());
+            ODataContextEngine contextEngine = getODataContextEngine();
+            contextMap = contextEngine.resolve(evidence);
+            log.trace("Current data context engine impl is {}", contextEngine.getClass());
             log.debug("Requested context map for aspect {} with evidence {}, and got {}", aspectName, evidence, contextMap);
         } catch (ResolverException e) {
             throw new DxaException("An error occurred while resolving evidence using the Context Service.", e);
         }
 
-        return getClaimsMap(contextMap, aspectName);
+        Map<String, Object> claims = Collections.unmodifiableMap(getClaimsMap(contextMap, aspectName));
+        contextClaimsCache.addAndGet(key, claims);
+        return claims;
+    }
+
+    private ODataContextEngine getODataContextEngine() {
+        ODataContextEngine contextEngine = oDataContextEngine;
+        if (contextEngine == null) {
+            synchronized (this) {
+                contextEngine = oDataContextEngine;
+                if (contextEngine == null) {
+                    contextEngine = new ODataContextEngine();
+                    oDataContextEngine = contextEngine;
+                }
+            }
+        }
+        return contextEngine;
     }
 
     @Override
@@ -9,6 +9,7 @@ import com.sdl.dxa.common.util.PathUtils;
 import com.sdl.dxa.performance.Performance;
 import com.sdl.dxa.tridion.navigation.dynamic.NavigationModelProvider;
 import com.sdl.dxa.tridion.navigation.dynamic.OnDemandNavigationModelProvider;
+import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.entity.NavigationLinks;
@@ -30,9 +31,9 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -58,15 +59,23 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
 
     private final LinkResolver linkResolver;
 
+    private final NavigationIndexCache navigationIndexCache;
+
+    private final WebRequestContext webRequestContext;
+
     @Autowired
     public DynamicNavigationProvider(StaticNavigationProvider staticNavigationProvider,
                                      LinkResolver linkResolver,
                                      NavigationModelProvider navigationModelProvider,
-                                     OnDemandNavigationModelProvider onDemandNavigationModelProvider) {
+                                     OnDemandNavigationModelProvider onDemandNavigationModelProvider,
+                                     NavigationIndexCache navigationIndexCache,
+                                     WebRequestContext webRequestContext) {
         this.staticNavigationProvider = staticNavigationProvider;
         this.linkResolver = linkResolver;
         this.navigationModelProvider = navigationModelProvider;
         this.onDemandNavigationModelProvider = onDemandNavigationModelProvider;
+        this.navigationIndexCache = navigationIndexCache;
+        this.webRequestContext = webRequestContext;
     }
 
     @Override
@@ -98,18 +107,17 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
     @Override
     public NavigationLinks getContextNavigationLinks(String requestPath, Localization localization) throws NavigationProviderException {
         try(Performance perf = new Performance(1_000L, "getContextNavigationLinks")) {
-            Optional<SitemapItemModelData> navigationModel = getNavigationModelInternal(localization);
+            Optional<TaxonomyUrlIndex> index = getIndex(localization);
 
-            if (!navigationModel.isPresent()) {
+            if (!index.isPresent()) {
                 return staticNavigationProvider.getContextNavigationLinks(requestPath, localization);
             }
 
-            navigationModel.get().rebuildParentRelationships();
-
-            SitemapItemModelData currentLevel = navigationModel.get().findWithUrl(PathUtils.stripDefaultExtension(requestPath));
+            TaxonomyUrlIndex.Node node = index.get().find(PathUtils.stripDefaultExtension(requestPath));
 
-            if (currentLevel != null && !(currentLevel instanceof TaxonomyNodeModelData)) {
-                currentLevel = currentLevel.getParent();
+            SitemapItemModelData currentLevel = node == null ? null : node.getItem();
+            if (node != null && !(currentLevel instanceof TaxonomyNodeModelData)) {
+                currentLevel = node.getParent();
             }
 
             return toNavigationLinksInternal(currentLevel == null ? Collections.emptySet() : currentLevel.getItems(), true, localization);
@@ -119,16 +127,15 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
     @Override
     public NavigationLinks getBreadcrumbNavigationLinks(String requestPath, Localization localization) throws NavigationProviderException {
         try(Performance perf = new Performance(1_000L, "getBreadcrumbNavigationLinks")) {
-            Optional<SitemapItemModelData> navigationModel = getNavigationModelInternal(localization);
+            Optional<TaxonomyUrlIndex> index = getIndex(localization);
 
-            if (!navigationModel.isPresent()) {
+            if (!index.isPresent()) {
                 return staticNavigationProvider.getBreadcrumbNavigationLinks(requestPath, localization);
             }
 
-            navigationModel.get().rebuildParentRelationships();
-            SitemapItemModelData currentLevel = navigationModel.get().findWithUrl(PathUtils.stripDefaultExtension(requestPath));
+            TaxonomyUrlIndex.Node node = index.get().find(PathUtils.stripDefaultExtension(requestPath));
 
-            Collection<SitemapItemModelData> items = currentLevel == null ? Collections.emptySet() : collectBreadcrumbsToLevel(currentLevel, localization);
+            Collection<SitemapItemModelData> items = node == null ? Collections.emptySet() : collectBreadcrumbsToLevel(index.get(), node, localization);
             return toNavigationLinksInternal(items,false, localization);
         }
     }
@@ -168,36 +175,62 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
     }
 
     @NotNull
-    private List<SitemapItemModelData> collectBreadcrumbsToLevel(SitemapItemModelData currentLevel,
+    private List<SitemapItemModelData> collectBreadcrumbsToLevel(TaxonomyUrlIndex index, TaxonomyUrlIndex.Node currentLevel,
                                                                   final Localization localization) {
-        List<SitemapItemModelData> breadcrumbs = new LinkedList<>();
-
-        SitemapItemModelData model = currentLevel;
-
-        boolean hasHome = false;
-        while (model.getParent() != null) {
-            breadcrumbs.add(model);
-            hasHome = isHomePath(model.getUrl(), localization.getPath());
-            model = model.getParent();
+        List<SitemapItemModelData> path = currentLevel.getPath();
+        boolean hasHome = !path.isEmpty() && isHomePath(path.get(0).getUrl(), localization.getPath());
+        if (hasHome) {
+            return path;
         }
 
         // The Home TaxonomyNode/Keyword may be a top-level sibling instead of an ancestor
-        if (!hasHome) {
-            SitemapItemModelData item = model.getItems().stream()
-                    .filter(input -> isHomePath(input.getUrl(), localization.getPath()))
-                    .findFirst()
-                    .orElse(null);
-            if (item != null) {
-                breadcrumbs.add(item);
-            }
+        SitemapItemModelData home = index.getRoot().getItems().stream()
+                .filter(input -> isHomePath(input.getUrl(), localization.getPath()))
+                .findFirst()
+                .orElse(null);
+        if (home == null) {
+            return path;
         }
 
-        Collections.reverse(breadcrumbs);
+        List<SitemapItemModelData> breadcrumbs = new ArrayList<>(path.size() + 1);
+        breadcrumbs.add(home);
+        breadcrumbs.addAll(path);
         return breadcrumbs;
     }
 
     @NotNull
     private Optional<SitemapItemModelData> getNavigationModelInternal(Localization localization) {
+        return getIndex(localization).map(TaxonomyUrlIndex::getRoot);
+    }
+
+    /**
+     * Returns the URL index of the navigation model of the localization. Outside of preview sessions the indexed
+     * navigation model is kept in {@link NavigationIndexCache}, so that neither the model is loaded nor its index is
+     * built on every request. The cached tree is never modified nor handed out, callers get converted copies.
+     */
+    @NotNull
+    private Optional<TaxonomyUrlIndex> getIndex(Localization localization) {
+        boolean cacheable = !webRequestContext.isSessionPreview();
+        Object key = cacheable ? navigationIndexCache.getSpecificKey(localization) : null;
+        TaxonomyUrlIndex cached = cacheable ? navigationIndexCache.get(key) : null;
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<SitemapItemModelData> navigationModel = loadNavigationModel(localization);
+        if (!navigationModel.isPresent()) {
+            return Optional.empty();
+        }
+
+        TaxonomyUrlIndex index = new TaxonomyUrlIndex(navigationModel.get());
+        if (cacheable) {
+            navigationIndexCache.addAndGet(key, index);
+        }
+        return Optional.of(index);
+    }
+
+    @NotNull
+    private Optional<SitemapItemModelData> loadNavigationModel(Localization localization) {
         SitemapRequestDto requestDto = SitemapRequestDto.wholeTree(Integer.parseInt(localization.getId())).build();
         Optional<TaxonomyNodeModelData> navigationModel = navigationModelProvider.getNavigationModel(requestDto);
         if (!navigationModel.isPresent()) {
@@ -213,7 +246,7 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
         SitemapItem item = instantiateSitemap(model);
         item.setId(model.getId());
         item.setVisible(model.isVisible());
-        if (!Strings.isNullOrEmpty(model.getUrl())) item.setUrl("/" + model.getUrl().replaceAll("^/?(.*)", "$1"));
+        if (!Strings.isNullOrEmpty(model.getUrl())) item.setUrl(model.getUrl().startsWith("/") ? model.getUrl() : "/" + model.getUrl());
         item.setTitle(model.getTitle());
         item.setOriginalTitle(model.getOriginalTitle());
         item.setPublishedDate(model.getPublishedDate());
@@ -0,0 +1,50 @@
+package com.sdl.webapp.tridion.navigation;
+
+import com.sdl.dxa.caching.wrapper.SimpleCacheWrapper;
+import com.sdl.webapp.common.api.localization.Localization;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the dynamic navigation model of a localization together with its URL index, keyed by the localization ID.
+ * Requests do not load the whole taxonomy tree and index it again for every navigation link list.
+ * Expiration and size are configured for the {@code navigationIndex} cache.
+ */
+@Component
+@Profile("dynamic.navigation.provider")
+public class NavigationIndexCache extends SimpleCacheWrapper<Localization, TaxonomyUrlIndex> {
+
+    @Override
+    public String getCacheName() {
+        return "navigationIndex";
+    }
+
+    @Override
+    public Class<TaxonomyUrlIndex> getValueType() {
+        return TaxonomyUrlIndex.class;
+    }
+
+    /**
+     * Constructs the key of the navigation index of a localization.
+     *
+     * @param localization localization of the navigation model
+     * @param keyParams    not used
+     * @return the cache key
+     */
+    @Override
+    public Object getSpecificKey(Localization localization, Object... keyParams) {
+        return new SimpleKey(localization.getId());
+    }
+
+    /**
+     * Removes the navigation index of a localization, so that its navigation model is loaded again on the next request.
+     *
+     * @param localization localization to remove the index of
+     */
+    public void remove(Localization localization) {
+        if (isCachingEnabled()) {
+            getCache().remove(getSpecificKey(localization));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sdl.webapp.tridion.navigation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.sdl.dxa.api.datamodel.model.SitemapItemModelData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable URL index of a taxonomy navigation tree.
+ * <p>Finds the same item as {@link SitemapItemModelData#findWithUrl(String)}, the first item in pre-order whose URL
+ * equals the requested URL with or without a trailing slash, but with a hash lookup. Parents are linked once when the
+ * index is built, so that the tree itself is never modified. The path from the top level to an item is only built
+ * when it is requested.</p>
+ */
+final class TaxonomyUrlIndex {
+
+    private final SitemapItemModelData root;
+
+    private final Map<String, Node> nodes;
+
+    TaxonomyUrlIndex(SitemapItemModelData root) {
+        this.root = root;
+        Map<String, Node> index = new HashMap<>();
+        add(index, new Node(root, null));
+        this.nodes = ImmutableMap.copyOf(index);
+    }
+
+    private static void add(Map<String, Node> index, Node node) {
+        String url = node.item.getUrl();
+        if (url != null) {
+            index.putIfAbsent(url, node);
+            index.putIfAbsent(url + "/", node);
+        }
+
+        if (node.item.getItems() == null) {
+            return;
+        }
+        for (SitemapItemModelData child : node.item.getItems()) {
+            add(index, new Node(child, node));
+        }
+    }
+
+    /**
+     * Returns the root of the indexed tree.
+     *
+     * @return root item
+     */
+    SitemapItemModelData getRoot() {
+        return root;
+    }
+
+    /**
+     * Finds an item by its URL.
+     *
+     * @param url URL of the item, with or without trailing slash
+     * @return the item, or {@code null} if there is no item with the URL
+     */
+    @Nullable
+    Node find(String url) {
+        return nodes.get(url);
+    }
+
+    /**
+     * Item of the tree linked to the node of its parent.
+     */
+    static final class Node {
+
+        private final SitemapItemModelData item;
+
+        private final Node parent;
+
+        private Node(SitemapItemModelData item, @Nullable Node parent) {
+            this.item = item;
+            this.parent = parent;
+        }
+
+        SitemapItemModelData getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the parent of the item.
+         *
+         * @return parent, or {@code null} for the root
+         */
+        @Nullable
+        SitemapItemModelData getParent() {
+            return parent == null ? null : parent.item;
+        }
+
+        /**
+         * Returns the items from the top level, a child of the root, down to this item.
+         *
+         * @return path of the item, empty for the root
+         */
+        List<SitemapItemModelData> getPath() {
+            List<SitemapItemModelData> path = new ArrayList<>();
+            for (Node node = this; node.parent != null; node = node.parent) {
+                path.add(node.item);
+            }
+            return Lists.reverse(path);
+        }
+    }
+}
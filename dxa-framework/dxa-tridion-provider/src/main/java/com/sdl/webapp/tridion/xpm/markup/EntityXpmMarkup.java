@@ -13,7 +13,6 @@ import org.jsoup.nodes.Comment;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
-import org.jsoup.select.Elements;
 
 /**
  * Entity XPM Markup
@@ -32,7 +31,9 @@ public class EntityXpmMarkup implements MarkupDecorator {
      * <p>processProperty.</p>
      *
      * @param propertyElement a {@link org.jsoup.nodes.Element} object.
+     * @deprecated since the markup is injected without parsing the fragment, not used by this decorator
      */
+    @Deprecated
     protected static void processProperty(Element propertyElement) {
 
         String xpath = propertyElement.attr("data-entity-property-xpath");
@@ -54,7 +55,9 @@ public class EntityXpmMarkup implements MarkupDecorator {
      *
      * @param propertyElement a {@link org.jsoup.nodes.Element} object.
      * @return a boolean.
+     * @deprecated since the markup is injected without parsing the fragment, not used by this decorator
      */
+    @Deprecated
     protected static boolean propertyXpmMarkupAlreadyGenerated(Element propertyElement) {
         int index = 0;
         Node node = null;
@@ -76,6 +79,15 @@ public class EntityXpmMarkup implements MarkupDecorator {
         return new HtmlCommentNode(entity.getXpmMarkup(localization));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>XPM markup is only added in preview sessions.</p>
+     */
+    @Override
+    public boolean isApplicable(ViewModel model, WebRequestContext webRequestContext) {
+        return webRequestContext.isSessionPreview();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -93,15 +105,10 @@ public class EntityXpmMarkup implements MarkupDecorator {
 
             // Inject the XPM markup inside the entity markup
             //
-            ParsableHtmlNode entityMarkup = (ParsableHtmlNode) markup;
-            Element html = entityMarkup.getHtmlElement();
-            if (html != null) {   // If an HTML element (not a comment etc)
-                html.prepend(buildXpmMarkup(entity, webRequestContext.getLocalization()).toHtml());
-                Elements properties = html.select("[data-entity-property-xpath]");
-                for (Element property : properties) {
-                    processProperty(property);
-                }
-
+            String html = XpmMarkupInjection.injectEntityMarkup(markup.toHtml(),
+                    buildXpmMarkup(entity, webRequestContext.getLocalization()).toHtml());
+            if (html != null) {   // If an HTML element (not a doctype etc)
+                markup = new ParsableHtmlNode(html);
                 markupInjected = true;
             }
         }
@@ -0,0 +1,290 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Forward-only scanner of rendered HTML fragments used to inject XPM markup without building a DOM.
+ * <p>The scanner splits a fragment into start tags, end tags, comments and text, and keeps positions of tags
+ * and attributes so that callers can splice the original string. Contents of {@code script}, {@code style},
+ * {@code textarea} and {@code title} elements are reported as text.</p>
+ * <p>Only one attribute is tracked per tag: the one the scanner is created for.</p>
+ */
+final class HtmlTagScanner {
+
+    private static final Set<String> VOID_ELEMENTS = ImmutableSet.of("area", "base", "br", "col", "embed", "hr",
+            "img", "input", "keygen", "link", "meta", "param", "source", "track", "wbr");
+
+    private static final Set<String> RAW_TEXT_ELEMENTS = ImmutableSet.of("script", "style", "textarea", "title");
+
+    private final String html;
+
+    private final String trackedAttribute;
+
+    private int position;
+
+    private String rawTextElement;
+
+    HtmlTagScanner(String html, String trackedAttribute) {
+        this(html, trackedAttribute, 0);
+    }
+
+    HtmlTagScanner(String html, String trackedAttribute, int position) {
+        this.html = html;
+        this.trackedAttribute = trackedAttribute;
+        this.position = position;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    private static boolean isNameEnd(char c) {
+        return isWhitespace(c) || c == '>' || c == '/' || c == '=';
+    }
+
+    /**
+     * Returns the next token of the fragment.
+     *
+     * @return next token or {@code null} if the end of the fragment is reached
+     */
+    Token next() {
+        if (position >= html.length()) {
+            return null;
+        }
+        if (rawTextElement != null) {
+            return rawText();
+        }
+
+        int start = position;
+        if (html.charAt(start) != '<') {
+            int lt = html.indexOf('<', start);
+            position = lt < 0 ? html.length() : lt;
+            return new Token(TokenType.TEXT, start, position, null);
+        }
+
+        if (html.startsWith("<!--", start)) {
+            int close = html.indexOf("-->", start + 4);
+            position = close < 0 ? html.length() : close + 3;
+            return new Token(TokenType.COMMENT, start, position,
+                    html.substring(start + 4, close < 0 ? html.length() : close));
+        }
+
+        char next = start + 1 < html.length() ? html.charAt(start + 1) : ' ';
+        if (next == '/') {
+            return endTag(start);
+        }
+        if (next == '!' || next == '?') {
+            int gt = html.indexOf('>', start);
+            position = gt < 0 ? html.length() : gt + 1;
+            return new Token(TokenType.DECLARATION, start, position, null);
+        }
+        if (Character.isLetter(next)) {
+            return startTag(start);
+        }
+
+        position = start + 1;
+        return new Token(TokenType.TEXT, start, position, null);
+    }
+
+    private Token rawText() {
+        int start = position;
+        int close = html.indexOf("</", start);
+        while (close >= 0 && !html.regionMatches(true, close + 2, rawTextElement, 0, rawTextElement.length())) {
+            close = html.indexOf("</", close + 2);
+        }
+        rawTextElement = null;
+        position = close < 0 ? html.length() : close;
+        return position > start ? new Token(TokenType.TEXT, start, position, null) : next();
+    }
+
+    private Token endTag(int start) {
+        int nameEnd = start + 2;
+        while (nameEnd < html.length() && !isNameEnd(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        int gt = html.indexOf('>', nameEnd);
+        position = gt < 0 ? html.length() : gt + 1;
+        return new Token(TokenType.END_TAG, start, position, html.substring(start + 2, nameEnd).toLowerCase(Locale.ROOT));
+    }
+
+    private Token startTag(int start) {
+        int index = start + 1;
+        while (index < html.length() && !isNameEnd(html.charAt(index))) {
+            index++;
+        }
+        Token tag = new Token(TokenType.START_TAG, start, -1, html.substring(start + 1, index).toLowerCase(Locale.ROOT));
+
+        while (index < html.length()) {
+            char c = html.charAt(index);
+            if (isWhitespace(c)) {
+                index++;
+            } else if (c == '>') {
+                index++;
+                break;
+            } else if (c == '/') {
+                index++;
+                if (index < html.length() && html.charAt(index) == '>') {
+                    tag.selfClosing = true;
+                    index++;
+                    break;
+                }
+            } else {
+                index = attribute(tag, index);
+            }
+        }
+
+        tag.end = position = index;
+        if (!tag.selfClosing && RAW_TEXT_ELEMENTS.contains(tag.name)) {
+            rawTextElement = tag.name;
+        }
+        return tag;
+    }
+
+    private int attribute(Token tag, int start) {
+        int index = start;
+        while (index < html.length() && !isNameEnd(html.charAt(index))) {
+            index++;
+        }
+        if (index == start) {
+            // stray '=' without an attribute name
+            return index + 1;
+        }
+        boolean tracked = tag.attributeStart < 0 && isTracked(start, index);
+
+        int afterName = index;
+        while (index < html.length() && isWhitespace(html.charAt(index))) {
+            index++;
+        }
+        if (index >= html.length() || html.charAt(index) != '=') {
+            if (tracked) {
+                tag.track("", start, afterName);
+            }
+            return afterName;
+        }
+
+        index++;
+        while (index < html.length() && isWhitespace(html.charAt(index))) {
+            index++;
+        }
+        int valueStart = index;
+        int valueEnd;
+        if (index < html.length() && (html.charAt(index) == '"' || html.charAt(index) == '\'')) {
+            int close = html.indexOf(html.charAt(index), index + 1);
+            valueStart = index + 1;
+            valueEnd = close < 0 ? html.length() : close;
+            index = close < 0 ? html.length() : close + 1;
+        } else {
+            while (index < html.length() && !isWhitespace(html.charAt(index)) && html.charAt(index) != '>') {
+                index++;
+            }
+            valueEnd = index;
+        }
+        if (tracked) {
+            tag.track(html.substring(valueStart, valueEnd), start, index);
+        }
+        return index;
+    }
+
+    private boolean isTracked(int nameStart, int nameEnd) {
+        return trackedAttribute != null && trackedAttribute.length() == nameEnd - nameStart
+                && html.regionMatches(true, nameStart, trackedAttribute, 0, trackedAttribute.length());
+    }
+
+    enum TokenType {
+        START_TAG, END_TAG, COMMENT, TEXT, DECLARATION
+    }
+
+    /**
+     * Token of an HTML fragment with its position in the source string.
+     */
+    static final class Token {
+
+        final TokenType type;
+
+        final int start;
+
+        int end;
+
+        /**
+         * Lower-cased tag name for tags, comment content for comments, {@code null} otherwise.
+         */
+        final String name;
+
+        boolean selfClosing;
+
+        private String attributeValue;
+
+        private int attributeStart = -1;
+
+        private int attributeEnd = -1;
+
+        private Token(TokenType type, int start, int end, String name) {
+            this.type = type;
+            this.start = start;
+            this.end = end;
+            this.name = name;
+        }
+
+        /**
+         * Checks whether the element of this start tag has no content, so nothing can be inserted into it.
+         *
+         * @return whether this is a void or a self-closing element
+         */
+        boolean isEmptyElement() {
+            return selfClosing || VOID_ELEMENTS.contains(name);
+        }
+
+        /**
+         * Returns the value of the tracked attribute.
+         *
+         * @return the value, or {@code null} if the tag has no such attribute
+         */
+        String getAttributeValue() {
+            return attributeValue;
+        }
+
+        /**
+         * Returns start of the tracked attribute, including the preceding whitespace.
+         *
+         * @param html the scanned fragment
+         * @return start index of the attribute or {@code -1} if the tag has no such attribute
+         */
+        int getAttributeStart(String html) {
+            if (attributeStart < 0) {
+                return -1;
+            }
+            int index = attributeStart;
+            while (index > start && isWhitespace(html.charAt(index - 1))) {
+                index--;
+            }
+            return index;
+        }
+
+        /**
+         * Returns end of the tracked attribute.
+         *
+         * @return end index of the attribute or {@code -1} if the tag has no such attribute
+         */
+        int getAttributeEnd() {
+            return attributeEnd;
+        }
+
+        private void track(String value, int from, int to) {
+            this.attributeValue = value;
+            this.attributeStart = from;
+            this.attributeEnd = to;
+        }
+
+        /**
+         * Checks whether the tag has the tracked attribute.
+         *
+         * @return whether the attribute is present
+         */
+        boolean hasAttribute() {
+            return attributeStart >= 0;
+        }
+    }
+}
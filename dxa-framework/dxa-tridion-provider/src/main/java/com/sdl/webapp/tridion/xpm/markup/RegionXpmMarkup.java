@@ -11,9 +11,6 @@ import com.sdl.webapp.common.markup.html.HtmlCommentNode;
 import com.sdl.webapp.common.markup.html.HtmlNode;
 import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
 import com.sdl.webapp.common.markup.html.builders.HtmlBuilders;
-import org.jsoup.nodes.Comment;
-import org.jsoup.nodes.Element;
-import org.jsoup.nodes.Node;
 
 /**
  * Region XPM Markup
@@ -36,25 +33,19 @@ public class RegionXpmMarkup implements MarkupDecorator {
         this.xpmRegionConfig = xpmRegionConfig;
     }
 
-    private static boolean isFirstNodeXpmEntityXPMMarkup(Element html) {
-
-        for (Node child : html.childNodes()) {
-            if (child instanceof Element) {
-                return false;
-            } else if (child instanceof Comment) {
-                Comment comment = (Comment) child;
-                if (comment.getData().startsWith(" Start Component Presentation")) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     private static HtmlNode buildXpmMarkup(RegionModel region, Localization localization) {
         return new HtmlCommentNode(region.getXpmMarkup(localization));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>XPM markup is only added in preview sessions.</p>
+     */
+    @Override
+    public boolean isApplicable(ViewModel model, WebRequestContext webRequestContext) {
+        return webRequestContext.isSessionPreview();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -84,10 +75,10 @@ public class RegionXpmMarkup implements MarkupDecorator {
 
                     // Inject the region markup with the XPM markup
                     //
-                    ParsableHtmlNode regionMarkup = (ParsableHtmlNode) markup;
-                    Element html = regionMarkup.getHtmlElement();
-                    if (html != null && !RegionXpmMarkup.isFirstNodeXpmEntityXPMMarkup(html)) {
-                        html.prepend(buildXpmMarkup(region, webRequestContext.getLocalization()).toHtml());
+                    String html = XpmMarkupInjection.injectRegionMarkup(markup.toHtml(),
+                            buildXpmMarkup(region, webRequestContext.getLocalization()).toHtml());
+                    if (html != null) {
+                        markup = new ParsableHtmlNode(html);
                         markupInjected = true;
                     }
                 }
@@ -0,0 +1,196 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import com.sdl.webapp.common.markup.html.HtmlCommentNode;
+import com.sdl.webapp.tridion.xpm.markup.HtmlTagScanner.Token;
+import com.sdl.webapp.tridion.xpm.markup.HtmlTagScanner.TokenType;
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.parser.Parser;
+
+/**
+ * Injects XPM markup into rendered fragments in one forward pass over the HTML.
+ * <p>Decorated entities are nested into regions as plain text, so the fragment is never parsed into a DOM
+ * and serialized again: only the comments are spliced into the original string.</p>
+ * <p>As with the DOM-based implementation, the fragment root is its only top-level element.
+ * If there are several top-level elements, the markup is put in front of the fragment.</p>
+ */
+final class XpmMarkupInjection {
+
+    static final String PROPERTY_XPATH_ATTRIBUTE = "data-entity-property-xpath";
+
+    private static final String FIELD_PATTERN = "Start Component Field: {\"XPath\":\"%s\"}";
+
+    private static final String FIELD_MARKER = "Start Component Field:";
+
+    private static final String COMPONENT_PRESENTATION_MARKER = " Start Component Presentation";
+
+    private XpmMarkupInjection() {
+    }
+
+    /**
+     * Injects the entity markup inside the root element of the entity fragment and adds the field markup
+     * for all elements with {@value #PROPERTY_XPATH_ATTRIBUTE} attribute, removing the attribute.
+     *
+     * @param html         rendered entity
+     * @param entityMarkup entity markup comment
+     * @return decorated fragment, or {@code null} if the fragment does not start with HTML
+     */
+    @Nullable
+    static String injectEntityMarkup(String html, String entityMarkup) {
+        StringBuilder result = new StringBuilder(html.length() + entityMarkup.length() + 256);
+        HtmlTagScanner scanner = new HtmlTagScanner(html, PROPERTY_XPATH_ATTRIBUTE);
+
+        int depth = 0;
+        int topLevelElements = 0;
+        int rootInsertion = 0;
+        boolean leadingContent = true;
+
+        Token token;
+        while ((token = scanner.next()) != null) {
+            if (leadingContent && token.type == TokenType.DECLARATION) {
+                return null;
+            }
+            if (token.type != TokenType.START_TAG) {
+                leadingContent &= token.type == TokenType.TEXT && isBlank(html, token);
+                if (token.type == TokenType.END_TAG && depth > 0) {
+                    depth--;
+                }
+                result.append(html, token.start, token.end);
+                continue;
+            }
+
+            leadingContent = false;
+            boolean root = depth == 0 && ++topLevelElements == 1;
+            if (!token.isEmptyElement()) {
+                depth++;
+            }
+
+            int tagStart = result.length();
+            if (token.hasAttribute()) {
+                String fieldMarkup = buildFieldMarkup(token);
+                boolean hasContent = root ? !token.isEmptyElement() : hasContent(html, token);
+                if (!hasContent) {
+                    result.append(fieldMarkup);
+                }
+                result.append(html, token.start, token.getAttributeStart(html)).append(html, token.getAttributeEnd(), token.end);
+                if (hasContent && (root || !isFieldMarkupGenerated(html, token))) {
+                    result.append(fieldMarkup);
+                }
+            } else {
+                result.append(html, token.start, token.end);
+            }
+            if (root) {
+                rootInsertion = token.isEmptyElement() ? tagStart : result.length();
+            }
+        }
+
+        if (topLevelElements == 1) {
+            result.insert(rootInsertion, entityMarkup);
+        } else {
+            result.insert(0, entityMarkup);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Injects the region markup inside the root element of the region fragment unless the root starts
+     * with a component presentation.
+     *
+     * @param html         rendered region
+     * @param regionMarkup region markup comment
+     * @return decorated fragment, or {@code null} if the markup could not be injected
+     */
+    @Nullable
+    static String injectRegionMarkup(String html, String regionMarkup) {
+        HtmlTagScanner scanner = new HtmlTagScanner(html, null);
+
+        int depth = 0;
+        int topLevelElements = 0;
+        Token root = null;
+        boolean inRootPrefix = false;
+        boolean startsWithComponentPresentation = false;
+        boolean leadingContent = true;
+
+        Token token;
+        while ((token = scanner.next()) != null) {
+            if (leadingContent && token.type == TokenType.DECLARATION) {
+                return null;
+            }
+            switch (token.type) {
+                case START_TAG:
+                    leadingContent = false;
+                    inRootPrefix = false;
+                    if (depth == 0 && ++topLevelElements == 1) {
+                        root = token;
+                        inRootPrefix = !token.isEmptyElement();
+                    }
+                    if (!token.isEmptyElement()) {
+                        depth++;
+                    }
+                    break;
+                case END_TAG:
+                    inRootPrefix = false;
+                    if (depth > 0) {
+                        depth--;
+                    }
+                    break;
+                case COMMENT:
+                    leadingContent = false;
+                    if (inRootPrefix && token.name.startsWith(COMPONENT_PRESENTATION_MARKER)) {
+                        startsWithComponentPresentation = true;
+                        inRootPrefix = false;
+                    }
+                    break;
+                default:
+                    leadingContent &= isBlank(html, token);
+                    break;
+            }
+        }
+
+        if (topLevelElements != 1) {
+            return regionMarkup + html;
+        }
+        if (startsWithComponentPresentation) {
+            return null;
+        }
+        int insertion = root.isEmptyElement() ? root.start : root.end;
+        return html.substring(0, insertion) + regionMarkup + html.substring(insertion);
+    }
+
+    private static String buildFieldMarkup(Token token) {
+        String xpath = token.getAttributeValue();
+        if (xpath.indexOf('&') >= 0) {
+            xpath = Parser.unescapeEntities(xpath, true);
+        }
+        if (xpath.contains("--")) {
+            // let the comment node strip nested comment delimiters
+            return new HtmlCommentNode(String.format(FIELD_PATTERN, xpath)).toHtml();
+        }
+        return "<!-- " + FIELD_MARKER + " {\"XPath\":\"" + xpath + "\"} -->";
+    }
+
+    private static boolean hasContent(String html, Token tag) {
+        if (tag.isEmptyElement()) {
+            return false;
+        }
+        Token next = new HtmlTagScanner(html, null, tag.end).next();
+        return next != null && next.type != TokenType.END_TAG;
+    }
+
+    private static boolean isFieldMarkupGenerated(String html, Token tag) {
+        HtmlTagScanner scanner = new HtmlTagScanner(html, null, tag.end);
+        Token next;
+        while ((next = scanner.next()) != null && next.type == TokenType.TEXT) {
+            // skip text in front of the first node
+        }
+        return next != null && next.type == TokenType.COMMENT && next.name.contains(FIELD_MARKER);
+    }
+
+    private static boolean isBlank(String html, Token token) {
+        for (int i = token.start; i < token.end; i++) {
+            if (!Character.isWhitespace(html.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
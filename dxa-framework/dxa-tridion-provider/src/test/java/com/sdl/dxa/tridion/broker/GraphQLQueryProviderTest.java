@@ -0,0 +1,327 @@
+package com.sdl.dxa.tridion.broker;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import com.sdl.web.pca.client.ApiClient;
+import com.sdl.web.pca.client.contentmodel.Pagination;
+import com.sdl.web.pca.client.contentmodel.generated.Component;
+import com.sdl.web.pca.client.contentmodel.generated.InputItemFilter;
+import com.sdl.web.pca.client.contentmodel.generated.InputKeywordCriteria;
+import com.sdl.web.pca.client.contentmodel.generated.Item;
+import com.sdl.web.pca.client.contentmodel.generated.ItemConnection;
+import com.sdl.web.pca.client.contentmodel.generated.ItemEdge;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the item queries of {@link GraphQLQueryProvider} against a local stub {@link ApiClient} which evaluates the
+ * generated filters on a small set of tagged components.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GraphQLQueryProviderTest {
+
+    private static final String TOPICS = "tcm:1-10-512";
+
+    private static final String REGIONS = "tcm:1-20-512";
+
+    private static final String NEWS = "tcm:1-11-1024";
+
+    private static final String EVENTS = "tcm:1-12-1024";
+
+    private static final String EUROPE = "tcm:1-21-1024";
+
+    private final StubApiClient stub = new StubApiClient();
+
+    @Mock
+    private ApiClientProvider apiClientProvider;
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    private GraphQLQueryProvider queryProvider;
+
+    @Before
+    public void init() {
+        stub.add(1, 100, keyword(10, "Topics", 11, "news"));
+        stub.add(2, 100, keyword(10, "Topics", 12, "events"));
+        stub.add(3, 100, keyword(10, "Topics", 11, "news"), keyword(20, "Regions", 21, "europe"));
+        stub.add(4, 100, keyword(20, "Regions", 21, "europe"));
+        stub.add(5, 200, keyword(10, "Topics", 11, "news"), keyword(20, "Regions", 21, "europe"));
+        stub.add(6, 100);
+
+        when(apiClientProvider.getClient()).thenReturn(stub.client());
+        queryProvider = new GraphQLQueryProvider(apiClientProvider, cacheManager, webRequestContext);
+    }
+
+    private static InputKeywordCriteria keyword(int categoryId, String categoryName, int keywordId, String key) {
+        InputKeywordCriteria keyword = new InputKeywordCriteria();
+        keyword.setCategoryId(categoryId);
+        keyword.setCategoryName(categoryName);
+        keyword.setKeywordId(keywordId);
+        keyword.setKey(key);
+        return keyword;
+    }
+
+    private static SimpleBrokerQuery query(ImmutableListMultimap<String, String> keywordFilters, boolean matchAny) {
+        SimpleBrokerQuery query = new SimpleBrokerQuery();
+        query.setSchemaId(100);
+        query.setPageSize(10);
+        query.setKeywordFilters(keywordFilters);
+        query.setMatchAnyKeyword(matchAny);
+        return query;
+    }
+
+    private static List<Integer> ids(List<Item> items) {
+        return items.stream().map(item -> ((Component) item).getItemId()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldFilterByAllKeywords_InOneRequest() {
+        //when
+        List<Item> items = queryProvider.executeQueryItems(query(ImmutableListMultimap.of(TOPICS, NEWS, REGIONS, EUROPE), false));
+
+        //then
+        assertEquals(Arrays.asList(3), ids(items));
+        assertEquals(1, stub.filters.size());
+        InputItemFilter filter = stub.filters.get(0);
+        assertNull(filter.getOr());
+        assertEquals(2, filter.getAnd().size());
+        assertEquals(10, filter.getAnd().get(0).getKeyword().getCategoryId());
+        assertEquals(11, filter.getAnd().get(0).getKeyword().getKeywordId());
+        assertEquals(20, filter.getAnd().get(1).getKeyword().getCategoryId());
+        assertEquals(21, filter.getAnd().get(1).getKeyword().getKeywordId());
+    }
+
+    @Test
+    public void shouldFilterByAnyKeyword() {
+        //when
+        List<Item> items = queryProvider.executeQueryItems(query(ImmutableListMultimap.of(TOPICS, NEWS, TOPICS, EVENTS), true));
+
+        //then
+        assertEquals(Arrays.asList(1, 2, 3), ids(items));
+        InputItemFilter filter = stub.filters.get(0);
+        assertNull(filter.getAnd());
+        assertEquals(2, filter.getOr().size());
+    }
+
+    @Test
+    public void shouldFilterByCategoryNameAndKeywordKey() {
+        //when
+        List<Item> items = queryProvider.executeQueryItems(query(ImmutableListMultimap.of("Regions", "europe"), false));
+
+        //then
+        assertEquals(Arrays.asList(3, 4), ids(items));
+        InputKeywordCriteria keyword = stub.filters.get(0).getAnd().get(0).getKeyword();
+        assertEquals("Regions", keyword.getCategoryName());
+        assertEquals("europe", keyword.getKey());
+        assertEquals(0, keyword.getCategoryId());
+        assertEquals(0, keyword.getKeywordId());
+    }
+
+    @Test
+    public void shouldNotFilterByKeywords_IfThereAreNone() {
+        //when
+        List<Item> items = queryProvider.executeQueryItems(query(ImmutableListMultimap.of(), false));
+
+        //then
+        assertEquals(Arrays.asList(1, 2, 3, 4, 6), ids(items));
+        assertNull(stub.filters.get(0).getAnd());
+        assertNull(stub.filters.get(0).getOr());
+    }
+
+    @Test
+    public void shouldCacheAllAndAnyQueriesSeparately() {
+        //given
+        ImmutableListMultimap<String, String> keywords = ImmutableListMultimap.of(TOPICS, NEWS, REGIONS, EUROPE);
+
+        //when
+        List<Item> all = queryProvider.executeQueryItems(query(keywords, false));
+        List<Item> any = queryProvider.executeQueryItems(query(keywords, true));
+        List<Item> cached = queryProvider.executeQueryItems(query(keywords, true));
+
+        //then
+        assertEquals(Arrays.asList(3), ids(all));
+        assertEquals(Arrays.asList(1, 3, 4), ids(any));
+        assertEquals(ids(any), ids(cached));
+        assertEquals(2, stub.filters.size());
+    }
+
+    @Test
+    public void shouldKeepPagingState_OnCacheHits() {
+        //given
+        SimpleBrokerQuery query = query(ImmutableListMultimap.of(), false);
+        query.setPageSize(2);
+        QueryPage first = queryProvider.executeQueryPage(query);
+        query.setPageSize(3);
+
+        //when
+        SimpleBrokerQuery same = query(ImmutableListMultimap.of(), false);
+        same.setPageSize(2);
+        same.setStartAt(0);
+        QueryPage cached = queryProvider.executeQueryPage(same);
+
+        //then
+        assertEquals(1, stub.filters.size());
+        assertSame(first, cached);
+        assertEquals(Arrays.asList(1, 2), ids(cached.getItems()));
+        assertTrue(cached.isHasMore());
+        assertEquals("c2", cached.getCursor());
+    }
+
+    @Test
+    public void shouldSetHasMoreAndCursor_ForCachedAndUncachedQueries() {
+        //given
+        SimpleBrokerQuery query = query(ImmutableListMultimap.of(), false);
+        query.setPageSize(2);
+
+        //when
+        queryProvider.executeQueryItems(query);
+        GraphQLQueryProvider other = new GraphQLQueryProvider(apiClientProvider, cacheManager, webRequestContext);
+        List<Item> cached = other.executeQueryItems(query);
+
+        //then
+        assertEquals(1, stub.filters.size());
+        assertEquals(Arrays.asList(1, 2), ids(cached));
+        assertTrue(other.hasMore());
+        assertEquals("c2", other.getCursor());
+    }
+
+    @Test
+    public void shouldRequestNextPage_WithItsOwnKey() {
+        //given
+        SimpleBrokerQuery query = query(ImmutableListMultimap.of(), false);
+        query.setPageSize(2);
+        QueryPage first = queryProvider.executeQueryPage(query);
+
+        //when
+        query.setCursor(first.getCursor());
+        QueryPage second = queryProvider.executeQueryPage(query);
+        query.setCursor(second.getCursor());
+        QueryPage last = queryProvider.executeQueryPage(query);
+
+        //then
+        assertEquals(Arrays.asList(3, 4), ids(second.getItems()));
+        assertEquals(Arrays.asList(6), ids(last.getItems()));
+        assertFalse(last.isHasMore());
+        assertEquals(3, stub.filters.size());
+    }
+
+    @Test
+    public void shouldNotCache_InSessionPreview() {
+        //given
+        when(webRequestContext.isSessionPreview()).thenReturn(true);
+        SimpleBrokerQuery query = query(ImmutableListMultimap.of(), false);
+
+        //when
+        queryProvider.executeQueryPage(query);
+        queryProvider.executeQueryPage(query);
+
+        //then
+        assertEquals(2, stub.filters.size());
+    }
+
+    /**
+     * {@link ApiClient} which answers item queries from a local list of components, all other calls are unsupported.
+     */
+    private static class StubApiClient {
+
+        private final List<StubItem> items = new ArrayList<>();
+
+        private final List<InputItemFilter> filters = new ArrayList<>();
+
+        void add(int itemId, int schemaId, InputKeywordCriteria... keywords) {
+            items.add(new StubItem(itemId, schemaId, Arrays.asList(keywords)));
+        }
+
+        ApiClient client() {
+            return (ApiClient) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ApiClient.class},
+                    (proxy, method, args) -> {
+                        if (!"executeItemQuery".equals(method.getName())) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        return executeItemQuery((InputItemFilter) args[0], (Pagination) args[2]);
+                    });
+        }
+
+        private ItemConnection executeItemQuery(InputItemFilter filter, Pagination pagination) {
+            filters.add(filter);
+            List<ItemEdge> edges = new ArrayList<>();
+            boolean afterCursor = pagination.getAfter() == null;
+            for (StubItem item : items) {
+                if (!afterCursor) {
+                    afterCursor = pagination.getAfter().equals("c" + item.itemId);
+                    continue;
+                }
+                if (item.matches(filter) && (pagination.getFirst() < 0 || edges.size() < pagination.getFirst())) {
+                    Component component = new Component();
+                    component.setItemId(item.itemId);
+                    ItemEdge edge = new ItemEdge();
+                    edge.setNode(component);
+                    edge.setCursor("c" + item.itemId);
+                    edges.add(edge);
+                }
+            }
+            ItemConnection connection = new ItemConnection();
+            connection.setEdges(edges);
+            return connection;
+        }
+    }
+
+    private static class StubItem {
+
+        private final int itemId;
+
+        private final int schemaId;
+
+        private final List<InputKeywordCriteria> keywords;
+
+        private StubItem(int itemId, int schemaId, List<InputKeywordCriteria> keywords) {
+            this.itemId = itemId;
+            this.schemaId = schemaId;
+            this.keywords = keywords;
+        }
+
+        private boolean matches(InputItemFilter filter) {
+            if (filter.getSchema() != null && !filter.getSchema().getId().equals(String.valueOf(schemaId))) {
+                return false;
+            }
+            if (filter.getKeyword() != null && keywords.stream().noneMatch(keyword -> matches(filter.getKeyword(), keyword))) {
+                return false;
+            }
+            if (filter.getAnd() != null && !filter.getAnd().stream().allMatch(this::matches)) {
+                return false;
+            }
+            return filter.getOr() == null || filter.getOr().stream().anyMatch(this::matches);
+        }
+
+        private static boolean matches(InputKeywordCriteria criteria, InputKeywordCriteria keyword) {
+            return (criteria.getCategoryId() == 0 || criteria.getCategoryId() == keyword.getCategoryId()) &&
+                    (criteria.getCategoryName() == null || Objects.equals(criteria.getCategoryName(), keyword.getCategoryName())) &&
+                    (criteria.getKeywordId() == 0 || criteria.getKeywordId() == keyword.getKeywordId()) &&
+                    (criteria.getKey() == null || Objects.equals(criteria.getKey(), keyword.getKey()));
+        }
+    }
+}
@@ -8,10 +8,16 @@ import com.sdl.dxa.tridion.modelservice.DefaultModelServiceProvider;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.query.ComponentMetadata;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
 import com.sdl.webapp.common.exceptions.DxaException;
+import com.tridion.meta.ComponentMeta;
+import com.tridion.meta.ComponentMetaFactory;
+import com.tridion.meta.CustomMeta;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,15 +27,24 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -126,4 +141,83 @@ public class DefaultContentProviderTest {
                 .baseUrl("baseUrl")
                 .build()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldLoadMetadataOncePerComponentAndCacheIt() {
+        //given
+        LinkResolver linkResolver = mock(LinkResolver.class);
+        DefaultContentProvider provider = spy(new DefaultContentProvider(webRequestContext, null, linkResolver,
+                modelBuilderPipeline, defaultModelService, cacheManager));
+        Map<Object, ComponentMetadata> cached = new HashMap<>();
+        ComponentMetadataCache metadataCache = new ComponentMetadataCache() {
+            @Override
+            public ComponentMetadata get(Object key) {
+                return cached.get(key);
+            }
+
+            @Override
+            public ComponentMetadata addAndGet(Object key, ComponentMetadata value) {
+                cached.put(key, value);
+                return value;
+            }
+        };
+        ReflectionTestUtils.setField(provider, "metadataCache", metadataCache);
+
+        ComponentMetaFactory cmf = mock(ComponentMetaFactory.class);
+        ComponentMeta first = componentMeta(1);
+        ComponentMeta second = componentMeta(2);
+        when(cmf.getMeta("1")).thenReturn(first);
+        when(cmf.getMeta("2")).thenReturn(null);
+        when(cmf.getMeta("3")).thenReturn(second);
+        doReturn(cmf).when(provider).createComponentMetaFactory(42);
+        doReturn(Arrays.asList("1", "2", "3")).when(provider).executeQuery(any(SimpleBrokerQuery.class));
+
+        //when
+        List<ComponentMetadata> results = provider.executeMetadataQuery(query());
+        List<ComponentMetadata> cachedResults = provider.executeMetadataQuery(query());
+
+        //then
+        assertEquals(Arrays.asList("1", "2"), results.stream().map(ComponentMetadata::getId).collect(Collectors.toList()));
+        assertEquals(results, cachedResults);
+        verify(cmf, times(1)).getMeta("1");
+        verify(cmf, times(2)).getMeta("2");
+        verify(cmf, times(1)).getMeta("3");
+    }
+
+    @Test
+    public void shouldStopLoadingMetadataWhenPageIsFull() {
+        //given
+        DefaultContentProvider provider = spy(new DefaultContentProvider(webRequestContext, null, mock(LinkResolver.class),
+                modelBuilderPipeline, defaultModelService, cacheManager));
+        ComponentMetaFactory cmf = mock(ComponentMetaFactory.class);
+        ComponentMeta meta = componentMeta(1);
+        when(cmf.getMeta(anyString())).thenReturn(meta);
+        doReturn(cmf).when(provider).createComponentMetaFactory(42);
+        doReturn(Arrays.asList("1", "2", "3")).when(provider).executeQuery(any(SimpleBrokerQuery.class));
+        SimpleBrokerQuery query = query();
+        query.setPageSize(2);
+
+        //when
+        List<ComponentMetadata> results = provider.executeMetadataQuery(query);
+
+        //then
+        assertEquals(2, results.size());
+        assertTrue(query.isHasMore());
+        verify(cmf, never()).getMeta("3");
+    }
+
+    private static SimpleBrokerQuery query() {
+        SimpleBrokerQuery query = new SimpleBrokerQuery();
+        query.setPublicationId(42);
+        query.setPageSize(10);
+        return query;
+    }
+
+    private static ComponentMeta componentMeta(int id) {
+        ComponentMeta meta = mock(ComponentMeta.class);
+        when(meta.getId()).thenReturn(id);
+        when(meta.getPublicationId()).thenReturn(42);
+        when(meta.getCustomMeta()).thenReturn(new CustomMeta("meta", Collections.emptyMap(), Collections.emptyMap()));
+        return meta;
+    }
+}
@@ -1,17 +1,25 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.MvcModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.MvcData;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
 import com.sdl.webapp.common.api.model.ViewModelRegistry;
+import com.sdl.webapp.common.api.model.entity.Configuration;
 import com.sdl.webapp.common.api.model.mvcdata.DefaultsMvcData;
 import com.sdl.webapp.common.api.model.page.DefaultPageModel;
 import org.jetbrains.annotations.NotNull;
@@ -22,19 +30,28 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -58,6 +75,8 @@ public class DefaultModelBuilderOnMocksTest {
     private RegionModel regionModel2;
     @Mock
     private RegionModel regionModel3;
+    @Mock
+    private WebRequestContext webRequestContext;
 
     @Spy
     @InjectMocks
@@ -194,6 +213,182 @@ public class DefaultModelBuilderOnMocksTest {
         verify(regionModel1).addEntity(entityModel);
     }
 
+    @Test
+    public void shouldShareBuildPlanBetweenEntitiesWithSameSchemasAndMvcData() {
+        //given
+        Localization localization = mockLocalization();
+        EntityModelData first = entityModelData("2", "Article");
+        EntityModelData second = entityModelData("2", "Article");
+
+        //when
+        EntityBuildPlan firstPlan = modelBuilder.getBuildPlan(first);
+        EntityBuildPlan secondPlan = modelBuilder.getBuildPlan(second);
+
+        //then
+        assertSame(firstPlan, secondPlan);
+        assertSame(localization.getSemanticSchemas().get(2L), firstPlan.getSemanticSchema());
+        assertEquals(2, firstPlan.getSemanticFields().size());
+        assertEquals("Article", firstPlan.getMvcData().getViewName());
+        verify(localization, times(3)).getSemanticSchemas();
+    }
+
+    @Test
+    public void shouldCompileSeparatePlansForDifferentMvcDataAndLocalizations() {
+        //given
+        mockLocalization();
+        EntityModelData entityModelData = entityModelData("2", "Article");
+        EntityBuildPlan plan = modelBuilder.getBuildPlan(entityModelData);
+
+        //when
+        EntityBuildPlan otherView = modelBuilder.getBuildPlan(entityModelData("2", "Teaser"));
+        entityModelData.getMvcData().setViewName("Teaser");
+        EntityBuildPlan changedView = modelBuilder.getBuildPlan(entityModelData);
+        mockLocalization();
+        EntityBuildPlan otherLocalization = modelBuilder.getBuildPlan(entityModelData("2", "Article"));
+
+        //then
+        assertNotSame(plan, otherView);
+        assertSame(otherView, changedView);
+        assertNotSame(plan, otherLocalization);
+        assertEquals("Article", plan.getMvcData().getViewName());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldShareReadOnlyMvcData() {
+        //given
+        mockLocalization();
+        EntityBuildPlan plan = modelBuilder.getBuildPlan(entityModelData("2", "Article"));
+
+        //when
+        plan.getMvcData().getRouteValues().put("key", "value");
+
+        //then
+        //exception
+    }
+
+    @Test
+    public void shouldNotMapEntitiesWithoutSchemas() {
+        //given
+        mockLocalization();
+
+        //when
+        EntityBuildPlan plan = modelBuilder.getBuildPlan(entityModelData(null, "Article"));
+
+        //then
+        assertFalse(plan.isMappable());
+        assertNull(plan.getSemanticSchema());
+        assertTrue(plan.getSemanticFields().isEmpty());
+    }
+
+    @Test
+    public void shouldAddConcurrentlyBuiltEntitiesInOrder() {
+        //given
+        ModelBuildingPool pool = new ModelBuildingPool();
+        ReflectionTestUtils.setField(pool, "enabled", true);
+        pool.init();
+        ReflectionTestUtils.setField(modelBuilder, "modelBuildingPool", pool);
+
+        RegionModelData regionModelData = mock(RegionModelData.class);
+        List<EntityModelData> entities = new ArrayList<>();
+        List<EntityModel> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            EntityModelData entityModelData = mock(EntityModelData.class);
+            EntityModel entityModel = mock(EntityModel.class);
+            doReturn(entityModel).when(modelBuilder).createEntityModel(entityModelData);
+            when(entityModel.getMvcData()).thenReturn(mvcData);
+            entities.add(entityModelData);
+            expected.add(entityModel);
+        }
+        when(regionModelData.getEntities()).thenReturn(entities);
+        List<EntityModel> added = new ArrayList<>();
+        doAnswer(invocation -> added.add((EntityModel) invocation.getArguments()[0])).when(regionModel1).addEntity(any(EntityModel.class));
+
+        //when
+        try {
+            modelBuilder.addEntitiesToRegionModels(regionModelData, regionModel1);
+        } finally {
+            pool.shutdown();
+        }
+
+        //then
+        assertEquals(expected, added);
+    }
+
+    @Test
+    public void shouldResolveModelTypeOncePerBuildPlan_WhenBuildingBatch() throws Exception {
+        //given
+        mockLocalization();
+        doReturn(Configuration.class).when(viewModelRegistry).getViewModelType(any(MvcData.class));
+        List<EntityModelData> modelData = Lists.newArrayList(
+                entityModelData(null, "Article"), entityModelData(null, "Article"), entityModelData(null, "Teaser"));
+        for (int i = 0; i < modelData.size(); i++) {
+            modelData.get(i).setId(String.valueOf(i));
+        }
+
+        //when
+        List<EntityModel> entityModels = modelBuilder.buildEntityModels(null, modelData, null);
+
+        //then
+        assertEquals(Lists.newArrayList("0", "1", "2"), entityModels.stream().map(EntityModel::getId).collect(Collectors.toList()));
+        assertSame(entityModels.get(0).getMvcData(), entityModels.get(1).getMvcData());
+        assertEquals("Teaser", entityModels.get(2).getMvcData().getViewName());
+        verify(viewModelRegistry, times(2)).getViewModelType(any(MvcData.class));
+    }
+
+    @Test
+    public void shouldBuildLargeBatchesConcurrentlyInOrder() throws Exception {
+        //given
+        mockLocalization();
+        ModelBuildingPool pool = new ModelBuildingPool();
+        ReflectionTestUtils.setField(pool, "enabled", true);
+        pool.init();
+        ReflectionTestUtils.setField(modelBuilder, "modelBuildingPool", pool);
+        doReturn(Configuration.class).when(viewModelRegistry).getViewModelType(any(MvcData.class));
+        List<EntityModelData> modelData = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            EntityModelData entityModelData = entityModelData(null, "Article");
+            entityModelData.setId(String.valueOf(i));
+            modelData.add(entityModelData);
+            expected.add(String.valueOf(i));
+        }
+
+        //when
+        List<EntityModel> entityModels;
+        try {
+            entityModels = modelBuilder.buildEntityModels(null, modelData, null);
+        } finally {
+            pool.shutdown();
+        }
+
+        //then
+        assertEquals(expected, entityModels.stream().map(EntityModel::getId).collect(Collectors.toList()));
+        verify(viewModelRegistry).getViewModelType(any(MvcData.class));
+    }
+
+    @NotNull
+    private Localization mockLocalization() {
+        Localization localization = mock(Localization.class);
+        when(localization.getSemanticSchemas()).thenReturn(ImmutableMap.of(
+                1L, new SemanticSchema(1L, "Base", Collections.emptySet(), ImmutableMap.of(
+                        new FieldSemantics(SDL_CORE_VOCABULARY, "Base", "headline"),
+                        new SemanticField("headline", "/Base/headline", false, Collections.emptyMap()))),
+                2L, new SemanticSchema(2L, "Article", Collections.emptySet(), ImmutableMap.of(
+                        new FieldSemantics(SDL_CORE_VOCABULARY, "Article", "body"),
+                        new SemanticField("body", "/Article/body", false, Collections.emptyMap())))));
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        return localization;
+    }
+
+    @NotNull
+    private EntityModelData entityModelData(String schemaId, String viewName) {
+        EntityModelData entityModelData = new EntityModelData();
+        entityModelData.setSchemaId(schemaId);
+        entityModelData.setExtensionData(schemaId == null ? null : ImmutableMap.of("Schemas", new ListWrapper<>(Lists.newArrayList("1"))));
+        entityModelData.setMvcData(MvcModelData.builder().areaName("Core").viewName(viewName).build());
+        return entityModelData;
+    }
+
     @NotNull
     private List<RegionModelData> prepareRegions() throws SemanticMappingException {
         RegionModelData regionModelData1 = mock(RegionModelData.class);
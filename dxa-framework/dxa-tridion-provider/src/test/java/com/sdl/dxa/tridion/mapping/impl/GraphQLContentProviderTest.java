@@ -1,16 +1,25 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.content.StaticContentResolver;
 import com.sdl.dxa.tridion.graphql.GraphQLProvider;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import com.sdl.web.pca.client.ApiClient;
+import com.sdl.web.pca.client.contentmodel.Pagination;
+import com.sdl.web.pca.client.contentmodel.generated.Component;
+import com.sdl.web.pca.client.contentmodel.generated.CustomMetaConnection;
+import com.sdl.web.pca.client.contentmodel.generated.ItemConnection;
+import com.sdl.web.pca.client.contentmodel.generated.ItemEdge;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.entity.Configuration;
+import com.sdl.webapp.common.api.model.entity.DynamicList;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
 import com.sdl.webapp.common.api.model.page.DefaultPageModel;
 import org.junit.Before;
 import org.junit.Test;
@@ -21,13 +30,31 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -103,4 +130,165 @@ public class GraphQLContentProviderTest {
         assertEquals("path", contentFile.getName());
         assertEquals("testType", result.getContentType());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldShareDynamicListPagesAndCursorsWithoutSession() throws Exception {
+        //given
+        ApiClient apiClient = mockItemQuery(35);
+        Map<Object, DynamicListPageCache.Page> cached = new HashMap<>();
+        ReflectionTestUtils.setField(contentProvider, "pageCache", mapBackedPageCache(cached));
+
+        //when
+        TestList third = populate(20);
+        TestList thirdAgain = populate(20);
+        TestList fourth = populate(30);
+
+        //then
+        assertEquals(Arrays.asList("20", "21", "22", "23", "24", "25", "26", "27", "28", "29"), ids(third));
+        assertTrue(third.isHasMore());
+        assertEquals(ids(third), ids(thirdAgain));
+        assertNotSame(third.getQueryResults().get(0), thirdAgain.getQueryResults().get(0));
+        assertEquals(Arrays.asList("30", "31", "32", "33", "34"), ids(fourth));
+        assertFalse(fourth.isHasMore());
+        assertEquals(4, cached.size());
+        verify(apiClient, times(4)).executeItemQuery(any(), any(), any(), any(), any(), anyBoolean(), any());
+        verify(builderPipeline, times(15)).createEntityModel(any(EntityModelData.class), eq(Configuration.class));
+    }
+
+    @Test
+    public void shouldWalkCursorsWithoutCache() throws Exception {
+        //given
+        ApiClient apiClient = mockItemQuery(35);
+
+        //when
+        TestList list = populate(25);
+
+        //then
+        assertEquals(20, list.getStart());
+        assertEquals(Arrays.asList("20", "21", "22", "23", "24", "25", "26", "27", "28", "29"), ids(list));
+        verify(apiClient, times(3)).executeItemQuery(any(), any(), any(), any(), any(), anyBoolean(), any());
+        verify(builderPipeline).createEntityModels(anyList(), eq(Configuration.class));
+        verify(builderPipeline, times(10)).createEntityModel(any(EntityModelData.class), eq(Configuration.class));
+    }
+
+    @Test
+    public void shouldReturnNoResultsAfterLastPage() throws Exception {
+        //given
+        ApiClient apiClient = mockItemQuery(15);
+        ReflectionTestUtils.setField(contentProvider, "pageCache", mapBackedPageCache(new HashMap<>()));
+
+        //when
+        TestList list = populate(30);
+
+        //then
+        assertNull(list.getQueryResults());
+        verify(apiClient, times(2)).executeItemQuery(any(), any(), any(), any(), any(), anyBoolean(), any());
+    }
+
+    private ApiClient mockItemQuery(int total) throws Exception {
+        ApiClient apiClient = mock(ApiClient.class);
+        when(apiClientProvider.getClient()).thenReturn(apiClient);
+        when(apiClient.executeItemQuery(any(), any(), any(), any(), any(), anyBoolean(), any())).then(invocation -> {
+            Pagination pagination = invocation.getArgument(2);
+            int from = pagination.getAfter() == null ? 0 : Integer.parseInt(pagination.getAfter().substring(1));
+            List<ItemEdge> edges = new ArrayList<>();
+            for (int i = from; i < Math.min(total, from + pagination.getFirst()); i++) {
+                Component component = new Component();
+                component.setItemId(i);
+                CustomMetaConnection customMetas = new CustomMetaConnection();
+                customMetas.setEdges(Collections.emptyList());
+                component.setCustomMetas(customMetas);
+                ItemEdge edge = new ItemEdge();
+                edge.setNode(component);
+                edge.setCursor("c" + (i + 1));
+                edges.add(edge);
+            }
+            ItemConnection connection = new ItemConnection();
+            connection.setEdges(edges);
+            return connection;
+        });
+        when(builderPipeline.createEntityModels(anyList(), eq(Configuration.class))).thenCallRealMethod();
+        when(builderPipeline.createEntityModel(any(EntityModelData.class), eq(Configuration.class))).then(invocation -> {
+            Configuration configuration = new Configuration();
+            configuration.setId(((EntityModelData) invocation.getArgument(0)).getId());
+            return configuration;
+        });
+        when(localization.getId()).thenReturn("5");
+        return apiClient;
+    }
+
+    private DynamicListPageCache mapBackedPageCache(Map<Object, DynamicListPageCache.Page> cached) {
+        return new DynamicListPageCache() {
+            @Override
+            public boolean isCachingEnabled() {
+                return true;
+            }
+
+            @Override
+            public Page get(Object key) {
+                return cached.get(key);
+            }
+
+            @Override
+            public Page addAndGet(Object key, Page value) {
+                cached.put(key, value);
+                return value;
+            }
+        };
+    }
+
+    private TestList populate(int start) throws Exception {
+        TestList list = new TestList();
+        list.query.setStartAt(start);
+        contentProvider.populateDynamicList(list, localization);
+        return list;
+    }
+
+    private static List<String> ids(TestList list) {
+        return list.getQueryResults().stream().map(Configuration::getId).collect(Collectors.toList());
+    }
+
+    private static class TestList extends DynamicList<Configuration, SimpleBrokerQuery> {
+
+        private final SimpleBrokerQuery query = new SimpleBrokerQuery();
+
+        private List<Configuration> results;
+
+        private boolean hasMore;
+
+        TestList() {
+            query.setPublicationId(5);
+            query.setPageSize(10);
+        }
+
+        @Override
+        public SimpleBrokerQuery getQuery(Localization localization) {
+            return query;
+        }
+
+        @Override
+        public List<Configuration> getQueryResults() {
+            return results;
+        }
+
+        @Override
+        public void setQueryResults(List<Configuration> queryResults, boolean hasMore) {
+            this.results = queryResults;
+            this.hasMore = hasMore;
+        }
+
+        @Override
+        public void setQueryResults(List<Configuration> queryResults) {
+            this.results = queryResults;
+        }
+
+        @Override
+        public Class<Configuration> getEntityType() {
+            return Configuration.class;
+        }
+
+        boolean isHasMore() {
+            return hasMore;
+        }
+    }
+}
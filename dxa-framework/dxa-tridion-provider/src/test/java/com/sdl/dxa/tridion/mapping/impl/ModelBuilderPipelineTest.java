@@ -24,6 +24,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
@@ -125,6 +126,24 @@ public class ModelBuilderPipelineTest {
         assertSame(secondEntityModel, entityModel);
     }
 
+    @Test
+    public void shouldIterate_AllEntityModelBuilders_ForBatch() throws DxaException {
+        //given
+        List<EntityModelData> modelData = Collections.singletonList(entityModelData);
+        List<EntityModel> firstEntityModels = Collections.singletonList(firstEntityModel);
+        List<EntityModel> secondEntityModels = Collections.singletonList(secondEntityModel);
+        when(firstEntityModelBuilder.buildEntityModels(isNull(List.class), same(modelData), same(EntityModel.class)))
+                .thenReturn(firstEntityModels);
+        when(secondEntityModelBuilder.buildEntityModels(same(firstEntityModels), same(modelData), same(EntityModel.class)))
+                .thenReturn(secondEntityModels);
+
+        //when
+        List<EntityModel> entityModels = pipeline.createEntityModels(modelData, EntityModel.class);
+
+        //then
+        assertSame(secondEntityModels, entityModels);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldNotFail_IfListsOfBuildersNotSet() throws DxaException {
         //given 
@@ -0,0 +1,147 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.ModelBuildingContext;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class ModelBuildingPoolTest {
+
+    private ModelBuildingPool pool = new ModelBuildingPool();
+
+    private RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(pool, "enabled", true);
+        ReflectionTestUtils.setField(pool, "threads", 4);
+        pool.init();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    @After
+    public void shutdown() {
+        pool.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void shouldKeepOrderOfItems() throws Exception {
+        //given
+        List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+        //when
+        List<String> results = pool.map(items, item -> {
+            TimeUnit.MICROSECONDS.sleep(ThreadLocalRandom.current().nextInt(500));
+            return "item" + item;
+        });
+
+        //then
+        assertEquals(items.stream().map(item -> "item" + item).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void shouldNotBindRequestAttributesOnWorkers() {
+        //given
+        String requestThread = Thread.currentThread().getName();
+
+        //when
+        List<Boolean> bound = pool.map(Arrays.asList(1, 2, 3, 4), item -> {
+            assertNotEquals(requestThread, Thread.currentThread().getName());
+            return RequestContextHolder.getRequestAttributes() != null;
+        });
+
+        //then
+        assertEquals(Arrays.asList(false, false, false, false), bound);
+    }
+
+    @Test
+    public void shouldPassContextOfRequestThreadToTasks() {
+        //given
+        Localization localization = mock(Localization.class);
+        WebRequestContext webRequestContext = mock(WebRequestContext.class);
+        ModelBuildingContext context = new ModelBuildingContext(localization, "42", true);
+
+        //when
+        List<Localization> localizations = pool.map(Arrays.asList(1, 2, 3, 4), context,
+                item -> pool.map(Arrays.asList(item, item * 10), nested -> ModelBuildingContext.localizationOf(webRequestContext)).get(1));
+        List<String> pageContextIds = pool.map(Arrays.asList(1, 2), context, item -> ModelBuildingContext.pageContextIdOf(webRequestContext));
+        List<Boolean> previews = pool.map(Arrays.asList(1, 2), context, item -> ModelBuildingContext.current().isSessionPreview());
+
+        //then
+        localizations.forEach(bound -> assertSame(localization, bound));
+        assertEquals(Arrays.asList("42", "42"), pageContextIds);
+        assertEquals(Arrays.asList(true, true), previews);
+        assertNull(ModelBuildingContext.current());
+        verifyZeroInteractions(webRequestContext);
+    }
+
+    @Test
+    public void shouldBuildNestedItemsInSamePool() throws Exception {
+        //when
+        List<List<Integer>> results = pool.map(Arrays.asList(1, 2, 3), item -> pool.map(Arrays.asList(item, item * 10),
+                nested -> {
+                    assertTrue(Thread.currentThread().getName().startsWith("dxa-model-builder-"));
+                    return nested;
+                }));
+
+        //then
+        assertEquals(Arrays.asList(Arrays.asList(1, 10), Arrays.asList(2, 20), Arrays.asList(3, 30)), results);
+    }
+
+    @Test
+    public void shouldThrowExceptionOfFirstFailedItem() {
+        //when
+        try {
+            pool.map(Arrays.asList(1, 2, 3, 4), item -> {
+                if (item > 2) {
+                    throw new SemanticMappingException("failed " + item);
+                }
+                return item;
+            });
+        } catch (SemanticMappingException e) {
+            //then
+            assertEquals("failed 3", e.getMessage());
+            return;
+        }
+        throw new AssertionError("Exception expected");
+    }
+
+    @Test
+    public void shouldRunOnCallingThreadIfDisabled() {
+        //given
+        ModelBuildingPool disabled = new ModelBuildingPool();
+        disabled.init();
+        Thread requestThread = Thread.currentThread();
+
+        //when
+        List<Thread> threads = disabled.map(Arrays.asList(1, 2), item -> Thread.currentThread());
+
+        //then
+        assertEquals(Arrays.asList(requestThread, requestThread), threads);
+        assertSame(requestAttributes, RequestContextHolder.getRequestAttributes());
+    }
+}
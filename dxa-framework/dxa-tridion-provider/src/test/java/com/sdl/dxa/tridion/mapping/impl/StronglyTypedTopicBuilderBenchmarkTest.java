@@ -0,0 +1,133 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.DxaSpringInitialization;
+import com.sdl.dxa.tridion.models.topic.SpecializedTopicTest;
+import com.sdl.dxa.tridion.models.topic.StronglyTypedTopicTest;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.entity.GenericTopic;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Builds a corpus of generated large topics with both engines of {@link StronglyTypedTopicBuilder},
+ * checks that the results are the same and compares the time. The time comparison is only run on demand.
+ */
+@Slf4j
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = {DefaultModelBuilderTest.SpringConfigurationContext.class, StronglyTypedTopicBuilderTest.SpringConfigurationContext.class})
+@ActiveProfiles("test")
+public class StronglyTypedTopicBuilderBenchmarkTest {
+
+    private static final int TOPICS = 20;
+
+    private static final int SECTIONS_PER_TOPIC = 60;
+
+    private final ObjectMapper objectMapper = new DxaSpringInitialization().objectMapper();
+
+    @Autowired
+    private StronglyTypedTopicBuilder builder;
+
+    private static List<GenericTopic> generateCorpus(boolean specialized) {
+        List<GenericTopic> topics = new ArrayList<>(TOPICS);
+        for (int t = 0; t < TOPICS; t++) {
+            StringBuilder body = new StringBuilder("<h1 class=\"title \">Topic ").append(t).append(" &amp; more</h1>");
+            body.append(specialized ? "<div class=\"body lcBaseBody lcOverviewBody \" id=\"b" + t + "\">" : "<div class=\"body \">");
+            for (int s = 0; s < SECTIONS_PER_TOPIC; s++) {
+                String sectionClass = specialized ? (s % 2 == 0 ? "section lcIntro " : "section lcObjectives ") : "section ";
+                body.append("<div class=\"").append(sectionClass).append("\" id=\"s").append(s).append("\">")
+                        .append("<h2 class=\"sectiontitle \">Section ").append(s).append("</h2>")
+                        .append("<p class=\"p \">Paragraph with <b>bold</b>, <i>italic</i> &lt;escaped&gt; text and an ")
+                        .append("<a class=\"xref \" href=\"/topic").append(s).append(".html\" title=\"Topic ").append(s).append("\">inline link</a>.</p>")
+                        .append("<ul class=\"ul \"><li class=\"li \">First item</li><li class=\"li \">Second item<br/></li></ul>")
+                        .append("<!-- comment ").append(s).append(" -->")
+                        .append("</div>");
+            }
+            body.append("</div><div class=\"related-links \">");
+            for (int l = 0; l < 10; l++) {
+                body.append("<div class=\"").append(l % 3 == 0 ? "parentlink " : "childlink ").append("\"><strong>")
+                        .append("<a class=\"link \" href=\"/link").append(l).append(".html\">Link ").append(l).append("</a></strong></div>");
+            }
+            body.append("</div>");
+            GenericTopic topic = new GenericTopic("Generated topic " + t, body.toString());
+            topic.setId("topic-" + t);
+            topics.add(topic);
+        }
+        return topics;
+    }
+
+    @After
+    public void disableStreaming() {
+        ReflectionTestUtils.setField(builder, "streamingEnabled", false);
+    }
+
+    private List<String> convert(List<GenericTopic> corpus, boolean streaming, Class<? extends EntityModel> ofType) throws Exception {
+        ReflectionTestUtils.setField(builder, "streamingEnabled", streaming);
+        List<String> results = new ArrayList<>(corpus.size());
+        for (GenericTopic topic : corpus) {
+            EntityModel result = builder.tryConvertToStronglyTypedTopic(topic, ofType);
+            assertNotNull(result);
+            results.add(objectMapper.writeValueAsString(result));
+        }
+        return results;
+    }
+
+    private long measure(List<GenericTopic> corpus, boolean streaming, int iterations) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            convert(corpus, streaming, null);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void shouldBuildSameTopicsWithBothEngines() throws Exception {
+        //given
+        List<GenericTopic> corpus = generateCorpus(false);
+        List<GenericTopic> specializedCorpus = generateCorpus(true);
+
+        //when
+        List<String> dom = convert(corpus, false, null);
+        List<String> streaming = convert(corpus, true, null);
+        List<String> domSpecialized = convert(specializedCorpus, false, SpecializedTopicTest.class);
+        List<String> streamingSpecialized = convert(specializedCorpus, true, SpecializedTopicTest.class);
+
+        //then
+        assertEquals(dom, streaming);
+        assertEquals(domSpecialized, streamingSpecialized);
+        assertTrue(streaming.get(0).contains(StronglyTypedTopicTest.class.getSimpleName()));
+    }
+
+    @Test
+    @Ignore("benchmark, timing depends on the build machine")
+    public void shouldBuildTopicsFasterThanDomEngine() throws Exception {
+        //given
+        List<GenericTopic> corpus = generateCorpus(false);
+        measure(corpus, true, 5);
+        measure(corpus, false, 5);
+
+        //when
+        long streaming = measure(corpus, true, 10);
+        long dom = measure(corpus, false, 10);
+        log.info("Building {} topics: StAX {} ms, DOM {} ms", TOPICS * 10, streaming / 1_000_000, dom / 1_000_000);
+
+        //then
+        assertTrue("StAX engine should be faster than DOM engine, but took " + streaming + " ns vs " + dom + " ns",
+                streaming < dom);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Runs all the cases of {@link StronglyTypedTopicBuilderTest} with the StAX-based engine.
+ */
+public class StronglyTypedTopicBuilderStreamingTest extends StronglyTypedTopicBuilderTest {
+
+    @Autowired
+    private StronglyTypedTopicBuilder builder;
+
+    @Before
+    public void enableStreaming() {
+        ReflectionTestUtils.setField(builder, "streamingEnabled", true);
+    }
+
+    @After
+    public void disableStreaming() {
+        ReflectionTestUtils.setField(builder, "streamingEnabled", false);
+    }
+}
@@ -286,8 +286,8 @@ public class StronglyTypedTopicBuilderTest {
     public static class SpringConfigurationContext {
 
         @Bean
-        public StronglyTypedTopicBuilder stronglyTypedTopicBuilder() throws XPathExpressionException {
-            StronglyTypedTopicBuilder result = new StronglyTypedTopicBuilder();
+        public StronglyTypedTopicBuilder stronglyTypedTopicBuilder(SemanticMappingRegistry semanticMappingRegistry) throws XPathExpressionException {
+            StronglyTypedTopicBuilder result = new StronglyTypedTopicBuilder(semanticMappingRegistry);
             return result;
         }
 
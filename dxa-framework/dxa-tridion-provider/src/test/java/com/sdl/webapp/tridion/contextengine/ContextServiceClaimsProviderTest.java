@@ -1,6 +1,9 @@
 package com.sdl.webapp.tridion.contextengine;
 
+import com.sdl.context.api.Aspect;
+import com.sdl.context.api.ContextMap;
 import com.sdl.context.api.exception.ResolverException;
+import com.sdl.context.api.resolution.Evidence;
 import com.sdl.context.odata.client.api.ODataContextEngine;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
@@ -16,13 +19,21 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
 import java.util.Map;
 
 import static org.apache.commons.collections4.MapUtils.isEmpty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +52,9 @@ public class ContextServiceClaimsProviderTest {
     @Mock
     private Localization localization;
 
+    @Mock
+    private ContextClaimsCache contextClaimsCache;
+
     @InjectMocks
     private ContextServiceClaimsProvider contextServiceClaimsProvider;
 
@@ -91,4 +105,49 @@ public class ContextServiceClaimsProviderTest {
         //then
         verify(oDataContextEngine).resolve(argThat(argument -> argument.get("publication-id") == null));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnCachedClaimsWithoutContextService() throws DxaException, ResolverException {
+        //given
+        Map<String, Object> cached = Collections.singletonMap("device.mobile", true);
+        when(contextClaimsCache.getSpecificKey("UA", null, null, null)).thenReturn("key");
+        when(contextClaimsCache.get("key")).thenReturn(cached);
+        when(httpServletRequest.getHeader("user-agent")).thenReturn("UA");
+
+        //when
+        Map<String, Object> contextClaims = contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        assertSame(cached, contextClaims);
+        verify(oDataContextEngine, never()).resolve(any(Evidence.class));
+    }
+
+    @Test
+    public void shouldCacheFlattenedClaims() throws DxaException, ResolverException {
+        //given
+        Aspect aspect = mock(Aspect.class);
+        when(aspect.keySet()).thenReturn(Collections.singleton("mobile"));
+        when(aspect.get("mobile")).thenReturn(true);
+        ContextMap contextMap = mock(ContextMap.class);
+        when(contextMap.get("device")).thenReturn(aspect);
+        when(oDataContextEngine.resolve(any(Evidence.class))).thenReturn(contextMap);
+        when(httpServletRequest.getHeader("user-agent")).thenReturn("UA");
+        when(httpServletRequest.getCookies()).thenReturn(new Cookie[]{new Cookie("context", "abc")});
+        when(contextClaimsCache.getSpecificKey("UA", "abc", null, "device")).thenReturn("key");
+
+        //when
+        Map<String, Object> contextClaims = contextServiceClaimsProvider.getContextClaims("device");
+
+        //then
+        assertEquals(true, contextClaims.get("device.mobile"));
+        verify(contextClaimsCache).addAndGet("key", contextClaims);
+    }
+
+    @Test
+    public void shouldNormalizeUserAgentInCacheKey() {
+        ContextClaimsCache cache = new ContextClaimsCache();
+
+        assertEquals(cache.getSpecificKey("UA", "abc", 1, null), cache.getSpecificKey(" UA ", "abc", 1, null));
+        assertNotEquals(cache.getSpecificKey("UA", "abc", 1, null), cache.getSpecificKey("UA", "abc", 2, null));
+    }
+}
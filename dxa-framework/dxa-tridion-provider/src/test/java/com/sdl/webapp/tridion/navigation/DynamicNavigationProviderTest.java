@@ -6,6 +6,7 @@ import com.sdl.dxa.common.dto.DepthCounter;
 import com.sdl.dxa.common.dto.SitemapRequestDto;
 import com.sdl.dxa.tridion.navigation.dynamic.NavigationModelProvider;
 import com.sdl.dxa.tridion.navigation.dynamic.OnDemandNavigationModelProvider;
+import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.entity.NavigationLinks;
@@ -34,12 +35,15 @@ import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,6 +65,12 @@ public class DynamicNavigationProviderTest {
     @Mock
     private LinkResolver linkResolver;
 
+    @Mock
+    private NavigationIndexCache navigationIndexCache;
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
     @InjectMocks
     private DynamicNavigationProvider dynamicNavigationProvider;
 
@@ -201,6 +211,84 @@ public class DynamicNavigationProviderTest {
         // todo assert some magic about home paths
     }
 
+    @Test
+    public void shouldNotModifyNavigationModel_WhenLookingUpUrls() throws NavigationProviderException {
+        //given
+        when(navigationModelProvider.getNavigationModel(argThat(getDefaultMatcher()))).thenReturn(Optional.of(navigationModel));
+
+        //when
+        NavigationLinks context = dynamicNavigationProvider.getContextNavigationLinks("/t1p21", localization);
+        NavigationLinks breadcrumbs = dynamicNavigationProvider.getBreadcrumbNavigationLinks("/t1p21", localization);
+
+        //then
+        assertEquals(2, context.getItems().size());
+        assertEquals(2, breadcrumbs.getItems().size());
+        assertFalse(navigationModel.isParentsSet());
+    }
+
+    @Test
+    public void shouldTakeIndexedNavigationModel_FromCache() throws NavigationProviderException {
+        //given
+        when(navigationIndexCache.getSpecificKey(localization)).thenReturn("key");
+        when(navigationIndexCache.get("key")).thenReturn(new TaxonomyUrlIndex(navigationModel));
+
+        //when
+        NavigationLinks context = dynamicNavigationProvider.getContextNavigationLinks("/t1p22", localization);
+        NavigationLinks breadcrumbs = dynamicNavigationProvider.getBreadcrumbNavigationLinks("/t1p24", localization);
+        NavigationLinks top = dynamicNavigationProvider.getTopNavigationLinks("/", localization);
+
+        //then
+        assertEquals(2, context.getItems().size());
+        assertEquals(2, breadcrumbs.getItems().size());
+        assertEquals(4, top.getItems().size());
+        verify(navigationModelProvider, never()).getNavigationModel(any());
+    }
+
+    @Test
+    public void shouldCacheIndexedNavigationModel_WhenLoaded() throws NavigationProviderException {
+        //given
+        when(navigationIndexCache.getSpecificKey(localization)).thenReturn("key");
+        when(navigationModelProvider.getNavigationModel(argThat(getDefaultMatcher()))).thenReturn(Optional.of(navigationModel));
+
+        //when
+        dynamicNavigationProvider.getContextNavigationLinks("/t1p22", localization);
+
+        //then
+        verify(navigationIndexCache).addAndGet(eq("key"), argThat(index -> index.getRoot() == navigationModel));
+    }
+
+    @Test
+    public void shouldNotUseCache_InPreview() throws NavigationProviderException {
+        //given
+        when(webRequestContext.isSessionPreview()).thenReturn(true);
+        when(navigationModelProvider.getNavigationModel(argThat(getDefaultMatcher()))).thenReturn(Optional.of(navigationModel));
+
+        //when
+        NavigationLinks context = dynamicNavigationProvider.getContextNavigationLinks("/t1p22", localization);
+
+        //then
+        assertEquals(2, context.getItems().size());
+        verify(navigationIndexCache, never()).get(any());
+        verify(navigationIndexCache, never()).addAndGet(any(Object.class), any());
+    }
+
+    @Test
+    public void shouldNotHandOutCachedNavigationModel() throws NavigationProviderException {
+        //given
+        when(navigationIndexCache.getSpecificKey(localization)).thenReturn("key");
+        when(navigationIndexCache.get("key")).thenReturn(new TaxonomyUrlIndex(navigationModel));
+
+        //when
+        SitemapItem first = dynamicNavigationProvider.getNavigationModel(localization);
+        first.getItems().clear();
+        SitemapItem second = dynamicNavigationProvider.getNavigationModel(localization);
+
+        //then
+        assertNotSame(first, second);
+        assertEquals(7, second.getItems().size());
+        assertEquals(7, navigationModel.getItems().size());
+    }
+
     //todo test current context when keywords have index pages
 
 
@@ -0,0 +1,62 @@
+package com.sdl.webapp.tridion.navigation;
+
+import com.sdl.dxa.api.datamodel.model.SitemapItemModelData;
+import com.sdl.dxa.api.datamodel.model.TaxonomyNodeModelData;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TaxonomyUrlIndexTest {
+
+    private final SitemapItemModelData page = new SitemapItemModelData().setId("p1").setUrl("/k1/page").setTitle("1 page");
+
+    private final SitemapItemModelData duplicate = new SitemapItemModelData().setId("p2").setUrl("/k1/page").setTitle("2 page");
+
+    private final TaxonomyNodeModelData keyword = (TaxonomyNodeModelData) new TaxonomyNodeModelData().setId("k1").setUrl("/k1").setTitle("1 k1")
+            .addItem(page);
+
+    private final TaxonomyNodeModelData root = (TaxonomyNodeModelData) new TaxonomyNodeModelData().setId("t1").setTitle("root")
+            .addItem(keyword)
+            .addItem(duplicate)
+            .addItem(new SitemapItemModelData().setId("p3").setUrl("/a.c").setTitle("3 page"));
+
+    private final TaxonomyUrlIndex index = new TaxonomyUrlIndex(root);
+
+    @Test
+    public void shouldFindItemWithOrWithoutTrailingSlash() {
+        assertSame(keyword, index.find("/k1").getItem());
+        assertSame(keyword, index.find("/k1/").getItem());
+        assertNull(index.find("/k2"));
+    }
+
+    @Test
+    public void shouldFindFirstItemInPreOrder_LikeFindWithUrl() {
+        assertSame(root.findWithUrl("/k1/page"), index.find("/k1/page").getItem());
+        assertSame(page, index.find("/k1/page").getItem());
+    }
+
+    @Test
+    public void shouldMatchUrlsLiterally() {
+        assertNull(index.find("/abc"));
+        assertEquals("p3", index.find("/a.c").getItem().getId());
+    }
+
+    @Test
+    public void shouldKnowParentsAndPaths() {
+        //when
+        TaxonomyUrlIndex.Node node = index.find("/k1/page");
+        TaxonomyUrlIndex.Node rootNode = new TaxonomyUrlIndex(root.setUrl("/")).find("/");
+
+        //then
+        assertSame(keyword, node.getParent());
+        assertEquals(Arrays.asList(keyword, page), node.getPath());
+        assertNull(rootNode.getParent());
+        assertTrue(rootNode.getPath().isEmpty());
+        assertSame(root, index.getRoot());
+    }
+}
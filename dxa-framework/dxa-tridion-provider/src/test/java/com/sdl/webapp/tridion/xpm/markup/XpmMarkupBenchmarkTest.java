@@ -0,0 +1,167 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.RegionModel;
+import com.sdl.webapp.common.api.xpm.XpmRegion;
+import com.sdl.webapp.common.api.xpm.XpmRegionConfig;
+import com.sdl.webapp.common.markup.html.HtmlNode;
+import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Element;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Editor-mode benchmark: decorates a large page with nested regions and entities and compares the single-pass
+ * injection with parsing each fragment into a DOM.
+ */
+@Slf4j
+@RunWith(MockitoJUnitRunner.class)
+public class XpmMarkupBenchmarkTest {
+
+    private static final int REGIONS = 10;
+
+    private static final int ENTITIES_PER_REGION = 40;
+
+    private static final int FIELDS_PER_ENTITY = 5;
+
+    private static final String ENTITY_MARKUP = "<!-- Start Component Presentation: {\"ComponentID\":\"tcm:1-2\"} -->";
+
+    private static final String REGION_MARKUP = "<!-- Start Region: {title:\"Main\"} -->";
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
+    @Mock
+    private EntityModel entity;
+
+    @Mock
+    private RegionModel region;
+
+    @Mock
+    private XpmRegionConfig xpmRegionConfig;
+
+    @Mock
+    private XpmRegion xpmRegion;
+
+    private EntityXpmMarkup entityXpmMarkup = new EntityXpmMarkup();
+
+    private RegionXpmMarkup regionXpmMarkup;
+
+    @Before
+    public void init() {
+        when(webRequestContext.isSessionPreview()).thenReturn(true);
+        when(entity.getXpmMarkup(any())).thenReturn("Start Component Presentation: {\"ComponentID\":\"tcm:1-2\"}");
+        when(region.getName()).thenReturn("Main");
+        when(region.getXpmMarkup(any())).thenReturn("Start Region: {title:\"Main\"}");
+        when(xpmRegionConfig.getXpmRegion(anyString(), any())).thenReturn(xpmRegion);
+        regionXpmMarkup = new RegionXpmMarkup(xpmRegionConfig);
+    }
+
+    private static String renderEntity(int index) {
+        StringBuilder html = new StringBuilder("<article class=\"teaser\" id=\"e").append(index).append("\">\n");
+        for (int i = 0; i < FIELDS_PER_ENTITY; i++) {
+            html.append("  <div class=\"field\" data-entity-property-xpath=\"tcm:Content/custom:Article/custom:field")
+                    .append(i).append("\"><span>Some text of field ").append(i).append(" &amp; more</span></div>\n");
+        }
+        return html.append("</article>\n").toString();
+    }
+
+    private static HtmlNode domDecorateEntity(String html, String xpmMarkup) {
+        ParsableHtmlNode markup = new ParsableHtmlNode(html);
+        Element element = markup.getHtmlElement();
+        element.prepend(xpmMarkup);
+        for (Element property : element.select("[data-entity-property-xpath]")) {
+            EntityXpmMarkup.processProperty(property);
+        }
+        return markup;
+    }
+
+    private static HtmlNode domDecorateRegion(String html, String xpmMarkup) {
+        ParsableHtmlNode markup = new ParsableHtmlNode(html);
+        markup.getHtmlElement().prepend(xpmMarkup);
+        return markup;
+    }
+
+    private static String renderPage(boolean singlePass) {
+        StringBuilder page = new StringBuilder("<main>");
+        for (int r = 0; r < REGIONS; r++) {
+            StringBuilder regionHtml = new StringBuilder("<div class=\"region\">\n");
+            for (int e = 0; e < ENTITIES_PER_REGION; e++) {
+                String entityHtml = renderEntity(e);
+                regionHtml.append(singlePass ?
+                        XpmMarkupInjection.injectEntityMarkup(entityHtml, ENTITY_MARKUP) :
+                        domDecorateEntity(entityHtml, ENTITY_MARKUP).toHtml());
+            }
+            regionHtml.append("</div>");
+            page.append(singlePass ?
+                    XpmMarkupInjection.injectRegionMarkup(regionHtml.toString(), REGION_MARKUP) :
+                    domDecorateRegion(regionHtml.toString(), REGION_MARKUP).toHtml());
+        }
+        return page.append("</main>").toString();
+    }
+
+    private static long measure(boolean singlePass, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            renderPage(singlePass);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void shouldDecorateThroughDecorators() {
+        //given
+        String entityHtml = renderEntity(1);
+        String regionHtml = "<div class=\"region\">\n" + XpmMarkupInjection.injectEntityMarkup(entityHtml, ENTITY_MARKUP) + "</div>";
+
+        //when
+        HtmlNode decoratedEntity = entityXpmMarkup.process(new ParsableHtmlNode(entityHtml), entity, webRequestContext);
+        HtmlNode decoratedRegion = regionXpmMarkup.process(new ParsableHtmlNode(regionHtml), region, webRequestContext);
+
+        //then
+        assertEquals(XpmMarkupInjection.injectEntityMarkup(entityHtml, ENTITY_MARKUP), decoratedEntity.toHtml());
+        assertEquals(XpmMarkupInjection.injectRegionMarkup(regionHtml, REGION_MARKUP), decoratedRegion.toHtml());
+    }
+
+    @Test
+    public void shouldDecoratePageInSinglePass() {
+        //when
+        String page = renderPage(true);
+
+        //then
+        assertFalse(page.contains("data-entity-property-xpath"));
+        assertTrue(page.contains("<div class=\"region\"><!-- Start Region: {title:\"Main\"} -->"));
+        assertEquals(REGIONS * ENTITIES_PER_REGION * FIELDS_PER_ENTITY, page.split("Start Component Field").length - 1);
+    }
+
+    @Test
+    @Ignore("benchmark, timing depends on the build machine")
+    public void shouldDecoratePageFasterThanDomParsing() {
+        //given
+        measure(true, 5);
+        measure(false, 5);
+
+        //when
+        long singlePass = measure(true, 20);
+        long dom = measure(false, 20);
+        log.info("XPM decoration of {} entities: single pass {} ms, DOM {} ms",
+                REGIONS * ENTITIES_PER_REGION, singlePass / 1_000_000, dom / 1_000_000);
+
+        //then
+        assertTrue("Single pass should be faster than parsing fragments, but took " + singlePass + " ns vs " + dom + " ns",
+                singlePass < dom);
+    }
+}
@@ -0,0 +1,82 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class XpmMarkupInjectionTest {
+
+    private static final String ENTITY = "<!-- Start Component Presentation: {} -->";
+
+    private static final String REGION = "<!-- Start Region: {} -->";
+
+    @Test
+    public void shouldInjectEntityMarkupIntoRootElement() {
+        //given
+        String html = "\n<div class=\"entity\"><h1>Title</h1></div>\n";
+
+        //when
+        String result = XpmMarkupInjection.injectEntityMarkup(html, ENTITY);
+
+        //then
+        assertEquals("\n<div class=\"entity\">" + ENTITY + "<h1>Title</h1></div>\n", result);
+    }
+
+    @Test
+    public void shouldInjectFieldMarkupAndRemoveAttribute() {
+        //given
+        String html = "<article>" +
+                "<h1 class=\"title\" data-entity-property-xpath=\"tcm:Content/custom:Article/custom:headline\">Title</h1>" +
+                "<img data-entity-property-xpath='tcm:Content/custom:Article/custom:image' src=\"a.png\">" +
+                "<p data-entity-property-xpath=\"x\"></p>" +
+                "<div data-entity-property-xpath=\"y\"> <!-- Start Component Field: {\"XPath\":\"y\"} -->text</div>" +
+                "</article>";
+
+        //when
+        String result = XpmMarkupInjection.injectEntityMarkup(html, ENTITY);
+
+        //then
+        assertEquals("<article>" + ENTITY +
+                "<h1 class=\"title\"><!-- Start Component Field: {\"XPath\":\"tcm:Content/custom:Article/custom:headline\"} -->Title</h1>" +
+                "<!-- Start Component Field: {\"XPath\":\"tcm:Content/custom:Article/custom:image\"} --><img src=\"a.png\">" +
+                "<!-- Start Component Field: {\"XPath\":\"x\"} --><p></p>" +
+                "<div> <!-- Start Component Field: {\"XPath\":\"y\"} -->text</div>" +
+                "</article>", result);
+    }
+
+    @Test
+    public void shouldNotLookForTagsInScriptsAndAttributes() {
+        //given
+        String html = "<div title=\"a > b\"><script>if (a<b) { x = '<p data-entity-property-xpath=\"z\">'; }</script></div>";
+
+        //when
+        String result = XpmMarkupInjection.injectEntityMarkup(html, ENTITY);
+
+        //then
+        assertEquals("<div title=\"a > b\">" + ENTITY + "<script>if (a<b) { x = '<p data-entity-property-xpath=\"z\">'; }</script></div>", result);
+    }
+
+    @Test
+    public void shouldPrependEntityMarkupToSeveralTopLevelElements() {
+        assertEquals(ENTITY + "<p>a</p><p>b</p>", XpmMarkupInjection.injectEntityMarkup("<p>a</p><p>b</p>", ENTITY));
+        assertEquals(ENTITY + "text", XpmMarkupInjection.injectEntityMarkup("text", ENTITY));
+        assertNull(XpmMarkupInjection.injectEntityMarkup("<!DOCTYPE html><html></html>", ENTITY));
+    }
+
+    @Test
+    public void shouldInjectRegionMarkupUnlessRegionStartsWithEntity() {
+        //given
+        String region = "<div class=\"region\">\n<div>" + ENTITY + "</div></div>";
+        String entityOnly = "<div class=\"entity\">\n" + ENTITY + "<p>text</p></div>";
+
+        //when
+        String injected = XpmMarkupInjection.injectRegionMarkup(region, REGION);
+        String skipped = XpmMarkupInjection.injectRegionMarkup(entityOnly, REGION);
+
+        //then
+        assertEquals("<div class=\"region\">" + REGION + "\n<div>" + ENTITY + "</div></div>", injected);
+        assertNull(skipped);
+        assertEquals(REGION + "<div></div><div></div>", XpmMarkupInjection.injectRegionMarkup("<div></div><div></div>", REGION));
+    }
+}
@@ -3,12 +3,13 @@ package com.sdl.dxa.tridion.modelservice;
 import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceBadRequestException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceInternalServerErrorException;
-import com.sdl.web.client.impl.OAuthTokenProvider;
 import com.tridion.ambientdata.AmbientDataContext;
 import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebClaims;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -19,12 +20,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.cache.annotation.CacheResult;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -43,27 +51,79 @@ public class ModelServiceClient {
 
     @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
     @Autowired(required = false)
-    private RestTemplate restTemplate = new RestTemplate();
+    private RestTemplate restTemplate;
+
+    @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
+    @Autowired(required = false)
+    private ModelServiceRequestFactory requestFactory;
+
+    @Value("${dxa.model.service.http.async.threads:0}")
+    private int asyncThreads;
+
+    private volatile ExecutorService asyncExecutor;
 
     @Autowired
     public ModelServiceClient(ModelServiceClientConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    @PostConstruct
+    public void init() {
+        if (restTemplate == null) {
+            restTemplate = requestFactory != null ? new RestTemplate(requestFactory) : new RestTemplate();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+        }
+    }
+
     @CacheResult(cacheName = "model-service",
                  exceptionCacheName = "failures", cachedExceptions = {ItemNotFoundInModelServiceException.class})
     public <T> T getForType(String serviceUrl, Class<T> type, Object... params) throws ItemNotFoundInModelServiceException {
-        return makeRequest(serviceUrl, type, false, params);
+        return makeRequest(serviceUrl, type, createHeaders(), false, params);
     }
 
-    private <T> T makeRequest(String serviceUrl, Class<T> type, boolean isRetry, Object... params) throws ItemNotFoundInModelServiceException {
+    /**
+     * Requests the Model Service asynchronously. Headers which depend on the current request (preview token, cookies)
+     * are resolved on the calling thread, the request itself is sent from a separate thread pool.
+     * <p>Unlike {@link #getForType(String, Class, Object...)}, results are not cached.</p>
+     *
+     * @param serviceUrl URL template of the Model Service endpoint
+     * @param type       expected type of the response
+     * @param params     URL template parameters
+     * @param <T>        expected type of the response
+     * @return future of the response, completed exceptionally with {@link ItemNotFoundInModelServiceException}
+     * if the item is not found or any other exception {@link #getForType(String, Class, Object...)} throws
+     */
+    public <T> CompletableFuture<T> getForTypeAsync(String serviceUrl, Class<T> type, Object... params) {
+        HttpHeaders headers = createHeaders();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return makeRequest(serviceUrl, type, headers, false, params);
+            } catch (ItemNotFoundInModelServiceException e) {
+                throw new CompletionException(e);
+            }
+        }, getAsyncExecutor());
+    }
+
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        processModuleSpecificCookies(headers);
+        processPreviewToken(headers);
+        return headers;
+    }
+
+    private <T> T makeRequest(String serviceUrl, Class<T> type, HttpHeaders headers, boolean isRetry, Object... params) throws ItemNotFoundInModelServiceException {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.putAll(headers);
+        String accessToken = processAccessToken(requestHeaders, isRetry);
         try {
-            HttpHeaders headers = new HttpHeaders();
-            processModuleSpecificCookies(headers);
-            processPreviewToken(headers);
-            processAccessToken(headers, isRetry);
             log.debug("Sending GET request to " + serviceUrl + " with parameters: " + Arrays.toString(params));
-            ResponseEntity<T> response = restTemplate.exchange(serviceUrl, HttpMethod.GET, new HttpEntity<>(null, headers), type, params);
+            ResponseEntity<T> response = restTemplate.exchange(serviceUrl, HttpMethod.GET, new HttpEntity<>(null, requestHeaders), type, params);
             return response.getBody();
         } catch (HttpStatusCodeException e) {
             HttpStatus statusCode = e.getStatusCode();
@@ -73,8 +133,12 @@ public class ModelServiceClient {
                     log.info(message, e);
                     throw new ItemNotFoundInModelServiceException(message, e);
                 } else if (statusCode == HttpStatus.UNAUTHORIZED && !isRetry) {
-                    log.warn("Got 401 status code, reason: {}, check if token is expired and retry if so ", statusCode.getReasonPhrase(), e);
-                    return makeRequest(serviceUrl, type, true, params);
+                    log.warn("Got 401 status code, reason: {}, requesting new token and retrying", statusCode.getReasonPhrase(), e);
+                    ModelServiceTokenProvider tokenProvider = configuration.getTokenProvider();
+                    if (tokenProvider != null) {
+                        tokenProvider.invalidate(accessToken);
+                    }
+                    return makeRequest(serviceUrl, type, headers, true, params);
                 } else {
                     log.warn("Got error response with a status code {} and body '{}' with message '{}' and response headers: {}", statusCode, e.getResponseBodyAsString(), e.getMessage(), e.getResponseHeaders() );
                     String message = "Wrong request to the model service: " + serviceUrl + ", reason: " + statusCode.getReasonPhrase() + " error code: " + statusCode.value();
@@ -88,6 +152,27 @@ public class ModelServiceClient {
         }
     }
 
+    private ExecutorService getAsyncExecutor() {
+        ExecutorService executor = this.asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.asyncExecutor;
+                if (executor == null) {
+                    int threads = asyncThreads > 0 ? asyncThreads :
+                            requestFactory != null ? requestFactory.getMaxConnectionsPerRoute() : Runtime.getRuntime().availableProcessors();
+                    AtomicInteger counter = new AtomicInteger();
+                    executor = Executors.newFixedThreadPool(threads, runnable -> {
+                        Thread thread = new Thread(runnable, "dxa-model-service-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    this.asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     /**
      * This method is subject to extend the behaviour of ModelService Client.
      * @param headers Http Headers to be extended in particular module
@@ -110,12 +195,16 @@ public class ModelServiceClient {
         }
     }
 
-    private void processAccessToken(HttpHeaders headers, boolean isRetry) {
-        OAuthTokenProvider authTokenProvider = configuration.getOAuthTokenProvider();
-        if (authTokenProvider != null) {
-            log.debug("Request is secured, adding security token, it is retry: {}", isRetry);
-            headers.add("Authorization", "Bearer" + authTokenProvider.getToken());
+    @Nullable
+    private String processAccessToken(HttpHeaders headers, boolean isRetry) {
+        ModelServiceTokenProvider tokenProvider = configuration.getTokenProvider();
+        if (tokenProvider == null) {
+            return null;
         }
+        log.debug("Request is secured, adding security token, it is retry: {}", isRetry);
+        String token = tokenProvider.getToken();
+        headers.add("Authorization", "Bearer" + token);
+        return token;
     }
 
     private Optional<String> getClaimValue(URI uri, String key, Function<Object, Optional<String>> deriveValue) {
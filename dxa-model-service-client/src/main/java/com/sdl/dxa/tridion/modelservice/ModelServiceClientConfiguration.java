@@ -35,6 +35,8 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
 
     private final String modelServiceKey;
 
+    private ModelServiceTokenProvider tokenProvider;
+
     private OAuthTokenProvider oAuthTokenProvider;
 
     private String serviceUrl;
@@ -48,7 +50,6 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
         this(pageModelUrl, entityModelUrl, navigationApiUrl, onDemandApiUrl, modelServiceKey, null);
     }
 
-    @Autowired
     public ModelServiceClientConfiguration(
             @Value("${dxa.model.service.url.page.model}") String pageModelUrl,
             @Value("${dxa.model.service.url.entity.model}") String entityModelUrl,
@@ -56,11 +57,23 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
             @Value("${dxa.model.service.url.api.navigation.subtree}") String onDemandApiUrl,
             @Value("${dxa.model.service.key:#{null}}") String modelServiceKey,
             @Value("${dxa.model.service.url:#{null}}") String modelServiceUrl) throws ConfigurationException {
+        this(pageModelUrl, entityModelUrl, navigationApiUrl, onDemandApiUrl, modelServiceKey, modelServiceUrl, 60000L);
+    }
+
+    @Autowired
+    public ModelServiceClientConfiguration(
+            @Value("${dxa.model.service.url.page.model}") String pageModelUrl,
+            @Value("${dxa.model.service.url.entity.model}") String entityModelUrl,
+            @Value("${dxa.model.service.url.api.navigation}") String navigationApiUrl,
+            @Value("${dxa.model.service.url.api.navigation.subtree}") String onDemandApiUrl,
+            @Value("${dxa.model.service.key:#{null}}") String modelServiceKey,
+            @Value("${dxa.model.service.url:#{null}}") String modelServiceUrl,
+            @Value("${dxa.model.service.token.refresh.before.expiry:60000}") long refreshTokenBeforeExpiry) throws ConfigurationException {
         if (isTokenConfigurationAvailable()) {
-            this.oAuthTokenProvider =  new OAuthTokenProvider(getOauthTokenProviderConfiguration());
+            this.tokenProvider = new ModelServiceTokenProvider(getOauthTokenProviderConfiguration(), refreshTokenBeforeExpiry);
 
             // try to get token to validate credentials
-            this.oAuthTokenProvider.getToken();
+            this.tokenProvider.getToken();
         }
 
         this.modelServiceKey = modelServiceKey;
@@ -112,7 +125,32 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
         return getServiceUrl() + onDemandApiUrl;
     }
 
-    public OAuthTokenProvider getOAuthTokenProvider() {
+    /**
+     * Returns the provider of OAuth tokens for requests to the Model Service.
+     *
+     * @return token provider, or {@code null} if requests are not secured
+     */
+    @Nullable
+    public ModelServiceTokenProvider getTokenProvider() {
+        return tokenProvider;
+    }
+
+    /**
+     * Returns a CIL token provider with the same configuration as {@link #getTokenProvider()}.
+     *
+     * @return token provider, or {@code null} if requests are not secured
+     * @deprecated since 2.2.12, use {@link #getTokenProvider()} which refreshes tokens before they expire
+     */
+    @Deprecated
+    @Nullable
+    public synchronized OAuthTokenProvider getOAuthTokenProvider() {
+        if (oAuthTokenProvider == null && tokenProvider != null) {
+            try {
+                oAuthTokenProvider = new OAuthTokenProvider(getOauthTokenProviderConfiguration());
+            } catch (ConfigurationException e) {
+                throw new IllegalStateException("Cannot load OAuth configuration", e);
+            }
+        }
         return oAuthTokenProvider;
     }
 
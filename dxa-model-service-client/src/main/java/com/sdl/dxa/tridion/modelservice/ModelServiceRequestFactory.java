@@ -0,0 +1,74 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * HTTP request factory for requests to the Model Service. Connections are kept alive and pooled,
+ * so that subsequent requests to the Model Service reuse them instead of opening a new connection for each request.
+ * The pool is closed when the application context is destroyed.
+ */
+@Component
+public class ModelServiceRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private static final Logger log = getLogger(ModelServiceRequestFactory.class);
+
+    private final int maxConnectionsPerRoute;
+
+    @Autowired
+    public ModelServiceRequestFactory(
+            @Value("${dxa.model.service.http.max.connections:100}") int maxConnections,
+            @Value("${dxa.model.service.http.max.connections.per.route:50}") int maxConnectionsPerRoute,
+            @Value("${dxa.model.service.http.timeout.connect:5000}") int connectTimeout,
+            @Value("${dxa.model.service.http.timeout.read:30000}") int readTimeout,
+            @Value("${dxa.model.service.http.timeout.pool:5000}") int connectionRequestTimeout,
+            @Value("${dxa.model.service.http.idle.timeout:60000}") long idleTimeout) {
+        super(createHttpClient(maxConnections, maxConnectionsPerRoute, idleTimeout));
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        setConnectTimeout(connectTimeout);
+        setReadTimeout(readTimeout);
+        setConnectionRequestTimeout(connectionRequestTimeout);
+        log.debug("Model Service connection pool: {} connections, {} per route, timeouts (ms): connect {}, read {}, pool {}",
+                maxConnections, maxConnectionsPerRoute, connectTimeout, readTimeout, connectionRequestTimeout);
+    }
+
+    private static HttpClient createHttpClient(int maxConnections, int maxConnectionsPerRoute, long idleTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        // connections which were idle for a while may have been closed on the server side
+        connectionManager.setValidateAfterInactivity(2000);
+
+        return HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? Math.min(keepAlive, idleTimeout) : idleTimeout;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS)
+                .disableCookieManagement()
+                .useSystemProperties()
+                .build();
+    }
+
+    /**
+     * Returns the maximum number of concurrent connections to the Model Service.
+     *
+     * @return maximum number of connections per route
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+}
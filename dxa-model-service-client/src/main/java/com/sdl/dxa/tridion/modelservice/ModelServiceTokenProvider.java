@@ -0,0 +1,134 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sdl.web.client.OAuthClient;
+import com.sdl.web.client.TokenProvider;
+import com.sdl.web.client.impl.DefaultOAuthClient;
+import com.sdl.web.oauth.common.OAuthToken;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * OAuth token provider for requests to the Model Service.
+ * <p>Unlike {@link com.sdl.web.client.impl.OAuthTokenProvider}, the token is refreshed a configurable time
+ * before it expires. While the token is refreshed, other callers keep using the current token, so that they neither
+ * wait for the token service nor get 401 responses for an expired token. Only one caller requests a new token
+ * at a time, also when the Model Service rejected a token.</p>
+ */
+public class ModelServiceTokenProvider implements TokenProvider {
+
+    private static final Logger log = getLogger(ModelServiceTokenProvider.class);
+
+    private final OAuthClient oAuthClient;
+
+    private final String clientId;
+
+    private final String clientSecret;
+
+    private final long refreshBeforeExpiry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile OAuthToken token;
+
+    /**
+     * Creates a token provider with the token service configuration of the CIL client.
+     *
+     * @param properties          OAuth configuration with {@code ClientId}, {@code ClientSecret} and the token service URL
+     * @param refreshBeforeExpiry time in milliseconds before the expiry of a token when it is refreshed
+     */
+    public ModelServiceTokenProvider(Properties properties, long refreshBeforeExpiry) {
+        this(new DefaultOAuthClient(properties),
+                Objects.requireNonNull(properties.getProperty("ClientId"), "Client id is required!"),
+                Objects.requireNonNull(properties.getProperty("ClientSecret"), "Client secret is required!"),
+                refreshBeforeExpiry);
+    }
+
+    ModelServiceTokenProvider(OAuthClient oAuthClient, String clientId, String clientSecret, long refreshBeforeExpiry) {
+        this.oAuthClient = oAuthClient;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.refreshBeforeExpiry = refreshBeforeExpiry;
+    }
+
+    @Override
+    public String getToken() {
+        OAuthToken current = this.token;
+        long now = System.currentTimeMillis();
+        if (current != null && now < current.getExpiresOn() - refreshBeforeExpiry) {
+            return current.getToken();
+        }
+
+        if (current != null && now < current.getExpiresOn()) {
+            // the token is still valid, so only one caller refreshes it and the others don't wait
+            if (!lock.tryLock()) {
+                return current.getToken();
+            }
+        } else {
+            lock.lock();
+        }
+        try {
+            return refresh(current).getToken();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the token if it is the current one, so that the next call to {@link #getToken()} requests a new token.
+     * Use this if the token was rejected by the service.
+     *
+     * @param rejectedToken token which was rejected
+     */
+    public void invalidate(@Nullable String rejectedToken) {
+        lock.lock();
+        try {
+            OAuthToken current = this.token;
+            if (current != null && Objects.equals(current.getToken(), rejectedToken)) {
+                log.debug("OAuth token was rejected, a new one will be requested");
+                this.token = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private OAuthToken refresh(@Nullable OAuthToken expected) {
+        OAuthToken current = this.token;
+        if (current != expected && current != null) {
+            // refreshed by another caller in the meantime
+            return current;
+        }
+
+        OAuthToken refreshed = null;
+        if (current != null && current.getRefreshToken() != null) {
+            try {
+                log.debug("OAuth token expires soon, obtaining new one using refresh token");
+                refreshed = oAuthClient.refreshToken(clientId, current);
+            } catch (RuntimeException e) {
+                log.info("Obtaining token using refresh token not successful: {}. Trying to obtain new one using client id/secret.", e.getMessage());
+            }
+        }
+
+        try {
+            if (refreshed == null) {
+                log.debug("Requesting new OAuth token");
+                refreshed = oAuthClient.getToken(clientId, clientSecret);
+            }
+        } catch (RuntimeException e) {
+            if (current != null && System.currentTimeMillis() < current.getExpiresOn()) {
+                log.warn("Cannot refresh OAuth token, using the current token until it expires", e);
+                return current;
+            }
+            throw e;
+        }
+
+        this.token = refreshed;
+        return refreshed;
+    }
+}
@@ -0,0 +1,116 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModelServiceClientTest {
+
+    @Mock
+    private ModelServiceClientConfiguration configuration;
+
+    @Mock
+    private ModelServiceTokenProvider tokenProvider;
+
+    private ModelServiceClient client;
+
+    private MockRestServiceServer server;
+
+    @Before
+    public void init() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.createServer(restTemplate);
+        client = new ModelServiceClient(configuration);
+        ReflectionTestUtils.setField(client, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(client, "asyncThreads", 2);
+        client.init();
+    }
+
+    @After
+    public void shutdown() {
+        client.shutdown();
+    }
+
+    @Test
+    public void shouldRequestModelAsynchronously() throws Exception {
+        //given
+        server.expect(requestTo("http://ms/PageModel/tcm/1/index"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        //when
+        CompletableFuture<String> result = client.getForTypeAsync("http://ms/PageModel/{uriType}/{localizationId}/{pageUrl}",
+                String.class, "tcm", 1, "index");
+
+        //then
+        assertEquals("{}", result.get(5, TimeUnit.SECONDS));
+        server.verify();
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyIfItemIsNotFound() throws Exception {
+        //given
+        server.expect(requestTo("http://ms/PageModel/tcm/1/missing"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        //when
+        CompletableFuture<String> result = client.getForTypeAsync("http://ms/PageModel/{uriType}/{localizationId}/{pageUrl}",
+                String.class, "tcm", 1, "missing");
+
+        //then
+        try {
+            result.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ItemNotFoundInModelServiceException);
+            return;
+        }
+        throw new AssertionError("Exception expected");
+    }
+
+    @Test
+    public void shouldRetryWithNewTokenIfTokenIsRejected() throws Exception {
+        //given
+        when(configuration.getTokenProvider()).thenReturn(tokenProvider);
+        when(tokenProvider.getToken()).thenReturn("expired", "renewed");
+        server.expect(requestTo("http://ms/EntityModel/tcm/1/2-3"))
+                .andExpect(header("Authorization", "Bearerexpired"))
+                .andRespond(withStatus(HttpStatus.UNAUTHORIZED));
+        server.expect(requestTo("http://ms/EntityModel/tcm/1/2-3"))
+                .andExpect(header("Authorization", "Bearerrenewed"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        //when
+        String result = client.getForType("http://ms/EntityModel/{uriType}/{localizationId}/{componentId}-{templateId}",
+                String.class, "tcm", 1, 2, 3);
+
+        //then
+        assertEquals("{}", result);
+        verify(tokenProvider).invalidate("expired");
+        server.verify();
+    }
+}
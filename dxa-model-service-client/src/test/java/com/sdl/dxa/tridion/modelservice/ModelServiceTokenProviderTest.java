@@ -0,0 +1,158 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sdl.web.client.ClientException;
+import com.sdl.web.client.OAuthClient;
+import com.sdl.web.oauth.common.OAuthToken;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModelServiceTokenProviderTest {
+
+    @Mock
+    private OAuthClient oAuthClient;
+
+    private ModelServiceTokenProvider tokenProvider;
+
+    private static OAuthToken token(String value, long expiresIn) {
+        OAuthToken token = mock(OAuthToken.class);
+        when(token.getToken()).thenReturn(value);
+        when(token.getRefreshToken()).thenReturn("refresh-" + value);
+        when(token.getExpiresOn()).thenReturn(System.currentTimeMillis() + expiresIn);
+        return token;
+    }
+
+    @Before
+    public void init() {
+        tokenProvider = new ModelServiceTokenProvider(oAuthClient, "client", "secret", 60000);
+    }
+
+    @Test
+    public void shouldRequestTokenOnlyOnce() {
+        //given
+        OAuthToken token = token("first", 3600000);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(token);
+
+        //when
+        tokenProvider.getToken();
+        String result = tokenProvider.getToken();
+
+        //then
+        assertEquals("first", result);
+        verify(oAuthClient, times(1)).getToken("client", "secret");
+    }
+
+    @Test
+    public void shouldRefreshTokenBeforeItExpires() {
+        //given
+        OAuthToken first = token("first", 30000);
+        OAuthToken second = token("second", 3600000);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(first);
+        when(oAuthClient.refreshToken("client", first)).thenReturn(second);
+        tokenProvider.getToken();
+
+        //when
+        String result = tokenProvider.getToken();
+
+        //then
+        assertEquals("second", result);
+        verify(oAuthClient).refreshToken("client", first);
+    }
+
+    @Test
+    public void shouldRequestNewTokenIfRefreshFails() {
+        //given
+        OAuthToken first = token("first", -1000);
+        OAuthToken second = token("second", 3600000);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(first, second);
+        when(oAuthClient.refreshToken("client", first)).thenThrow(new ClientException("expired"));
+        tokenProvider.getToken();
+
+        //when
+        String result = tokenProvider.getToken();
+
+        //then
+        assertEquals("second", result);
+    }
+
+    @Test
+    public void shouldKeepValidTokenIfRefreshFails() {
+        //given
+        OAuthToken first = token("first", 30000);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(first).thenThrow(new ClientException("unavailable"));
+        when(oAuthClient.refreshToken("client", first)).thenThrow(new ClientException("unavailable"));
+        tokenProvider.getToken();
+
+        //when
+        String result = tokenProvider.getToken();
+
+        //then
+        assertEquals("first", result);
+    }
+
+    @Test
+    public void shouldNotWaitForRefreshWhileTokenIsValid() throws Exception {
+        //given
+        OAuthToken first = token("first", 30000);
+        OAuthToken second = token("second", 3600000);
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(first);
+        when(oAuthClient.refreshToken("client", first)).then(invocation -> {
+            refreshing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return second;
+        });
+        tokenProvider.getToken();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        Future<String> refreshed = executor.submit(() -> tokenProvider.getToken());
+        refreshing.await(5, TimeUnit.SECONDS);
+        String concurrent = tokenProvider.getToken();
+        release.countDown();
+
+        //then
+        assertEquals("first", concurrent);
+        assertEquals("second", refreshed.get(5, TimeUnit.SECONDS));
+        verify(oAuthClient, times(1)).refreshToken("client", first);
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldRequestNewTokenOnlyOnceIfRejected() {
+        //given
+        OAuthToken first = token("first", 3600000);
+        OAuthToken second = token("second", 3600000);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(first, second);
+        tokenProvider.getToken();
+
+        //when
+        tokenProvider.invalidate("first");
+        String result = tokenProvider.getToken();
+        tokenProvider.invalidate("first");
+
+        //then
+        assertEquals("second", result);
+        assertEquals("second", tokenProvider.getToken());
+        verify(oAuthClient, times(2)).getToken("client", "secret");
+        verify(oAuthClient, never()).refreshToken(any(), any());
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.controller;
+
+import com.sdl.dxa.caching.statistics.CacheStatistics;
+import com.sdl.dxa.caching.statistics.CacheStatisticsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Admin controller that provides statistics of the DXA caches as JSON.
+ * Statistics are collected if {@code dxa.caching.statistics.enabled} is set.
+ */
+@Controller
+public class CacheStatisticsController {
+
+    @Autowired(required = false)
+    private CacheStatisticsRegistry statisticsRegistry;
+
+    /**
+     * Returns the statistics of all DXA caches.
+     *
+     * @return statistics ordered by cache name, empty if statistics are disabled
+     */
+    @ResponseBody
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/cache/statistics", "/*/admin/cache/statistics"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Collection<CacheStatistics> handleStatistics() {
+        return statisticsRegistry == null ? Collections.emptyList() : statisticsRegistry.getStatistics();
+    }
+
+    /**
+     * Returns the statistics of a DXA cache.
+     *
+     * @param cacheName name of the cache
+     * @return statistics of the cache, or 404 if the cache is not monitored
+     */
+    @ResponseBody
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/cache/statistics/{cacheName}", "/*/admin/cache/statistics/{cacheName}"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CacheStatistics> handleStatistics(@PathVariable("cacheName") String cacheName) {
+        CacheStatistics statistics = statisticsRegistry == null ? null : statisticsRegistry.getStatistics(cacheName);
+        return statistics == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(statistics);
+    }
+}
@@ -3,6 +3,7 @@ package org.example.service;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import com.sdl.webapp.tridion.navigation.NavigationIndexCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -20,8 +21,11 @@ public class AdminService {
     @Autowired
     private LocalizationResolver localizationResolver;
 
+    @Autowired(required = false)
+    private NavigationIndexCache navigationIndexCache;
+
     /**
-     * Refreshes the localization and returns the index path.
+     * Refreshes the localization and its dynamic navigation index and returns the index path.
      *
      * @return the index path of the localization
      */
@@ -31,6 +35,9 @@ public class AdminService {
         log.trace("handleRefresh: localization {}", localization);
 
         localizationResolver.refreshLocalization(localization);
+        if (navigationIndexCache != null) {
+            navigationIndexCache.remove(localization);
+        }
         return localization.getPath();
     }
 }
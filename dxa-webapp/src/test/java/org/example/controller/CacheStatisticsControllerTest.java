@@ -0,0 +1,64 @@
+package org.example.controller;
+
+import com.sdl.dxa.caching.statistics.CacheStatistics;
+import com.sdl.dxa.caching.statistics.CacheStatisticsRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CacheStatisticsControllerTest {
+
+    @Mock
+    private CacheStatisticsRegistry statisticsRegistry;
+
+    @InjectMocks
+    private CacheStatisticsController controller;
+
+    @Test
+    public void shouldReturnStatisticsOfAllCaches() {
+        //given
+        CacheStatistics statistics = mock(CacheStatistics.class);
+        when(statisticsRegistry.getStatistics()).thenReturn(Collections.singletonList(statistics));
+
+        //when
+        Collection<CacheStatistics> result = controller.handleStatistics();
+
+        //then
+        assertEquals(Collections.singletonList(statistics), result);
+    }
+
+    @Test
+    public void shouldReturnStatisticsOfCache() {
+        //given
+        CacheStatistics statistics = mock(CacheStatistics.class);
+        when(statisticsRegistry.getStatistics("pageModels")).thenReturn(statistics);
+
+        //when
+        ResponseEntity<CacheStatistics> result = controller.handleStatistics("pageModels");
+
+        //then
+        assertSame(statistics, result.getBody());
+    }
+
+    @Test
+    public void shouldReturnNotFoundForUnknownCache() {
+        //when
+        ResponseEntity<CacheStatistics> result = controller.handleStatistics("unknown");
+
+        //then
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+    }
+}
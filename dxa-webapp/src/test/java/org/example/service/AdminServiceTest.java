@@ -3,6 +3,7 @@ package org.example.service;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import com.sdl.webapp.tridion.navigation.NavigationIndexCache;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -24,6 +25,9 @@ public class AdminServiceTest {
     @Mock
     private LocalizationResolver localizationResolver;
 
+    @Mock
+    private NavigationIndexCache navigationIndexCache;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -41,6 +45,7 @@ public class AdminServiceTest {
         //then
         verify(webRequestContext).getLocalization();
         verify(localizationResolver).refreshLocalization(same(localization));
+        verify(navigationIndexCache).remove(same(localization));
         assertEquals("Should return expected path", expected, result);
     }
 